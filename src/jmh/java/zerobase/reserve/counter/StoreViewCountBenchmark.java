@@ -0,0 +1,130 @@
+package zerobase.reserve.counter;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매장 상세 조회 1회당 조회 수 기록 비용 비교 (8 스레드, 조회가 몰리는 매장 HOT_STORES 개)
+ * perRequestUpdate - 조회마다 view_count = view_count + 1 UPDATE 를 자동 커밋으로 실행
+ * bufferedIncrement - StoreViewCounter 에 더하고, viewsPerFlush 번째 조회마다 그 조회를 처리한 스레드가 직접 배치로 반영
+ *   (반영 비용이 조회 수만큼 나뉘어 포함된 조회 1회당 비용, viewsPerFlush 는 반영 주기 동안 들어오는 조회 수에 해당한다.)
+ * flush - 조회가 몰리는 매장 HOT_STORES 개에 모인 조회 수를 한 번의 배치로 반영하는 비용 (단일 스레드)
+ * 운영 DB 대신 H2(MySQL 호환 모드) 인메모리 DB 에 같은 마이그레이션 스크립트를 적용하므로 절대 시간보다는 두 방식의 차이를 본다.
+ * (운영 DB 에서는 UPDATE 마다 커밋 로그 기록과 행 잠금 대기가 더해지므로 차이가 더 커진다.)
+ *
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StoreViewCountBenchmark {
+
+    private static final String URL = "jdbc:h2:mem:view-count;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final int STORE_COUNT = 1000;
+    private static final int HOT_STORES = 20;
+
+    @Param({"1000", "10000"})
+    private long viewsPerFlush;
+
+    private StoreViewCounter counter;
+
+    @Setup
+    public void setUp() throws SQLException {
+        Flyway.configure().dataSource(URL, "sa", "").load().migrate();
+
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()){
+            statement.execute("insert into member (member_id, email, name) values (1, 'owner@naver.com', 'kim')");
+            statement.execute("insert into store (store_id, store_name, member_id)" +
+                    " select x, concat('store', x), 1 from system_range(1, " + STORE_COUNT + ")");
+            statement.execute("insert into store_view_count (store_id) select store_id from store");
+        }
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        counter = new StoreViewCounter(new JdbcTemplate(dataSource),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)), true);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        counter.flush();
+
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()){
+            statement.execute("drop all objects");
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PerThreadConnection {
+
+        private Connection connection;
+        private PreparedStatement addViewCount;
+
+        @Setup
+        public void setUp() throws SQLException {
+            connection = DriverManager.getConnection(URL, "sa", "");
+            addViewCount = connection.prepareStatement("update store_view_count set view_count = view_count + 1 where store_id = ?");
+        }
+
+        @TearDown
+        public void tearDown() throws SQLException {
+            connection.close();
+        }
+    }
+
+    /**
+     * 스레드마다 센 조회 수 - 공유 카운터를 두면 그 경합까지 측정되므로 스레드마다 세며, 스레드 수와 관계없이 viewsPerFlush 조회마다 한 번 반영된다.
+     */
+    @State(Scope.Thread)
+    public static class ThreadViews {
+
+        private long views;
+    }
+
+    @Benchmark
+    public int perRequestUpdate(PerThreadConnection state) throws SQLException {
+        state.addViewCount.setLong(1, hotStoreId());
+
+        return state.addViewCount.executeUpdate();
+    }
+
+    @Benchmark
+    public void bufferedIncrement(ThreadViews state) {
+        counter.increment(hotStoreId());
+
+        if (++state.views % viewsPerFlush == 0){
+            counter.flush();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int flush() {
+        for (long storeId = 1; storeId <= HOT_STORES; storeId++){
+            counter.increment(storeId);
+        }
+
+        return counter.flush();
+    }
+
+    private static long hotStoreId(){
+        return ThreadLocalRandom.current().nextInt(HOT_STORES) + 1;
+    }
+}
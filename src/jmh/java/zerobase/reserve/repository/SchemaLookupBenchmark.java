@@ -0,0 +1,156 @@
+package zerobase.reserve.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationVersion;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 회원 100만, 예약 1000만 건 기준 단건 조회 / 목록 첫 페이지 조회 시간 비교
+ * schemaVersion=1 - 인덱스가 없던 최초 스키마 (V1__init_schema.sql 까지만 적용)
+ * schemaVersion=latest - 현재 스키마 (db/migration 의 모든 마이그레이션 적용)
+ * 운영 DB 대신 H2(MySQL 호환 모드) 파일 DB 에 같은 마이그레이션 스크립트를 적용하므로 절대 시간보다는 두 스키마의 차이를 본다.
+ * 데이터 생성에 수 분이 걸리므로 건수를 줄여 보려면 -p memberCount=100000 -p reserveCount=1000000 처럼 실행한다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class SchemaLookupBenchmark {
+
+    private static final int STORE_COUNT = 10_000;
+    private static final int PAGE_SIZE = 20;
+    private static final String LATEST = "latest";
+
+    @Param({"1", LATEST})
+    private String schemaVersion;
+
+    @Param("1000000")
+    private int memberCount;
+
+    @Param("10000000")
+    private int reserveCount;
+
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement memberByEmail;
+    private PreparedStatement storeByName;
+    private PreparedStatement memberRoles;
+    private PreparedStatement reservesByMember;
+    private PreparedStatement reservesByStore;
+
+    @Setup
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("schema-lookup");
+        String url = "jdbc:h2:file:" + directory.resolve("reserve") + ";MODE=MySQL";
+
+        Flyway.configure()
+                .dataSource(url, "sa", "")
+                .target(LATEST.equals(schemaVersion) ? MigrationVersion.LATEST : MigrationVersion.fromVersion(schemaVersion))
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(url, "sa", "");
+
+        try (Statement statement = connection.createStatement()){
+            statement.execute("insert into member (member_id, email, name, password, gender, phone_number)" +
+                    " select x, concat('user', x, '@naver.com'), 'kim', 'password', 'MALE', '010-0101-0101'" +
+                    " from system_range(1, " + memberCount + ")");
+            statement.execute("insert into member_roles (member_member_id, roles)" +
+                    " select x, 'ROLE_USER' from system_range(1, " + memberCount + ")");
+            statement.execute("insert into store (store_id, store_name, description, member_id)" +
+                    " select x, concat('store', x), '맛있는 밥집', mod(x, " + memberCount + ") + 1" +
+                    " from system_range(1, " + STORE_COUNT + ")");
+            statement.execute("insert into reserve (reserve_id, reserve_status, reserve_time, member_id, store_id)" +
+                    " select x, 'VALID', dateadd('MINUTE', x, timestamp '2023-01-01 00:00:00')," +
+                    " mod(x, " + memberCount + ") + 1, mod(x, " + STORE_COUNT + ") + 1" +
+                    " from system_range(1, " + reserveCount + ")");
+            statement.execute("analyze");
+        }
+
+        memberByEmail = connection.prepareStatement(
+                "select member_id, email, name from member where email = ?");
+        storeByName = connection.prepareStatement(
+                "select store_id, store_name from store where store_name = ?");
+        memberRoles = connection.prepareStatement(
+                "select roles from member_roles where member_member_id = ?");
+        reservesByMember = connection.prepareStatement(
+                "select reserve_id, reserve_time from reserve where member_id = ?" +
+                        " order by reserve_time desc, reserve_id desc limit " + PAGE_SIZE);
+        reservesByStore = connection.prepareStatement(
+                "select reserve_id, reserve_time from reserve where store_id = ?" +
+                        " order by reserve_time desc, reserve_id desc limit " + PAGE_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException, IOException {
+        connection.close();
+
+        try (Stream<Path> files = Files.walk(directory)){
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int findMemberByEmail() throws SQLException {
+        memberByEmail.setString(1, "user" + randomId(memberCount) + "@naver.com");
+
+        return count(memberByEmail);
+    }
+
+    @Benchmark
+    public int findStoreByName() throws SQLException {
+        storeByName.setString(1, "store" + randomId(STORE_COUNT));
+
+        return count(storeByName);
+    }
+
+    @Benchmark
+    public int findMemberRoles() throws SQLException {
+        memberRoles.setLong(1, randomId(memberCount));
+
+        return count(memberRoles);
+    }
+
+    @Benchmark
+    public int findReservePageByMember() throws SQLException {
+        reservesByMember.setLong(1, randomId(memberCount));
+
+        return count(reservesByMember);
+    }
+
+    @Benchmark
+    public int findReservePageByStore() throws SQLException {
+        reservesByStore.setLong(1, randomId(STORE_COUNT));
+
+        return count(reservesByStore);
+    }
+
+    private static long randomId(int bound){
+        return ThreadLocalRandom.current().nextInt(bound) + 1;
+    }
+
+    private static int count(PreparedStatement statement) throws SQLException {
+        int rows = 0;
+
+        try (ResultSet resultSet = statement.executeQuery()){
+            while (resultSet.next()){
+                rows++;
+            }
+        }
+
+        return rows;
+    }
+}
@@ -0,0 +1,57 @@
+package zerobase.reserve.search;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매장 10만 개 기준 자동완성 조회 시간 측정 (목표: 1ms 미만)
+ *
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StoreSuggestBenchmark {
+
+    private static final int STORE_COUNT = 100_000;
+
+    private StoreSuggestIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new StoreSuggestIndex(null, null);
+        Random random = new Random(42);
+
+        for (long id = 1; id <= STORE_COUNT; id++){
+            StringBuilder name = new StringBuilder();
+            int length = 2 + random.nextInt(5);
+
+            for (int i = 0; i < length; i++){
+                name.append((char) ('가' + random.nextInt(11172)));
+            }
+
+            index.add(id, name.toString(), random.nextInt(1000));
+        }
+    }
+
+    @Benchmark
+    public List<StoreSuggestion> chosungPrefix() {
+        return index.suggest("ㅅ", StoreSuggestIndex.TOP_K);
+    }
+
+    @Benchmark
+    public List<StoreSuggestion> chosungLongPrefix() {
+        return index.suggest("ㅅㄱㄴ", StoreSuggestIndex.TOP_K);
+    }
+
+    @Benchmark
+    public List<StoreSuggestion> syllablePrefix() {
+        return index.suggest("서", StoreSuggestIndex.TOP_K);
+    }
+}
@@ -0,0 +1,92 @@
+package zerobase.reserve.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import zerobase.reserve.domain.Member;
+import zerobase.reserve.service.MemberService;
+
+import javax.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로 종류별 JWT 필터 비용 비교 (회원 정보는 캐시 적중 상태)
+ * publicRead - 공개 조회 API, 토큰이 있어도 필터를 건너뛴다.
+ * publicReadLegacy - 공개 조회 API 를 기존처럼 필터링하는 경우
+ * protectedRead - 인증이 필요한 API
+ *
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtFilterRouteBenchmark {
+
+    private static final String SECRET = "emVyb2Jhc2Utc3ByaW5nLWJvb3QtYXNzaWdubWVudC1kYXRhLXdpdGgtand0LXNlY3JldC1rZXk=";
+
+    private JwtAuthenticationFilter filter;
+    private JwtAuthenticationFilter legacyFilter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        PrincipalCache principalCache = new PrincipalCache(new SimpleMeterRegistry(), 1000, Duration.ofMinutes(5));
+        TokenProvider tokenProvider = new TokenProvider(new MemberService(null, null, null, null), principalCache,
+                new TokenRevocationRegistry(1000, null, Duration.ofHours(1), Duration.ofMinutes(10)),
+                SECRET, AuthenticationMode.DATABASE, Duration.ofHours(1), Duration.ofMinutes(10));
+
+        List<String> roles = List.of("ROLE_USER");
+        String token = tokenProvider.generateToken(Member.builder()
+                .id(1L)
+                .email("sehun5515@naver.com")
+                .roles(roles)
+                .build());
+        TokenClaims claims = tokenProvider.parseToken(token).orElseThrow();
+        principalCache.get(claims.getSubject(), claims.getIssuedAt(),
+                subject -> MemberPrincipal.of(1L, subject, "kim", roles));
+
+        authorization = JwtAuthenticationFilter.TOKEN_PREFIX + token;
+        filter = new JwtAuthenticationFilter(tokenProvider);
+        legacyFilter = new JwtAuthenticationFilter(tokenProvider) {
+            @Override
+            protected boolean shouldNotFilter(HttpServletRequest request) {
+                return false;
+            }
+        };
+    }
+
+    @Benchmark
+    public Object publicRead() throws Exception {
+        return run(filter, "/stores/1");
+    }
+
+    @Benchmark
+    public Object publicReadLegacy() throws Exception {
+        return run(legacyFilter, "/stores/1");
+    }
+
+    @Benchmark
+    public Object protectedRead() throws Exception {
+        return run(filter, "/reserves/user");
+    }
+
+    private Object run(JwtAuthenticationFilter target, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.addHeader(JwtAuthenticationFilter.TOKEN_HEADER, authorization);
+
+        try {
+            target.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
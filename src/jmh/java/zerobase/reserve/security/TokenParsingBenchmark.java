@@ -0,0 +1,64 @@
+package zerobase.reserve.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import zerobase.reserve.domain.Member;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 토큰 처리 비용 비교
+ * legacyDoubleParse - 기존 방식: validateToken 과 getUserName 에서 매번 키를 디코딩하고 파서를 만들어 두 번 서명 검증
+ * singleParse - 현재 방식: 미리 디코딩한 키와 미리 만든 파서로 한 번만 서명 검증
+ *
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenParsingBenchmark {
+
+    private static final String SECRET = "emVyb2Jhc2Utc3ByaW5nLWJvb3QtYXNzaWdubWVudC1kYXRhLXdpdGgtand0LXNlY3JldC1rZXk=";
+
+    private TokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new TokenProvider(null, null, new TokenRevocationRegistry(1000, null, Duration.ofHours(1), Duration.ofMinutes(10)),
+                SECRET, AuthenticationMode.DATABASE, Duration.ofHours(1), Duration.ofMinutes(10));
+        token = tokenProvider.generateToken(Member.builder()
+                .id(1L)
+                .email("sehun5515@naver.com")
+                .roles(List.of("ROLE_PARTNER", "ROLE_USER"))
+                .build());
+    }
+
+    @Benchmark
+    public String legacyDoubleParse() {
+        Claims validated = Jwts.parser().setSigningKey(Base64.getDecoder().decode(SECRET))
+                .parseClaimsJws(token).getBody();
+
+        if (validated.getExpiration().before(new Date())) {
+            return null;
+        }
+
+        return Jwts.parser().setSigningKey(Base64.getDecoder().decode(SECRET))
+                .parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public String singleParse() {
+        return tokenProvider.parseToken(token)
+                .map(TokenClaims::getSubject)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,72 @@
+package zerobase.reserve.booking;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 한 매장의 하루치 좌석 현황
+ * 슬롯마다 long 하나를 두고 i 번째 비트로 i 번 좌석의 사용 여부를 나타낸다. (매장 최대 수용 인원이 64 인 이유)
+ * 좌석 확보와 반납은 해당 슬롯의 값에 대한 CAS 로만 수행되므로 다른 슬롯, 다른 매장의 예약과 서로 기다리지 않는다.
+ */
+class DayOccupancy {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final int slotMinutes;
+    private final AtomicLongArray seats;
+
+    DayOccupancy(int slotMinutes) {
+        this.slotMinutes = slotMinutes;
+        this.seats = new AtomicLongArray((MINUTES_PER_DAY + slotMinutes - 1) / slotMinutes);
+    }
+
+    int slotMinutes(){
+        return slotMinutes;
+    }
+
+    int slotCount(){
+        return seats.length();
+    }
+
+    /**
+     * 비어있는 가장 작은 번호의 좌석 확보
+     * @return 확보한 좌석 번호, 모두 찬 경우 -1
+     */
+    int tryAcquire(int slot, int capacity){
+        long mask = capacity >= Long.SIZE ? -1L : (1L << capacity) - 1;
+
+        while (true){
+            long current = seats.get(slot);
+            long free = ~current & mask;
+
+            if (free == 0) return -1;
+
+            long seat = Long.lowestOneBit(free);
+
+            if (seats.compareAndSet(slot, current, current | seat)){
+                return Long.numberOfTrailingZeros(seat);
+            }
+        }
+    }
+
+    void occupy(int slot, int seatNo){
+        long seat = 1L << seatNo;
+        long current;
+
+        do {
+            current = seats.get(slot);
+        } while (!seats.compareAndSet(slot, current, current | seat));
+    }
+
+    void release(int slot, int seatNo){
+        long seat = 1L << seatNo;
+        long current;
+
+        do {
+            current = seats.get(slot);
+        } while (!seats.compareAndSet(slot, current, current & ~seat));
+    }
+
+    int occupied(int slot){
+        return Long.bitCount(seats.get(slot));
+    }
+}
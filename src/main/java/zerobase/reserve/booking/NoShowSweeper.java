@@ -0,0 +1,207 @@
+package zerobase.reserve.booking;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.reserve.domain.Reserve;
+import zerobase.reserve.repository.ReserveRepository;
+import zerobase.reserve.transaction.AfterCommit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 방문 확인 마감(예약 시각 - Reserve.ARRIVE_BEFORE_MINUTES)이 지난 유효한 예약을 노쇼로 취소하는 스케줄러
+ * - 마감이 다가오는 예약은 계층형 타이밍 휠에 넣어두고 1초마다 휠을 진행하여 만료된 예약만 처리한다.
+ *   휠에는 예약 생성 시(커밋 이후)와 주기적인 재적재 시 앞으로 lookahead 안에 마감되는 예약만 넣어 메모리를 제한한다.
+ * - 재적재 주기마다 마감이 이미 지났는데 남아있는 예약(서버 중지 중 마감된 예약 등)도 함께 정리한다.
+ * 취소는 batch-size 개씩 (좌석 조회 1번 + 조건부 벌크 UPDATE 1번)의 짧은 트랜잭션으로 처리하고, 커밋 후 예약 엔진에 좌석을 반납한다.
+ * 메트릭 - reserve.sweeper.lag(마감 이후 취소까지 걸린 시간), reserve.sweeper.batch.size(한 번에 취소한 예약 수),
+ *         reserve.sweeper.scheduled(휠에 들어있는 예약 수)
+ */
+@Slf4j
+@Component
+public class NoShowSweeper {
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 60;
+
+    private final ReserveRepository reserveRepository;
+    private final SlotBookingEngine slotBookingEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration lookahead;
+    private final TimingWheel<Long> wheel;
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+    private final Timer lagTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    public NoShowSweeper(
+            ReserveRepository reserveRepository,
+            SlotBookingEngine slotBookingEngine,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${reserve.sweeper.enabled:true}") boolean enabled,
+            @Value("${reserve.sweeper.batch-size:500}") int batchSize,
+            @Value("${reserve.sweeper.lookahead:2h}") Duration lookahead
+    ) {
+        this.reserveRepository = reserveRepository;
+        this.slotBookingEngine = slotBookingEngine;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lookahead = lookahead;
+        this.wheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+
+        this.lagTimer = Timer.builder("reserve.sweeper.lag").register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("reserve.sweeper.batch.size").register(meterRegistry);
+        meterRegistry.gaugeCollectionSize("reserve.sweeper.scheduled", Collections.emptyList(), scheduled);
+    }
+
+    /**
+     * 예약의 방문 확인 마감 등록 - 트랜잭션 안에서 호출되면 커밋 이후에 등록한다.
+     * 마감이 lookahead 이후인 예약은 재적재 때 등록된다.
+     * @param reserveId 예약 id
+     * @param reserveTime 예약 시각
+     */
+    public void scheduleAfterCommit(Long reserveId, LocalDateTime reserveTime){
+        AfterCommit.run(() -> schedule(reserveId, reserveTime, LocalDateTime.now()));
+    }
+
+    @Scheduled(fixedDelay = TICK_MILLIS)
+    public void tick(){
+        if (enabled){
+            sweepExpired(LocalDateTime.now());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${reserve.sweeper.reload-interval:PT1H}", initialDelay = 0)
+    public void reload(){
+        if (enabled){
+            reload(LocalDateTime.now());
+        }
+    }
+
+    /**
+     * 휠을 now 까지 진행하여 마감이 지난 예약 취소
+     * @param now 현재 시각
+     * @return 취소된 예약 수
+     */
+    public int sweepExpired(LocalDateTime now){
+        List<Long> expired = new ArrayList<>();
+
+        synchronized (wheel){
+            wheel.advance(toMillis(now), expired::add);
+        }
+
+        if (expired.isEmpty()) return 0;
+
+        scheduled.removeAll(expired);
+        int canceled = 0;
+
+        for (int from = 0; from < expired.size(); from += batchSize){
+            List<Long> chunk = expired.subList(from, Math.min(from + batchSize, expired.size()));
+
+            canceled += transactionTemplate.execute(status -> cancel(
+                    reserveRepository.findValidReserveSeats(chunk, cutoff(now)), now));
+        }
+
+        return canceled;
+    }
+
+    /**
+     * 마감이 이미 지난 예약을 모두 취소하고, lookahead 안에 마감되는 예약을 휠에 등록
+     * @param now 현재 시각
+     * @return 취소된 예약 수
+     */
+    public int reload(LocalDateTime now){
+        AtomicInteger canceled = new AtomicInteger();
+        int fetched;
+
+        // 조회와 취소 사이에 방문 확인된 예약은 취소되지 않으므로 취소 수가 아닌 조회 수로 남은 예약이 있는지 판단한다.
+        do {
+            fetched = transactionTemplate.execute(status -> {
+                List<ReserveSeat> targets = reserveRepository.findValidReserveSeatsBefore(cutoff(now), batchSize);
+                canceled.addAndGet(cancel(targets, now));
+
+                return targets.size();
+            });
+        } while (fetched == batchSize);
+
+        ReserveDeadline last = null;
+        List<ReserveDeadline> chunk;
+
+        do {
+            chunk = reserveRepository.findValidDeadlines(cutoff(now), cutoff(now.plus(lookahead)), last, batchSize);
+
+            for (ReserveDeadline deadline : chunk){
+                schedule(deadline.getReserveId(), deadline.getReserveTime(), now);
+                last = deadline;
+            }
+        } while (chunk.size() == batchSize);
+
+        if (canceled.get() > 0){
+            log.info("no-show reserves canceled on reload : count = {}", canceled);
+        }
+
+        return canceled.get();
+    }
+
+    /**
+     * 휠에 등록된 예약 수
+     */
+    public int scheduledCount(){
+        return scheduled.size();
+    }
+
+    private void schedule(Long reserveId, LocalDateTime reserveTime, LocalDateTime now){
+        LocalDateTime deadline = Reserve.arriveDeadline(reserveTime);
+
+        if (deadline.isAfter(now.plus(lookahead)) || !scheduled.add(reserveId)) return;
+
+        synchronized (wheel){
+            wheel.add(toMillis(deadline), reserveId);
+        }
+    }
+
+    // 아직 유효한 예약만 조건부로 취소하고 커밋 후 좌석 반납, 그 사이 상태가 바뀐 예약이 있으면 해당 날짜의 좌석 현황을 다시 만든다.
+    private int cancel(List<ReserveSeat> targets, LocalDateTime now){
+        if (targets.isEmpty()) return 0;
+
+        int canceled = reserveRepository.cancelValidReserves(
+                targets.stream().map(ReserveSeat::getReserveId).collect(Collectors.toList()), now);
+
+        for (ReserveSeat target : targets){
+            lagTimer.record(Duration.between(Reserve.arriveDeadline(target.getReserveTime()), now));
+
+            if (canceled == targets.size()){
+                slotBookingEngine.releaseAfterCommit(target.getStoreId(), target.getSlotTime(), target.getSeatNo());
+            } else if (target.getSlotTime() != null){
+                slotBookingEngine.evictAfterCommit(target.getStoreId(), target.getSlotTime().toLocalDate());
+            }
+        }
+
+        batchSizeSummary.record(canceled);
+
+        return canceled;
+    }
+
+    private static LocalDateTime cutoff(LocalDateTime now){
+        return now.plusMinutes(Reserve.ARRIVE_BEFORE_MINUTES);
+    }
+
+    private static long toMillis(LocalDateTime time){
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
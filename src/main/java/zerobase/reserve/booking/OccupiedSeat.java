@@ -0,0 +1,18 @@
+package zerobase.reserve.booking;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좌석을 잡고 있는 예약의 (슬롯, 좌석) - 하루치 좌석 현황을 다시 만들 때 필요한 컬럼만 조회한다.
+ * 좌석 번호 없이 남은 V3 이전 예약은 seatNo 가 null 이다.
+ */
+@Getter
+@AllArgsConstructor
+public class OccupiedSeat {
+
+    private LocalDateTime slotTime;
+    private Integer seatNo;
+}
@@ -0,0 +1,17 @@
+package zerobase.reserve.booking;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노쇼 처리 대상이 될 예약의 id 와 예약 시각
+ */
+@Getter
+@AllArgsConstructor
+public class ReserveDeadline {
+
+    private Long reserveId;
+    private LocalDateTime reserveTime;
+}
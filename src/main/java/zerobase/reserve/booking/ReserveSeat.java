@@ -0,0 +1,20 @@
+package zerobase.reserve.booking;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상태를 바꿀 예약과 그 예약이 잡고 있는 좌석 - 벌크 UPDATE 후 좌석을 반납할 때 필요한 컬럼만 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReserveSeat {
+
+    private Long reserveId;
+    private Long storeId;
+    private LocalDateTime reserveTime;
+    private LocalDateTime slotTime;
+    private Integer seatNo;
+}
@@ -0,0 +1,31 @@
+package zerobase.reserve.booking;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 저장 전에 메모리에서 확보한 좌석
+ * 트랜잭션이 롤백되면 SlotBookingEngine 이 좌석을 반납한다.
+ */
+public class SeatHold {
+
+    @Getter
+    private final Long storeId;
+    @Getter
+    private final LocalDateTime slotTime;
+    @Getter
+    private final int seatNo;
+
+    final DayOccupancy occupancy;
+    final int slot;
+    volatile boolean conflicted;
+
+    SeatHold(Long storeId, LocalDateTime slotTime, int seatNo, DayOccupancy occupancy, int slot) {
+        this.storeId = storeId;
+        this.slotTime = slotTime;
+        this.seatNo = seatNo;
+        this.occupancy = occupancy;
+        this.slot = slot;
+    }
+}
@@ -0,0 +1,232 @@
+package zerobase.reserve.booking;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import zerobase.reserve.domain.Store;
+import zerobase.reserve.exception.ErrorCode;
+import zerobase.reserve.exception.InvalidReserveException;
+import zerobase.reserve.repository.ReserveRepository;
+import zerobase.reserve.transaction.AfterCommit;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 매장, 시간 슬롯별 예약 수용 여부를 메모리에서 결정하는 예약 엔진
+ * 매장의 하루치 좌석 현황(DayOccupancy)을 캐시에 두고 슬롯 단위 CAS 로 좌석을 확보하므로 DB 잠금 없이
+ * 같은 슬롯에 몰린 요청 중 정확히 매장 수용 인원만큼만 통과시킨다.
+ * 하루치 현황은 처음 사용될 때 reserve 테이블에서 좌석을 잡고 있는 예약을 읽어 만든다.
+ * 좌석 번호 없이 남은 V3 이전 예약은 같은 슬롯의 빈 좌석을 하나씩 차지해 수용 인원에 포함된다.
+ * 캐시에서 밀려난 직후처럼 메모리 상태가 어긋나는 경우는 reserve 테이블의 (매장, 슬롯, 좌석) 유일 제약이 최종적으로 막는다.
+ * 메트릭 - reserve.booking{result=admitted|full|conflict}, cache.*{cache=booking-days}
+ */
+@Slf4j
+@Component
+public class SlotBookingEngine {
+
+    private final ReserveRepository reserveRepository;
+    private final Cache<DayKey, DayOccupancy> days;
+    private final Counter admittedCounter;
+    private final Counter fullCounter;
+    private final Counter conflictCounter;
+    private final long horizonDays;
+
+    public SlotBookingEngine(
+            ReserveRepository reserveRepository,
+            MeterRegistry meterRegistry,
+            @Value("${reserve.booking.maximum-days:100000}") long maximumDays,
+            @Value("${reserve.booking.expire-after-access:1h}") Duration expireAfterAccess,
+            @Value("${reserve.booking.horizon-days:60}") long horizonDays
+    ) {
+        this.reserveRepository = reserveRepository;
+        this.horizonDays = horizonDays;
+        this.days = Caffeine.newBuilder()
+                .maximumSize(maximumDays)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, days, "booking-days");
+        this.admittedCounter = Counter.builder("reserve.booking").tag("result", "admitted").register(meterRegistry);
+        this.fullCounter = Counter.builder("reserve.booking").tag("result", "full").register(meterRegistry);
+        this.conflictCounter = Counter.builder("reserve.booking").tag("result", "conflict").register(meterRegistry);
+    }
+
+    /**
+     * 예약 시각이 속한 슬롯의 시작 시각
+     * @param time 예약 시각
+     * @param slotMinutes 매장의 슬롯 길이(분)
+     * @return 슬롯 시작 시각
+     */
+    public static LocalDateTime slotOf(LocalDateTime time, int slotMinutes){
+        int minuteOfDay = time.getHour() * 60 + time.getMinute();
+
+        return time.toLocalDate().atStartOfDay().plusMinutes(minuteOfDay - minuteOfDay % slotMinutes);
+    }
+
+    /**
+     * 좌석 현황을 조회할 수 있는 날짜인지 확인 - 오늘부터 horizon-days 일 뒤까지
+     * 범위 밖의 날짜마다 하루치 현황을 만들면 reserve 테이블 조회와 캐시 항목이 요청한 날짜 수만큼 늘어난다.
+     * @param day 조회할 날짜
+     * @param today 오늘
+     * @return 범위 안이면 true
+     */
+    public boolean isWithinHorizon(LocalDate day, LocalDate today){
+        return !day.isBefore(today) && !day.isAfter(today.plusDays(horizonDays));
+    }
+
+    /**
+     * 예약 시각이 속한 슬롯에서 좌석 하나를 확보
+     * 트랜잭션 안에서 호출되면 롤백 시 확보한 좌석을 자동으로 반납한다.
+     * @param store 예약 대상 매장
+     * @param reserveTime 예약 시각
+     * @return 확보한 좌석
+     * @throws InvalidReserveException 슬롯의 좌석이 모두 찬 경우 (RESERVE_SLOT_FULL)
+     */
+    public SeatHold acquire(Store store, LocalDateTime reserveTime){
+        LocalDateTime slotTime = slotOf(reserveTime, store.getSlotMinutes());
+        DayOccupancy occupancy = occupancy(store.getId(), store.getSlotMinutes(), slotTime.toLocalDate());
+        int slot = slotIndex(slotTime, occupancy.slotMinutes());
+        int seatNo = occupancy.tryAcquire(slot, store.getCapacity());
+
+        if (seatNo < 0){
+            fullCounter.increment();
+            throw new InvalidReserveException(ErrorCode.RESERVE_SLOT_FULL);
+        }
+
+        admittedCounter.increment();
+        SeatHold hold = new SeatHold(store.getId(), slotTime, seatNo, occupancy, slot);
+        releaseOnRollback(hold);
+
+        return hold;
+    }
+
+    /**
+     * 매장의 하루치 슬롯별 남은 좌석 수
+     * 하루치 현황이 캐시에 없을 때만 reserve 테이블을 한 번 조회하고, 이후에는 슬롯 수만큼의 계산으로 끝난다.
+     * @param store 매장
+     * @param date 조회할 날짜
+     * @return i 번째 값은 (자정 + i * 슬롯 길이) 슬롯의 남은 좌석 수
+     */
+    public int[] remainingSeats(Store store, LocalDate date){
+        DayOccupancy occupancy = occupancy(store.getId(), store.getSlotMinutes(), date);
+        int[] remaining = new int[occupancy.slotCount()];
+
+        for (int slot = 0; slot < remaining.length; slot++){
+            remaining[slot] = Math.max(store.getCapacity() - occupancy.occupied(slot), 0);
+        }
+
+        return remaining;
+    }
+
+    /**
+     * 메모리에서 확보한 좌석이 DB 유일 제약에 걸린 경우 호출
+     * 해당 좌석은 실제로 다른 예약이 가지고 있으므로 롤백 시 반납하지 않고, 하루치 현황을 버려 다음 요청에서 DB 로부터 다시 만든다.
+     * @param hold 충돌한 좌석
+     */
+    public void conflict(SeatHold hold){
+        hold.conflicted = true;
+        days.asMap().remove(new DayKey(hold.getStoreId(), hold.getSlotTime().toLocalDate()), hold.occupancy);
+        conflictCounter.increment();
+
+        log.warn("seat conflict : storeId = {}, slot = {}, seatNo = {}", hold.getStoreId(), hold.getSlotTime(), hold.getSeatNo());
+    }
+
+    /**
+     * 예약 취소 등으로 비워진 좌석 반납 - 트랜잭션 안에서 호출되면 커밋 이후에 반납한다.
+     * 좌석 번호가 없는 V3 이전 예약은 메모리에서 어느 좌석을 차지했는지 알 수 없으므로 하루치 현황을 버린다.
+     * @param storeId 매장 id
+     * @param slotTime 슬롯 시작 시각
+     * @param seatNo 좌석 번호
+     */
+    public void releaseAfterCommit(Long storeId, LocalDateTime slotTime, Integer seatNo){
+        if (slotTime == null) return;
+
+        if (seatNo == null){
+            evictAfterCommit(storeId, slotTime.toLocalDate());
+            return;
+        }
+
+        AfterCommit.run(() -> {
+            DayOccupancy occupancy = days.getIfPresent(new DayKey(storeId, slotTime.toLocalDate()));
+
+            if (occupancy != null){
+                occupancy.release(slotIndex(slotTime, occupancy.slotMinutes()), seatNo);
+            }
+        });
+    }
+
+    /**
+     * 어떤 좌석이 비워졌는지 정확히 알 수 없을 때 하루치 현황을 버린다. - 트랜잭션 안에서 호출되면 커밋 이후에 버린다.
+     * 다음 요청에서 reserve 테이블로부터 다시 만든다.
+     * @param storeId 매장 id
+     * @param date 날짜
+     */
+    public void evictAfterCommit(Long storeId, LocalDate date){
+        AfterCommit.run(() -> days.invalidate(new DayKey(storeId, date)));
+    }
+
+    private DayOccupancy occupancy(Long storeId, int slotMinutes, LocalDate date){
+        return days.get(new DayKey(storeId, date), key -> load(key, slotMinutes));
+    }
+
+    private DayOccupancy load(DayKey key, int slotMinutes){
+        DayOccupancy occupancy = new DayOccupancy(slotMinutes);
+        LocalDateTime dayStart = key.date.atStartOfDay();
+
+        List<OccupiedSeat> unnumbered = new ArrayList<>();
+
+        for (OccupiedSeat seat : reserveRepository.findOccupiedSeats(key.storeId, dayStart, dayStart.plusDays(1))){
+            if (seat.getSeatNo() == null){
+                unnumbered.add(seat);
+                continue;
+            }
+
+            occupancy.occupy(slotIndex(seat.getSlotTime(), slotMinutes), seat.getSeatNo());
+        }
+
+        // 번호가 있는 좌석을 모두 채운 뒤 남은 좌석을 차지한다. - 좌석이 모두 찬 슬롯이면 더 차지할 필요가 없다.
+        for (OccupiedSeat seat : unnumbered){
+            occupancy.tryAcquire(slotIndex(seat.getSlotTime(), slotMinutes), Long.SIZE);
+        }
+
+        return occupancy;
+    }
+
+    private static int slotIndex(LocalDateTime slotTime, int slotMinutes){
+        return (slotTime.getHour() * 60 + slotTime.getMinute()) / slotMinutes;
+    }
+
+    private static void releaseOnRollback(SeatHold hold){
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED && !hold.conflicted){
+                    hold.occupancy.release(hold.slot, hold.getSeatNo());
+                }
+            }
+        });
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class DayKey {
+        private final Long storeId;
+        private final LocalDate date;
+    }
+}
@@ -0,0 +1,106 @@
+package zerobase.reserve.booking;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠
+ * 각 단계는 tickMillis 간격의 버킷 wheelSize 개로 이루어지며, 현재 단계의 범위(tickMillis * wheelSize)를 넘는 항목은
+ * 한 단계 위(버킷 간격 = 아래 단계의 전체 범위) 휠에 넣는다. 위 단계의 버킷은 시작 시각이 되면 아래 단계로 내려오므로
+ * 항목 수와 만료 시각의 범위에 관계없이 추가는 O(1), 시간 진행은 지나간 틱 수만큼의 비용만 든다.
+ * 만료 시각이 속한 가장 아래 단계 버킷이 완전히 지나간 뒤에 만료되므로 만료 시각보다 먼저 만료되는 일은 없다.
+ * 스레드 안전하지 않으므로 사용하는 쪽에서 동기화해야 한다.
+ */
+class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long intervalMillis;
+    private final ArrayDeque<Entry<T>>[] buckets;
+    private long currentTime;
+    private TimingWheel<T> overflow;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.intervalMillis = tickMillis * wheelSize;
+        this.buckets = new ArrayDeque[wheelSize];
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+
+        for (int i = 0; i < wheelSize; i++){
+            buckets[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * 항목 추가 - 이미 지난 만료 시각은 다음 진행 때 바로 만료된다.
+     */
+    void add(long deadlineMillis, T item){
+        add(new Entry<>(deadlineMillis, item));
+    }
+
+    /**
+     * now 까지 시간을 진행하며 만료된 항목 전달
+     */
+    void advance(long nowMillis, Consumer<T> expired){
+        while (currentTime + tickMillis <= nowMillis){
+            if (overflow != null){
+                overflow.cascade(currentTime, this);
+            }
+
+            ArrayDeque<Entry<T>> bucket = bucket(currentTime);
+
+            while (!bucket.isEmpty()){
+                expired.accept(bucket.poll().item);
+            }
+
+            currentTime += tickMillis;
+        }
+    }
+
+    private void add(Entry<T> entry){
+        if (entry.deadline < currentTime + tickMillis){
+            bucket(currentTime).add(entry);
+        } else if (entry.deadline < currentTime + intervalMillis){
+            bucket(entry.deadline).add(entry);
+        } else {
+            if (overflow == null){
+                overflow = new TimingWheel<>(intervalMillis, wheelSize, currentTime + intervalMillis);
+            }
+
+            overflow.add(entry);
+        }
+    }
+
+    // 시작 시각이 아래 단계의 현재 시각 이전인 버킷을 아래 단계로 내린다.
+    private void cascade(long lowerTime, TimingWheel<T> lower){
+        while (currentTime <= lowerTime){
+            if (overflow != null){
+                overflow.cascade(currentTime, this);
+            }
+
+            ArrayDeque<Entry<T>> bucket = bucket(currentTime);
+
+            while (!bucket.isEmpty()){
+                lower.add(bucket.poll());
+            }
+
+            currentTime += tickMillis;
+        }
+    }
+
+    private ArrayDeque<Entry<T>> bucket(long time){
+        return buckets[(int) Math.floorMod(time / tickMillis, (long) wheelSize)];
+    }
+
+    private static class Entry<T> {
+        private final long deadline;
+        private final T item;
+
+        private Entry(long deadline, T item) {
+            this.deadline = deadline;
+            this.item = item;
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package zerobase.reserve.config;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -8,8 +12,23 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class AppConfig {
 
+    /**
+     * bcrypt cost 는 설정으로 변경할 수 있다.
+     * cost 가 올라가면 이전 cost 로 저장된 비밀번호는 로그인 시 새 cost 로 다시 해시된다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${reserve.password.bcrypt-strength:10}") int strength){
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * Hibernate 가 세션이 닫힐 때까지 커넥션을 쥐고 있지 않고 트랜잭션이 끝나면 반납하도록 한다.
+     * open-in-view 로 세션이 요청 전체에 걸쳐 열려 있으므로, 그렇지 않으면 한 번 DB 를 읽은 요청은 비밀번호 해시처럼
+     * DB 와 무관한 작업을 기다리는 동안에도 응답할 때까지 커넥션을 차지한다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionHandlingCustomizer(){
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
     }
 }
@@ -0,0 +1,87 @@
+package zerobase.reserve.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시(JCache + Caffeine) 설정
+ * 변경이 드물고 거의 모든 요청에서 조회되는 매장, 회원(권한 컬렉션 포함) 엔티티와 이메일, 매장 이름 natural id 를 캐시한다.
+ * 캐시 영역마다 최대 크기와 만료 시간을 지정하며, 설정되지 않은 영역이 사용되면 기동 시 실패한다.
+ * 통계는 /actuator/metrics 에서 확인할 수 있다.
+ * - hibernate.second.level.cache.*{region} - 엔티티, 컬렉션 영역의 적중/미스/저장 횟수
+ * - cache.gets, cache.puts, cache.evictions{cache} - natural id 영역을 포함한 모든 영역의 JCache 통계
+ */
+@Configuration
+public class HibernateCacheConfiguration {
+
+    public static final String STORE_REGION = "store";
+    public static final String STORE_NATURAL_ID_REGION = "store.natural-id";
+    public static final String MEMBER_REGION = "member";
+    public static final String MEMBER_NATURAL_ID_REGION = "member.natural-id";
+    public static final String MEMBER_ROLES_REGION = "member.roles";
+
+    /**
+     * 테스트처럼 한 JVM 에 여러 애플리케이션 컨텍스트가 뜨는 경우 캐시를 공유하지 않도록 컨텍스트마다 별도의 CacheManager 를 만든다.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${reserve.cache.store.maximum-size:10000}") long storeMaximumSize,
+            @Value("${reserve.cache.store.ttl:10m}") Duration storeTtl,
+            @Value("${reserve.cache.member.maximum-size:10000}") long memberMaximumSize,
+            @Value("${reserve.cache.member.ttl:10m}") Duration memberTtl
+    ){
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("reserve-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        createRegion(cacheManager, STORE_REGION, storeMaximumSize, storeTtl);
+        createRegion(cacheManager, STORE_NATURAL_ID_REGION, storeMaximumSize, storeTtl);
+        createRegion(cacheManager, MEMBER_REGION, memberMaximumSize, memberTtl);
+        createRegion(cacheManager, MEMBER_NATURAL_ID_REGION, memberMaximumSize, memberTtl);
+        createRegion(cacheManager, MEMBER_ROLES_REGION, memberMaximumSize, memberTtl);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager){
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", true);
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put("hibernate.generate_statistics", true);
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+        };
+    }
+
+    @Bean
+    public MeterBinder hibernateCacheMetrics(CacheManager hibernateCacheManager){
+        return registry -> hibernateCacheManager.getCacheNames().forEach(region ->
+                JCacheMetrics.monitor(registry, hibernateCacheManager.getCache(region)));
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region, long maximumSize, Duration ttl){
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+
+        cacheManager.createCache(region, configuration);
+    }
+}
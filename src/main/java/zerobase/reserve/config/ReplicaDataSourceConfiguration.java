@@ -0,0 +1,151 @@
+package zerobase.reserve.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaVendorAdapter;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.util.StringUtils;
+import zerobase.reserve.datasource.ReadYourWritesTracker;
+import zerobase.reserve.datasource.ReplicaJpaDialect;
+import zerobase.reserve.datasource.ReplicaLagMonitor;
+import zerobase.reserve.datasource.ReplicaRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 DataSource 설정
+ * reserve.datasource.replica-urls 에 복제본 JDBC URL 이 설정된 경우에만 적용되며, 계정과 드라이버는 주 DB(spring.datasource)와 같다.
+ * 설정하지 않으면 Spring Boot 기본 DataSource 하나로 모든 쿼리를 주 DB 에서 처리한다.
+ * 커넥션은 트랜잭션마다 새로 라우팅된다. Hibernate 는 트랜잭션이 끝나면 커넥션을 반납하므로 (AppConfig)
+ * open-in-view 로 세션이 요청 전체에 걸쳐 열려 있어도 읽기, 쓰기 트랜잭션이 각자 맞는 DB 의 커넥션을 받는다.
+ * 복제본에서 읽은 이전 값이 2차 캐시에 들어가지 않도록 읽기 전용 트랜잭션은 2차 캐시를 읽기만 한다. (ReplicaJpaDialect)
+ */
+@Configuration
+@ConditionalOnProperty("reserve.datasource.replica-urls")
+public class ReplicaDataSourceConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties){
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+
+        return primary;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            HikariDataSource primaryDataSource,
+            ReplicaDataSources replicaDataSources,
+            @Value("${reserve.datasource.max-lag:2s}") Duration maxLag
+    ){
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSources.get(), maxLag);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${reserve.datasource.max-lag:2s}") Duration maxLag,
+            @Value("${reserve.datasource.read-your-writes.maximum-size:100000}") long maximumSize
+    ){
+        return new ReadYourWritesTracker(maxLag, maximumSize);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaDataSources replicaDataSources(
+            DataSourceProperties properties,
+            @Value("${reserve.datasource.replica-urls}") String[] replicaUrls
+    ){
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+
+        for (String replicaUrl : replicaUrls){
+            if (!StringUtils.hasText(replicaUrl)) continue;
+
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(replicaUrl.trim())
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .build();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setReadOnly(true);
+
+            replicas.put(replica.getPoolName(), replica);
+        }
+
+        return new ReplicaDataSources(replicas);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            ReplicaDataSources replicaDataSources,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker
+    ){
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSources.get(), replicaLagMonitor, readYourWritesTracker);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource){
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * Spring Boot 기본 JpaVendorAdapter 와 같은 설정에 JpaDialect 만 ReplicaJpaDialect 로 바꾼다.
+     */
+    @Bean
+    public JpaVendorAdapter jpaVendorAdapter(JpaProperties properties){
+        ReplicaJpaDialect replicaJpaDialect = new ReplicaJpaDialect();
+        HibernateJpaVendorAdapter adapter = new HibernateJpaVendorAdapter() {
+            @Override
+            public HibernateJpaDialect getJpaDialect() {
+                return replicaJpaDialect;
+            }
+        };
+
+        adapter.setShowSql(properties.isShowSql());
+        if (properties.getDatabase() != null){
+            adapter.setDatabase(properties.getDatabase());
+        }
+        if (properties.getDatabasePlatform() != null){
+            adapter.setDatabasePlatform(properties.getDatabasePlatform());
+        }
+        adapter.setGenerateDdl(properties.isGenerateDdl());
+
+        return adapter;
+    }
+
+    /**
+     * 복제본 커넥션 풀 묶음 - 각각 DataSource 빈으로 등록하면 주 DB 자리에 주입될 수 있으므로 감싸서 등록하고 종료 시 함께 닫는다.
+     */
+    public static class ReplicaDataSources {
+
+        private final Map<String, HikariDataSource> replicas;
+
+        public ReplicaDataSources(Map<String, HikariDataSource> replicas) {
+            this.replicas = replicas;
+        }
+
+        public Map<String, DataSource> get(){
+            return Collections.unmodifiableMap(replicas);
+        }
+
+        public void close(){
+            replicas.values().forEach(HikariDataSource::close);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package zerobase.reserve.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
@@ -13,6 +15,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import zerobase.reserve.security.JwtAuthenticationFilter;
+import zerobase.reserve.security.PublicEndpoints;
 
 @Configuration
 @EnableWebSecurity
@@ -21,7 +24,26 @@ import zerobase.reserve.security.JwtAuthenticationFilter;
 public class SecurityConfiguration {
     private final JwtAuthenticationFilter authenticationFilter;
 
+    /**
+     * 공개 API 전용 필터 체인 - JWT 필터를 거치지 않는다.
+     */
     @Bean
+    @Order(1)
+    public SecurityFilterChain publicFilterChain(HttpSecurity http) throws Exception{
+        http
+                .requestMatcher(PublicEndpoints.MATCHER)
+                .httpBasic().disable()
+                .csrf().disable()
+                .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                .and()
+                .authorizeRequests()
+                .anyRequest().permitAll();
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception{
         http
                 .httpBasic().disable()
@@ -36,6 +58,17 @@ public class SecurityConfiguration {
         return http.build();
     }
 
+    /**
+     * JWT 필터는 시큐리티 필터 체인에서만 동작하도록 서블릿 필터 자동 등록을 막는다.
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(){
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(authenticationFilter);
+        registration.setEnabled(false);
+
+        return registration;
+    }
+
     @Bean
     public WebSecurityCustomizer webSecurityCustomizer(){
         return (web) -> web.ignoring().antMatchers("/h2-console/**");
@@ -0,0 +1,35 @@
+package zerobase.reserve.controller;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 조건부 조회용 ETag 생성 - 응답 내용을 결정하는 값들을 이어 붙인 문자열의 MD5
+ * - strong - 값이 같으면 응답 본문이 바이트 단위로 같은 경우
+ * - weak - 값이 같으면 의미상 같은 응답인 경우 (조회 수처럼 계속 바뀌는 값은 포함하지 않는다.)
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String strong(Object... parts){
+        return "\"" + digest(parts) + "\"";
+    }
+
+    static String weak(Object... parts){
+        return "W/\"" + digest(parts) + "\"";
+    }
+
+    private static String digest(Object... parts){
+        String joined = Arrays.stream(parts)
+                .map(Objects::toString)
+                .collect(Collectors.joining(":"));
+
+        return DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8));
+    }
+}
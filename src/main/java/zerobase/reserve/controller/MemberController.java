@@ -34,7 +34,7 @@ public class MemberController {
     @PostMapping("/signin")
     public ResponseEntity<?> signIn(@Valid @RequestBody CreateMemberDto.SignIn request){
         Member member = memberService.authenticate(request);
-        String token = tokenProvider.generateToken(member.getEmail(), member.getRoles());
+        String token = tokenProvider.generateToken(member);
 
         return ResponseEntity.ok(token);
     }
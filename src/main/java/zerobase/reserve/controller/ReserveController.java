@@ -3,21 +3,24 @@ package zerobase.reserve.controller;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-import zerobase.reserve.domain.Reserve;
 import zerobase.reserve.dto.CreateReserveDto;
 import zerobase.reserve.dto.CreateReviewDto;
+import zerobase.reserve.dto.CursorPage;
+import zerobase.reserve.dto.PageCursor;
 import zerobase.reserve.dto.ReserveDto;
+import zerobase.reserve.dto.ReserveStateDto;
 import zerobase.reserve.exception.ErrorCode;
 import zerobase.reserve.exception.NotExistsException;
 import zerobase.reserve.repository.ReserveRepository;
+import zerobase.reserve.security.MemberPrincipal;
 import zerobase.reserve.service.ReserveService;
 import zerobase.reserve.service.ReviewService;
 
 import javax.validation.Valid;
 import java.security.Principal;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -33,29 +36,31 @@ public class ReserveController {
     @PostMapping("/new")
     public CreateReserveDto.Response addReserve(
             @Valid @RequestBody CreateReserveDto.Request request,
-            Principal principal
+            @AuthenticationPrincipal MemberPrincipal principal
     ){
-        return reserveService.createReserve(request, principal.getName());
+        return reserveService.createReserve(request, principal);
     }
 
     @PreAuthorize("hasRole('USER')")
     @GetMapping("/{reserveId}")
     public ReserveDto getReserve(@PathVariable("reserveId") Long reserveId){
-        Reserve reserve = reserveRepository.findById(reserveId)
+        return reserveRepository.findStateById(reserveId)
+                .map(ReserveStateDto::toReserveDto)
                 .orElseThrow(() -> new NotExistsException(ErrorCode.MEMBER_NOT_EXISTS));
-
-        return ReserveDto.fromEntity(reserve);
     }
 
     // 매점 점장이 자신 소유의 모든 매점에 들어온 예약을 확인할 수 있다.
     @PreAuthorize("hasRole('PARTNER')")
     @GetMapping("/owner")
-    public List<ReserveDto> getOwnerReserveList(Principal principal){
-        List<Reserve> ownerReserveList = reserveRepository.findByStoreOwnerEmail(principal.getName());
+    public CursorPage<ReserveDto> getOwnerReserveList(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "" + CursorPage.DEFAULT_SIZE) int size,
+            Principal principal
+    ){
+        int pageSize = CursorPage.pageSize(size);
+        List<ReserveDto> reserves = reserveRepository.findReserveDtoByStoreOwnerEmail(principal.getName(), PageCursor.decode(cursor), pageSize + 1);
 
-        return ownerReserveList.stream()
-                .map(ReserveDto::fromEntity)
-                .collect(Collectors.toList());
+        return CursorPage.of(reserves, pageSize, ReserveController::cursorOf);
     }
 
     // 매점 점장에게 들어온 예약 내역 단건 조회
@@ -75,12 +80,15 @@ public class ReserveController {
     // 회원은 자신이 예약한 내역들을 모두 확인할 수 있다.
     @PreAuthorize("hasRole('USER')")
     @GetMapping("/user")
-    public List<ReserveDto> getUserReserveList(Principal principal){
-        List<Reserve> userReserveList = reserveRepository.findByMemberEmail(principal.getName());
+    public CursorPage<ReserveDto> getUserReserveList(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "" + CursorPage.DEFAULT_SIZE) int size,
+            Principal principal
+    ){
+        int pageSize = CursorPage.pageSize(size);
+        List<ReserveDto> reserves = reserveRepository.findReserveDtoByMemberEmail(principal.getName(), PageCursor.decode(cursor), pageSize + 1);
 
-        return userReserveList.stream()
-                .map(ReserveDto::fromEntity)
-                .collect(Collectors.toList());
+        return CursorPage.of(reserves, pageSize, ReserveController::cursorOf);
     }
 
     // 회원 자신의 예약 단건 조회
@@ -113,4 +121,8 @@ public class ReserveController {
     ){
         return reviewService.createReview(request, reserveId, principal.getName());
     }
+
+    private static PageCursor cursorOf(ReserveDto reserve){
+        return PageCursor.of(reserve.getReserveDateTime(), reserve.getId());
+    }
 }
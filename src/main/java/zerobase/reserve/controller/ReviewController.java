@@ -5,8 +5,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import zerobase.reserve.domain.Review;
 import zerobase.reserve.dto.CreateReviewDto;
+import zerobase.reserve.dto.CursorPage;
+import zerobase.reserve.dto.PageCursor;
 import zerobase.reserve.repository.ReviewRepository;
 import zerobase.reserve.service.ReviewService;
 
@@ -24,17 +28,33 @@ public class ReviewController {
 
     @PreAuthorize("hasRole('USER')")
     @GetMapping("/user")
-    public List<CreateReviewDto.Response> getReviewFromUser(Principal principal){
-        return reviewRepository.findByUserEmail(principal.getName()).stream()
-                .map(CreateReviewDto.Response::fromEntity)
-                .collect(Collectors.toList());
+    public CursorPage<CreateReviewDto.Response> getReviewFromUser(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "" + CursorPage.DEFAULT_SIZE) int size,
+            Principal principal
+    ){
+        int pageSize = CursorPage.pageSize(size);
+
+        return toPage(reviewRepository.findByUserEmail(principal.getName(), PageCursor.decode(cursor), pageSize + 1), pageSize);
     }
 
     @PreAuthorize("hasRole('PARTNER')")
     @GetMapping("/owner")
-    public List<CreateReviewDto.Response> getReviewFromUserOwnerSide(Principal principal){
-        return reviewRepository.findByOwnerEmail(principal.getName()).stream()
+    public CursorPage<CreateReviewDto.Response> getReviewFromUserOwnerSide(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "" + CursorPage.DEFAULT_SIZE) int size,
+            Principal principal
+    ){
+        int pageSize = CursorPage.pageSize(size);
+
+        return toPage(reviewRepository.findByOwnerEmail(principal.getName(), PageCursor.decode(cursor), pageSize + 1), pageSize);
+    }
+
+    private static CursorPage<CreateReviewDto.Response> toPage(List<Review> reviews, int pageSize){
+        List<CreateReviewDto.Response> responses = reviews.stream()
                 .map(CreateReviewDto.Response::fromEntity)
                 .collect(Collectors.toList());
+
+        return CursorPage.of(responses, pageSize, review -> PageCursor.of(review.getId()));
     }
 }
@@ -3,19 +3,27 @@ package zerobase.reserve.controller;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import zerobase.reserve.counter.StoreViewCounter;
 import zerobase.reserve.domain.Store;
+import zerobase.reserve.domain.StoreRating;
 import zerobase.reserve.dto.*;
 import zerobase.reserve.exception.ErrorCode;
 import zerobase.reserve.exception.NotExistsException;
+import zerobase.reserve.ranking.StoreRankings;
 import zerobase.reserve.repository.ReviewRepository;
 import zerobase.reserve.repository.StoreRepository;
+import zerobase.reserve.search.StoreSuggestIndex;
+import zerobase.reserve.security.MemberPrincipal;
 import zerobase.reserve.service.ReserveService;
 import zerobase.reserve.service.StoreService;
+import zerobase.reserve.trending.StoreTrending;
 
 import javax.validation.Valid;
-import java.security.Principal;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RestController
@@ -28,29 +36,92 @@ public class StoreController {
     private final StoreRepository storeRepository;
     private final ReserveService reserveService;
     private final ReviewRepository reviewRepository;
+    private final StoreTrending storeTrending;
+    private final StoreViewCounter storeViewCounter;
 
+    // 목록은 DTO 로 바로 조회되므로 조회한 페이지 내용으로 ETag 를 만들고, 같으면 직렬화하지 않고 304 를 반환한다.
     @GetMapping
-    public List<StoreDto> getStoreList(@RequestBody StoreSearchCond cond){
-        return storeRepository.findAll(cond).stream()
-                .map(StoreDto::fromEntity)
-                .collect(Collectors.toList());
+    public CursorPage<StoreDto> getStoreList(
+            @RequestBody StoreSearchCond cond,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "" + CursorPage.DEFAULT_SIZE) int size,
+            WebRequest webRequest
+    ){
+        CursorPage<StoreDto> page = storeService.getStoreList(cond, PageCursor.decode(cursor), CursorPage.pageSize(size));
+
+        if (webRequest.checkNotModified(ETags.strong("stores", page.getContent(), page.getNextCursor()))){
+            return null;
+        }
+
+        return page;
+    }
+
+    // 매장 이름 자동완성 - 이름의 앞부분 또는 초성으로 조회
+    @GetMapping("/suggest")
+    public List<StoreSuggestDto> suggestStores(
+            @RequestParam("q") String query,
+            @RequestParam(value = "size", defaultValue = "" + StoreSuggestIndex.TOP_K) int size
+    ){
+        return storeService.suggestStores(query, size);
+    }
+
+    // 평점 순, 예약 수 순 상위 매장 - 지역(legion)을 지정하면 해당 지역 안에서의 순위
+    @GetMapping("/top")
+    public List<StoreRankingDto> getTopStores(
+            @RequestParam(value = "by", defaultValue = "rating") String by,
+            @RequestParam(value = "region", required = false) String region,
+            @RequestParam(value = "size", defaultValue = "" + StoreRankings.TOP_K) int size
+    ){
+        return storeService.getTopStores(by, region, size);
+    }
+
+    // 최근 조회, 예약이 많은 매장
+    @GetMapping("/trending")
+    public List<TrendingStoreDto> getTrendingStores(
+            @RequestParam(value = "size", defaultValue = "" + StoreTrending.TOP_K) int size
+    ){
+        return storeService.getTrendingStores(size);
     }
 
     @PreAuthorize("hasRole('PARTNER')")
     @PostMapping("/new")
     public CreateStoreDto.Response createStore(
             @Valid @RequestBody CreateStoreDto.Request request,
-            Principal principal
+            @AuthenticationPrincipal MemberPrincipal principal
     ){
-        return storeService.createStore(request, principal.getName());
+        return storeService.createStore(request, principal);
     }
 
+    // 매장 버전으로 ETag 를 먼저 확인하여 같으면 매장, 평점 집계를 조회하지 않고 304 를 반환한다. (조회 수는 ETag 에 포함하지 않는다.)
+    // 버전 조회 이후 리뷰가 추가되면 본문이 ETag 보다 최신이 되며, 다음 조회에서 ETag 가 달라 전체 응답을 받는다.
     @GetMapping("/{storeId}")
-    public StoreDto getStoreInfo(@PathVariable("storeId") Long storeId){
+    public StoreDto getStoreInfo(@PathVariable("storeId") Long storeId, WebRequest webRequest){
+        StoreVersion version = storeRepository.findVersion(storeId)
+                .orElseThrow(() -> new NotExistsException(ErrorCode.STORE_NOT_EXISTS));
+
+        storeTrending.recordView(storeId);
+        storeViewCounter.increment(storeId);
+
+        if (webRequest.checkNotModified(ETags.weak("store", storeId, version.getLastModifiedDate(), version.getRatingCount()))){
+            return null;
+        }
+
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new NotExistsException(ErrorCode.STORE_NOT_EXISTS));
 
-        return StoreDto.fromEntity(store);
+        StoreRating rating = storeRepository.findRating(storeId)
+                .orElseThrow(() -> new NotExistsException(ErrorCode.STORE_NOT_EXISTS));
+
+        return StoreDto.fromEntity(store, rating, storeRepository.findViewCount(storeId) + storeViewCounter.pending(storeId));
+    }
+
+    // 해당 날짜에 좌석이 남은 예약 시간 조회
+    @GetMapping("/{storeId}/availability")
+    public StoreAvailabilityDto getAvailability(
+            @PathVariable("storeId") Long storeId,
+            @RequestParam("date") String date
+    ){
+        return storeService.getAvailability(storeId, date);
     }
 
     // 회원은 해당 매점에 대해 예약 진행
@@ -59,15 +130,30 @@ public class StoreController {
     public CreateReserveDto.Response addReserve(
             @PathVariable("storeId") Long storeId,
             @Valid @RequestBody CreateReserveDto.StoreRequest reserveInfo,
-            Principal principal
+            @AuthenticationPrincipal MemberPrincipal principal
     ){
-       return reserveService.createReserveFromStore(reserveInfo, storeId, principal.getName());
+       return reserveService.createReserveFromStore(reserveInfo, storeId, principal);
     }
 
+    // 리뷰는 추가만 되므로 (리뷰 수, 커서, 페이지 크기)가 같으면 같은 페이지이다. 리뷰를 조회하기 전에 리뷰 수로 ETag 를 확인한다.
     @GetMapping("/{storeId}/reviews")
-    public List<CreateReviewDto.Response> getStoreReview(@PathVariable("storeId") Long storeId){
-       return reviewRepository.findByStoreId(storeId).stream()
+    public CursorPage<CreateReviewDto.Response> getStoreReview(
+            @PathVariable("storeId") Long storeId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "" + CursorPage.DEFAULT_SIZE) int size,
+            WebRequest webRequest
+    ){
+        int pageSize = CursorPage.pageSize(size);
+        Optional<StoreVersion> version = storeRepository.findVersion(storeId);
+
+        if (version.isPresent() && webRequest.checkNotModified(
+                ETags.strong("reviews", storeId, version.get().getRatingCount(), cursor, pageSize))){
+            return null;
+        }
+        List<CreateReviewDto.Response> reviews = reviewRepository.findByStoreId(storeId, PageCursor.decode(cursor), pageSize + 1).stream()
                 .map(CreateReviewDto.Response::fromEntity)
                 .collect(Collectors.toList());
+
+        return CursorPage.of(reviews, pageSize, review -> PageCursor.of(review.getId()));
     }
 }
@@ -0,0 +1,129 @@
+package zerobase.reserve.counter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 매장 상세 조회 수 카운터
+ * 조회마다 store 테이블을 갱신하지 않고 매장 id 별 LongAdder 에 더해 두었다가 flush-interval 마다
+ * 그동안 모인 조회 수를 (view_count = view_count + ?) UPDATE 한 번의 JDBC 배치로 반영하며, 종료 시에도 남은 조회 수를 반영한다.
+ * 반영에 실패하면 조회 수를 다시 카운터에 돌려놓아 다음 주기에 반영한다.
+ * - 꺼낸 조회 수는 카운터를 0 으로 만드는 대신 그만큼 빼므로 꺼내는 사이에 더해진 조회 수를 잃지 않는다.
+ *   한 번 조회된 매장의 카운터는 0 이 되어도 제거하지 않는다. (제거와 동시에 더해진 조회 수를 잃지 않도록 하며, 매장 수만큼만 유지된다.)
+ * - 꺼낸 조회 수는 커밋될 때까지 반영 중인 조회 수로 pending 에 포함되어 그 사이에 조회 수가 줄어 보이지 않는다.
+ * 조회 수는 2차 캐시에 올라가지 않는 store_view_count 테이블에 더하므로 반영해도 매장 캐시는 그대로 남는다. (StoreViewCount)
+ */
+@Slf4j
+@Component
+public class StoreViewCounter {
+
+    private static final String ADD_VIEW_COUNT = "update store_view_count set view_count = view_count + ? where store_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Map<Long, LongAdder> counters = new ConcurrentHashMap<>();
+    private volatile Map<Long, Long> inFlight = Map.of();
+
+    public StoreViewCounter(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${reserve.view-counter.enabled:true}") boolean enabled
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+    }
+
+    public void increment(Long storeId){
+        add(storeId, 1);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회 수 (반영 중인 조회 수 포함)
+     * 반영 중인 조회 수를 카운터에서 빼기 직전에는 잠시 두 번 더해질 수 있지만 줄어 보이지는 않는다.
+     */
+    public long pending(Long storeId){
+        LongAdder counter = counters.get(storeId);
+        long buffered = counter == null ? 0 : counter.sum();
+
+        return buffered + inFlight.getOrDefault(storeId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${reserve.view-counter.flush-interval:PT10S}")
+    public void scheduledFlush(){
+        if (enabled){
+            flush();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        flush();
+    }
+
+    /**
+     * 모인 조회 수를 DB 에 반영 - 여러 서버가 같은 매장을 갱신할 때 교착되지 않도록 매장 id 순으로 갱신한다.
+     * @return 반영한 매장 수
+     */
+    public synchronized int flush(){
+        SortedMap<Long, Long> views = collect();
+
+        if (views.isEmpty()) return 0;
+
+        inFlight = views;
+        views.forEach((storeId, count) -> counters.get(storeId).add(-count));
+
+        List<Object[]> batch = new ArrayList<>(views.size());
+        views.forEach((storeId, count) -> batch.add(new Object[]{count, storeId}));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(ADD_VIEW_COUNT, batch));
+        } catch (DataAccessException e){
+            log.warn("store view count flush failed, retry next time : stores = {}, {}", views.size(), e.getMessage());
+            views.forEach(this::add);
+            inFlight = Map.of();
+
+            return 0;
+        }
+
+        inFlight = Map.of();
+
+        return views.size();
+    }
+
+    private void add(Long storeId, long count){
+        LongAdder counter = counters.get(storeId);
+
+        if (counter == null){
+            counter = counters.computeIfAbsent(storeId, id -> new LongAdder());
+        }
+
+        counter.add(count);
+    }
+
+    // 조회 수가 모인 카운터의 현재 값 - 카운터에서 빼는 것은 반영 중인 조회 수로 등록한 뒤에 한다.
+    private SortedMap<Long, Long> collect(){
+        SortedMap<Long, Long> views = new TreeMap<>();
+
+        counters.forEach((storeId, counter) -> {
+            long count = counter.sum();
+
+            if (count > 0){
+                views.put(storeId, count);
+            }
+        });
+
+        return Collections.unmodifiableSortedMap(views);
+    }
+}
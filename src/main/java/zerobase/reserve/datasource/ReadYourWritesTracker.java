@@ -0,0 +1,47 @@
+package zerobase.reserve.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import zerobase.reserve.transaction.AfterCommit;
+
+import java.time.Duration;
+
+/**
+ * 회원별 마지막 쓰기 커밋 시각
+ * 쓰기 트랜잭션이 커밋되면 해당 회원의 시각을 기록하고, 그 회원의 읽기는 이 시각 이후까지 복제된 복제본에서만 처리한다.
+ * max-lag 보다 오래된 쓰기는 사용 가능한 모든 복제본에 이미 반영되어 있으므로 그 시간이 지나면 잊는다.
+ * 로그인하지 않은 요청의 쓰기(회원 가입 등)는 회원을 알 수 없으므로 기록하지 않는다.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<Long, Long> lastWrites;
+
+    public ReadYourWritesTracker(Duration maxLag, long maximumSize) {
+        this.lastWrites = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(maxLag)
+                .build();
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션이 커밋되면 회원의 마지막 쓰기 시각 기록
+     * @param memberId 회원 id, null 이면 기록하지 않는다.
+     */
+    public void recordAfterCommit(Long memberId){
+        if (memberId == null) return;
+
+        AfterCommit.runInTransaction(() -> lastWrites.put(memberId, System.currentTimeMillis()));
+    }
+
+    /**
+     * @param memberId 회원 id
+     * @return 회원의 마지막 쓰기 커밋 시각(ms), 기록이 없으면 0
+     */
+    public long lastWriteMillis(Long memberId){
+        if (memberId == null) return 0;
+
+        Long lastWrite = lastWrites.getIfPresent(memberId);
+
+        return lastWrite == null ? 0 : lastWrite;
+    }
+}
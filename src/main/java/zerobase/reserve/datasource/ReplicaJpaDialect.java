@@ -0,0 +1,67 @@
+package zerobase.reserve.datasource;
+
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import javax.persistence.CacheStoreMode;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 트랜잭션이 2차 캐시를 채우지 않도록 하는 JpaDialect
+ * 읽기 전용 트랜잭션은 복제본에서 처리될 수 있고, 복제가 늦은 복제본에서 읽은 이전 값이 2차 캐시에 들어가면
+ * 복제가 따라온 뒤에도 캐시가 만료될 때까지 주 DB 를 읽는 쓰기 트랜잭션까지 이전 값을 보게 된다.
+ * 그래서 읽기 전용 트랜잭션 동안 EntityManager 의 캐시 저장 모드를 BYPASS 로 바꾸어 캐시는 읽기만 하고(CacheMode.GET), 트랜잭션이 끝나면 원래대로 되돌린다.
+ * (Hibernate 는 find 마다 이 속성으로 세션의 CacheMode 를 다시 정하므로 세션의 CacheMode 가 아닌 속성을 바꾼다.)
+ * 어느 DB 로 갈지는 첫 쿼리 시점에 정해지므로 주 DB 로 가는 읽기 전용 트랜잭션도 캐시를 채우지 않으며, 2차 캐시는 쓰기 트랜잭션으로만 채워진다.
+ */
+public class ReplicaJpaDialect extends HibernateJpaDialect {
+
+    private static final String CACHE_STORE_MODE = "javax.persistence.cache.storeMode";
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+
+        if (!definition.isReadOnly()){
+            return transactionData;
+        }
+
+        Object previousStoreMode = entityManager.getProperties().get(CACHE_STORE_MODE);
+        entityManager.setProperty(CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+
+        return new ReadOnlyTransactionData(transactionData, entityManager, previousStoreMode);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReadOnlyTransactionData){
+            ReadOnlyTransactionData readOnly = (ReadOnlyTransactionData) transactionData;
+
+            if (readOnly.entityManager.isOpen()){
+                readOnly.entityManager.setProperty(CACHE_STORE_MODE,
+                        readOnly.previousStoreMode == null ? CacheStoreMode.USE : readOnly.previousStoreMode);
+            }
+            super.cleanupTransaction(readOnly.transactionData);
+            return;
+        }
+
+        super.cleanupTransaction(transactionData);
+    }
+
+    private static class ReadOnlyTransactionData {
+
+        private final Object transactionData;
+        private final EntityManager entityManager;
+        private final Object previousStoreMode;
+
+        private ReadOnlyTransactionData(Object transactionData, EntityManager entityManager, Object previousStoreMode) {
+            this.transactionData = transactionData;
+            this.entityManager = entityManager;
+            this.previousStoreMode = previousStoreMode;
+        }
+    }
+}
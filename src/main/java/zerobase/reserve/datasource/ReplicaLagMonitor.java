@@ -0,0 +1,121 @@
+package zerobase.reserve.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 복제본 지연 측정기
+ * heartbeat-interval 마다 주 DB 의 replication_heartbeat 에 현재 시각(ms)을 기록하고, 각 복제본에 반영된 값을 읽어둔다.
+ * 복제본에 보이는 heartbeat 는 그 시각 이전에 주 DB 에 커밋된 변경이 모두 복제되었음을 뜻하므로
+ * - 지연 = 현재 시각 - 복제본의 heartbeat, max-lag 를 넘거나 조회에 실패한 복제본은 사용하지 않는다.
+ * - 회원이 마지막으로 쓴 시각 이후의 heartbeat 가 보이는 복제본만 그 회원의 읽기에 사용한다.
+ * 여러 서버가 같은 행에 기록하므로 서버 간 시계 차이만큼의 오차가 있다.
+ * 메트릭 - reserve.datasource.replica.lag{replica} (ms)
+ */
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder {
+
+    private static final String WRITE_HEARTBEAT = "update replication_heartbeat set beat_millis = ? where id = 1";
+    private static final String READ_HEARTBEAT = "select beat_millis from replication_heartbeat where id = 1";
+
+    private final JdbcTemplate primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaLagMonitor(DataSource primary, Map<String, DataSource> replicas, Duration maxLag) {
+        this.primary = new JdbcTemplate(primary);
+        this.maxLagMillis = maxLag.toMillis();
+
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, new JdbcTemplate(dataSource))));
+    }
+
+    /**
+     * 메트릭 등록 - MeterRegistry 가 DataSource 빈들의 메트릭을 등록하면서 이 객체를 필요로 하므로 생성자 대신 바인더로 등록한다.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Replica replica : replicas){
+            Gauge.builder("reserve.datasource.replica.lag", replica, r -> r.lagMillis(System.currentTimeMillis()))
+                    .tag("replica", replica.name)
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${reserve.datasource.heartbeat-interval:PT0.5S}")
+    public void heartbeat(){
+        try {
+            primary.update(WRITE_HEARTBEAT, System.currentTimeMillis());
+        } catch (DataAccessException e){
+            log.warn("replication heartbeat write failed : {}", e.getMessage());
+        }
+
+        replicas.forEach(Replica::probe);
+    }
+
+    /**
+     * 사용할 수 있는 복제본을 차례대로 하나 선택
+     * @param lastWriteMillis 읽기 요청 회원이 마지막으로 쓴 시각, 없으면 0 - 이 시각 이후의 heartbeat 가 보이는 복제본만 선택한다.
+     * @return 복제본 이름, 사용할 수 있는 복제본이 없으면 null
+     */
+    public String selectReplica(long lastWriteMillis){
+        long minBeatMillis = Math.max(System.currentTimeMillis() - maxLagMillis, lastWriteMillis);
+        int size = replicas.size();
+
+        if (size == 0) return null;
+
+        int start = Math.floorMod(next.getAndIncrement(), size);
+
+        for (int i = 0; i < size; i++){
+            Replica replica = replicas.get((start + i) % size);
+
+            if (replica.beatMillis >= minBeatMillis){
+                return replica.name;
+            }
+        }
+
+        return null;
+    }
+
+    private static class Replica {
+
+        private final String name;
+        private final JdbcTemplate jdbcTemplate;
+        private volatile long beatMillis = -1;
+
+        private Replica(String name, JdbcTemplate jdbcTemplate) {
+            this.name = name;
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        private void probe(){
+            try {
+                Long beat = jdbcTemplate.queryForObject(READ_HEARTBEAT, Long.class);
+                beatMillis = beat == null ? -1 : beat;
+            } catch (DataAccessException e){
+                if (beatMillis >= 0){
+                    log.warn("replica {} heartbeat read failed, reads go to primary : {}", name, e.getMessage());
+                }
+
+                beatMillis = -1;
+            }
+        }
+
+        private double lagMillis(long now){
+            return beatMillis < 0 ? Double.NaN : now - beatMillis;
+        }
+    }
+}
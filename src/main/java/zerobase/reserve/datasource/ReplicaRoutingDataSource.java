@@ -0,0 +1,105 @@
+package zerobase.reserve.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import zerobase.reserve.security.MemberPrincipal;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 트랜잭션 종류에 따라 주 DB 와 복제본 중 하나로 커넥션을 보내는 DataSource
+ * - 읽기 전용 트랜잭션 - 사용할 수 있는 복제본 중 하나, 없으면 주 DB (ReplicaLagMonitor), routeToPrimary 로 지정한 트랜잭션은 주 DB
+ * - 쓰기 트랜잭션, 트랜잭션 밖 - 주 DB, 쓰기 트랜잭션은 커밋 후 요청 회원의 쓰기 시각을 기록한다. (ReadYourWritesTracker)
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 알려지지 않으므로 LazyConnectionDataSourceProxy 로 감싸 첫 쿼리 시점에 결정해야 한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private static final Object PRIMARY_HINT = ReplicaRoutingDataSource.class.getName() + ".PRIMARY_HINT";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    ReplicaLagMonitor replicaLagMonitor, ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()){
+            return PRIMARY;
+        }
+
+        Long memberId = currentMemberId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()){
+            readYourWritesTracker.recordAfterCommit(memberId);
+
+            return PRIMARY;
+        }
+
+        if (TransactionSynchronizationManager.hasResource(PRIMARY_HINT)){
+            return PRIMARY;
+        }
+
+        String replica = replicaLagMonitor.selectReplica(readYourWritesTracker.lastWriteMillis(memberId));
+
+        return replica == null ? PRIMARY : replica;
+    }
+
+    /**
+     * 현재 읽기 전용 트랜잭션을 복제본이 아닌 주 DB 에서 처리하도록 지정 - 트랜잭션의 첫 쿼리 전에 호출해야 한다.
+     * 읽은 값이 메모리 상태의 기준이 되는 등 복제 지연을 허용할 수 없는 읽기에 사용하며,
+     * 쓰기 트랜잭션으로 주 DB 에 보내는 것과 달리 회원의 쓰기 시각을 기록하지 않으므로 그 회원의 이후 읽기는 계속 복제본을 쓸 수 있다.
+     * 복제본을 설정하지 않았거나 트랜잭션 밖이면 아무 일도 하지 않는다.
+     */
+    public static void routeToPrimary(){
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(PRIMARY_HINT)){
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(PRIMARY_HINT, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // 안에서 새 트랜잭션(REQUIRES_NEW)이 시작되면 그 트랜잭션에는 적용되지 않도록 잠시 내려놓는다.
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PRIMARY_HINT);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(PRIMARY_HINT, Boolean.TRUE);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PRIMARY_HINT);
+            }
+        });
+    }
+
+    private static Long currentMemberId(){
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof MemberPrincipal){
+            return ((MemberPrincipal) authentication.getPrincipal()).getId();
+        }
+
+        return null;
+    }
+}
@@ -4,15 +4,22 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import zerobase.reserve.config.HibernateCacheConfiguration;
+import zerobase.reserve.security.MemberChangeListener;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -20,9 +27,20 @@ import java.util.stream.Collectors;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, MemberChangeListener.class})
+@Table(name = "member", uniqueConstraints = {
+        @UniqueConstraint(name = Member.UNIQUE_EMAIL, columnNames = "email")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfiguration.MEMBER_REGION)
+@NaturalIdCache(region = HibernateCacheConfiguration.MEMBER_NATURAL_ID_REGION)
 public class Member implements UserDetails {
 
+    /**
+     * 이메일 유일 제약 이름 - 동시에 같은 이메일로 가입한 경우 이 제약 위반으로 중복을 알 수 있다.
+     */
+    public static final String UNIQUE_EMAIL = "member_unique_email";
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "member_id")
     private Long id;
@@ -30,6 +48,7 @@ public class Member implements UserDetails {
     @Column(length = 30)
     private String name;
 
+    @NaturalId(mutable = true)
     private String email;
 
     private String password;
@@ -41,6 +60,9 @@ public class Member implements UserDetails {
     private Gender gender;
 
     @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "member_roles", joinColumns = @JoinColumn(name = "member_member_id"),
+            indexes = @Index(name = "idx_member_roles_member_id_roles", columnList = "member_member_id, roles"))
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfiguration.MEMBER_ROLES_REGION)
     private List<String> roles;
 
     @CreatedDate
@@ -66,6 +88,10 @@ public class Member implements UserDetails {
         this.phoneNumber = phoneNumber;
     }
 
+    public void changeRoles(List<String> roles){
+        this.roles = new ArrayList<>(roles);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return this.roles.stream()
@@ -15,20 +15,53 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@Table(name = "reserve", indexes = {
+        @Index(name = "idx_reserve_member_id_reserve_time", columnList = "member_id, reserve_time, reserve_id"),
+        @Index(name = "idx_reserve_store_id_reserve_time", columnList = "store_id, reserve_time, reserve_id"),
+        @Index(name = "idx_reserve_status_reserve_time", columnList = "reserve_status, reserve_time")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = Reserve.UNIQUE_STORE_SLOT_SEAT, columnNames = {"store_id", "slot_time", "seat_no"})
+})
 public class Reserve{
 
+    /**
+     * 예약 시각 몇 분 전까지 도착해야 하는지 - 이 시각이 지나도록 방문 확인이 없으면 노쇼로 취소된다.
+     */
+    public static final int ARRIVE_BEFORE_MINUTES = 10;
+
+    /**
+     * 매장, 슬롯, 좌석 유일 제약 이름 - 메모리의 좌석 현황과 달리 DB 에서 좌석이 겹친 경우 이 제약 위반으로 알 수 있다.
+     */
+    public static final String UNIQUE_STORE_SLOT_SEAT = "reserve_unique_store_slot_seat";
+
+    /**
+     * 예약 회원 외래 키 제약 이름 - 인증 정보의 회원 id 로 저장하므로 탈퇴한 회원이면 이 제약 위반이 난다.
+     */
+    public static final String FOREIGN_KEY_MEMBER = "reserve_foreign_key_memberId";
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "reserve_id")
     private Long id;
 
+    @Column(name = "reserve_time")
     private LocalDateTime reserveTime;
 
+    /**
+     * 예약이 속한 시간 슬롯의 시작 시각, 좌석 번호와 함께 (매장, 슬롯, 좌석) 유일 제약으로 중복 예약을 막는다.
+     * 취소된 예약은 좌석 번호가 비워지므로 제약에서 빠진다.
+     */
+    @Column(name = "slot_time")
+    private LocalDateTime slotTime;
+
+    @Column(name = "seat_no")
+    private Integer seatNo;
+
     @Enumerated(EnumType.STRING)
-    @Column(length = 10)
+    @Column(name = "reserve_status", length = 10)
     private ReserveStatus reserveStatus;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "member_id")
+    @JoinColumn(name = "member_id", foreignKey = @ForeignKey(name = FOREIGN_KEY_MEMBER))
     private Member member;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -42,9 +75,12 @@ public class Reserve{
     private LocalDateTime lastModifiedDate;
 
     @Builder
-    public Reserve(Long id, LocalDateTime reserveTime, ReserveStatus reserveStatus, Member member, Store store) {
+    public Reserve(Long id, LocalDateTime reserveTime, LocalDateTime slotTime, Integer seatNo,
+                   ReserveStatus reserveStatus, Member member, Store store) {
         this.id = id;
         this.reserveTime = reserveTime;
+        this.slotTime = slotTime;
+        this.seatNo = seatNo;
         this.reserveStatus = reserveStatus;
         this.member = member;
         this.store = store;
@@ -53,4 +89,11 @@ public class Reserve{
     public void changeReserveStatus(ReserveStatus reserveStatus){
         this.reserveStatus = reserveStatus;
     }
+
+    /**
+     * 방문 확인 마감 시각
+     */
+    public static LocalDateTime arriveDeadline(LocalDateTime reserveTime){
+        return reserveTime.minusMinutes(ARRIVE_BEFORE_MINUTES);
+    }
 }
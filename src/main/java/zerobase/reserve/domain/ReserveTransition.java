@@ -0,0 +1,43 @@
+package zerobase.reserve.domain;
+
+import lombok.Getter;
+import zerobase.reserve.exception.ErrorCode;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 예약 상태 전이 - 전이 가능한 이전 상태와 전이 후 상태
+ * 상태 변경은 ReserveRepository.changeStatus 의 조건부 UPDATE 로만 수행되므로 동시에 같은 전이가 요청되어도 한 번만 성공한다.
+ */
+@Getter
+public enum ReserveTransition {
+    CANCEL(EnumSet.of(ReserveStatus.VALID), ReserveStatus.CANCEL),
+    ARRIVE(EnumSet.of(ReserveStatus.VALID), ReserveStatus.COMPLETE),
+    REVIEW(EnumSet.of(ReserveStatus.COMPLETE), ReserveStatus.REVIEWED);
+
+    private final Set<ReserveStatus> from;
+    private final ReserveStatus to;
+
+    ReserveTransition(Set<ReserveStatus> from, ReserveStatus to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    public boolean isAllowedFrom(ReserveStatus current){
+        return from.contains(current);
+    }
+
+    /**
+     * 현재 상태에서 전이할 수 없는 이유
+     * @param current 예약의 현재 상태
+     * @return 실패 사유 에러 코드
+     */
+    public ErrorCode rejectReason(ReserveStatus current){
+        if (this == REVIEW){
+            return current == ReserveStatus.REVIEWED ? ErrorCode.ALREADY_REVIEWED : ErrorCode.RESERVE_NOT_COMPLETE;
+        }
+
+        return current == ReserveStatus.CANCEL ? ErrorCode.RESERVE_CANCELED : ErrorCode.RESERVE_ALREADY_COMPLETE;
+    }
+}
@@ -12,6 +12,10 @@ import javax.persistence.*;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@Table(name = "review", indexes = {
+        @Index(name = "idx_review_store_id_review_id", columnList = "store_id, review_id"),
+        @Index(name = "idx_review_member_id_review_id", columnList = "member_id, review_id")
+})
 public class Review {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,7 +32,8 @@ public class Review {
     @JoinColumn(name = "member_id")
     private Member member;
 
-    @Lob
+    // 운영 스키마의 longtext 와 같은 타입으로 매핑하고, 일반 문자열로 바인딩한다.
+    @Column(columnDefinition = "longtext")
     private String reviewContent;
 
     @Builder
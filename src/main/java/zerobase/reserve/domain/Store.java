@@ -4,9 +4,14 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import zerobase.reserve.config.HibernateCacheConfiguration;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -15,14 +20,34 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "store")
+@Table(name = "store", uniqueConstraints = {
+        @UniqueConstraint(name = Store.UNIQUE_STORE_NAME, columnNames = "store_name")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfiguration.STORE_REGION)
+@NaturalIdCache(region = HibernateCacheConfiguration.STORE_NATURAL_ID_REGION)
 public class Store{
 
+    /**
+     * 매장 이름 유일 제약 이름 - 동시에 같은 이름으로 등록한 경우 이 제약 위반으로 중복을 알 수 있다.
+     */
+    public static final String UNIQUE_STORE_NAME = "store_unique_store_name";
+
+    /**
+     * 매장 주인 외래 키 제약 이름 - 인증 정보의 회원 id 로 저장하므로 탈퇴한 회원이면 이 제약 위반이 난다.
+     */
+    public static final String FOREIGN_KEY_OWNER = "store_foreign_key_memberId";
+
+    public static final int DEFAULT_CAPACITY = 10;
+    public static final int MAX_CAPACITY = 64;
+    public static final int DEFAULT_SLOT_MINUTES = 30;
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "store_id")
     private Long id;
 
-    @Column(length = 30)
+    @NaturalId
+    @Column(name = "store_name", length = 30)
     private String storeName;
 
     @Embedded
@@ -31,8 +56,18 @@ public class Store{
 
     private String description;
 
+    /**
+     * 한 시간 슬롯에 받을 수 있는 최대 예약 수 (1 ~ MAX_CAPACITY)
+     */
+    private int capacity;
+
+    /**
+     * 예약 시간 슬롯의 길이(분), 하루(1440분)를 나누어 떨어지게 하는 값이어야 한다.
+     */
+    private int slotMinutes;
+
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "member_id")
+    @JoinColumn(name = "member_id", foreignKey = @ForeignKey(name = FOREIGN_KEY_OWNER))
     private Member owner;
 
     @CreatedDate
@@ -42,11 +77,14 @@ public class Store{
     private LocalDateTime lastModifiedDate;
 
     @Builder
-    public Store(Long id, String storeName, Address address, String description, Member owner) {
+    public Store(Long id, String storeName, Address address, String description, Member owner,
+                 Integer capacity, Integer slotMinutes) {
         this.id = id;
         this.storeName = storeName;
         this.address = address;
         this.description = description;
         this.owner = owner;
+        this.capacity = capacity == null ? DEFAULT_CAPACITY : capacity;
+        this.slotMinutes = slotMinutes == null ? DEFAULT_SLOT_MINUTES : slotMinutes;
     }
 }
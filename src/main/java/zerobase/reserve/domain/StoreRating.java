@@ -0,0 +1,69 @@
+package zerobase.reserve.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.util.List;
+
+/**
+ * 매장 평점 집계 - 리뷰가 등록될 때마다 산술 UPDATE 한 번으로 갱신되며, 조회 시 리뷰를 집계하지 않는다.
+ * 매장과 1:1 이며 매장 저장 시 함께 저장된다.
+ * 리뷰마다 갱신되는 값이므로 2차 캐시에 올라가는 Store 엔티티와 분리해 두어 갱신이 매장 캐시를 무효화하지 않도록 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "store_rating", indexes = {
+        @Index(name = "idx_store_rating_average_store_id", columnList = "rating_average, store_id")
+})
+public class StoreRating {
+
+    public static final int MIN_RATING = 0;
+    public static final int MAX_RATING = 5;
+
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_id")
+    private Store store;
+
+    /**
+     * 평균 평점 - 매장 목록의 평점순 정렬에 사용
+     */
+    @Column(name = "rating_average")
+    private double ratingAverage;
+    @Column(name = "rating_sum")
+    private long ratingSum;
+    @Column(name = "rating_count")
+    private long ratingCount;
+
+    // 평점별 리뷰 수
+    @Column(name = "rating_0")
+    private long rating0;
+    @Column(name = "rating_1")
+    private long rating1;
+    @Column(name = "rating_2")
+    private long rating2;
+    @Column(name = "rating_3")
+    private long rating3;
+    @Column(name = "rating_4")
+    private long rating4;
+    @Column(name = "rating_5")
+    private long rating5;
+
+    public StoreRating(Store store) {
+        this.store = store;
+    }
+
+    /**
+     * 평점별 리뷰 수 - index 가 평점(0 ~ 5)
+     */
+    public List<Long> getHistogram(){
+        return List.of(rating0, rating1, rating2, rating3, rating4, rating5);
+    }
+}
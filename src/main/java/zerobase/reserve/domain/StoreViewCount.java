@@ -0,0 +1,36 @@
+package zerobase.reserve.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 매장 상세 조회 수 - StoreViewCounter 가 모아서 산술 UPDATE 로 직접 더하므로 엔티티로는 수정하지 않는다.
+ * 매장과 1:1 이며 매장 저장 시 함께 저장된다.
+ * 반영 주기마다 조회가 몰리는 매장일수록 갱신되는 값이므로 2차 캐시에 올라가는 Store 엔티티와 분리해 두어
+ * 반영이 매장 캐시를 무효화하지 않도록 한다. 대신 조회 수는 캐시하지 않으므로 매장 상세 조회마다 PK 조회 한 번이 더해진다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "store_view_count")
+public class StoreViewCount {
+
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_id")
+    private Store store;
+
+    @Column(name = "view_count")
+    private long viewCount;
+
+    public StoreViewCount(Store store) {
+        this.store = store;
+    }
+}
@@ -49,16 +49,27 @@ public class CreateReserveDto {
 
         private Long id;
         private LocalDateTime reserveDateTime;
+        private LocalDateTime slotDateTime;
+        private Integer seatNo;
         private ReserveStatus reserveStatus;
         private String memberEmail;
         private String storeName;
 
         public static Response fromEntity(Reserve reserve){
+            return fromEntity(reserve, reserve.getMember().getEmail());
+        }
+
+        /**
+         * 예약한 회원의 이메일을 이미 알고 있는 경우(예약 생성) 회원 엔티티를 초기화하지 않도록 따로 받는다.
+         */
+        public static Response fromEntity(Reserve reserve, String memberEmail){
             return Response.builder()
                     .id(reserve.getId())
                     .reserveDateTime(reserve.getReserveTime())
+                    .slotDateTime(reserve.getSlotTime())
+                    .seatNo(reserve.getSeatNo())
                     .reserveStatus(reserve.getReserveStatus())
-                    .memberEmail(reserve.getMember().getEmail())
+                    .memberEmail(memberEmail)
                     .storeName(reserve.getStore().getStoreName())
                     .build();
         }
@@ -3,6 +3,8 @@ package zerobase.reserve.dto;
 import lombok.*;
 import zerobase.reserve.domain.Store;
 
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotEmpty;
 
 
@@ -31,6 +33,20 @@ public class CreateStoreDto {
         @NotEmpty
         private String zipcode;
         private String description;
+
+        /**
+         * 슬롯당 최대 예약 수, 생략 시 Store.DEFAULT_CAPACITY
+         */
+        @Min(1)
+        @Max(Store.MAX_CAPACITY)
+        private Integer capacity;
+
+        /**
+         * 예약 슬롯 길이(분), 생략 시 Store.DEFAULT_SLOT_MINUTES
+         */
+        @Min(1)
+        @Max(1440)
+        private Integer slotMinutes;
     }
 
     @Getter
@@ -47,17 +63,24 @@ public class CreateStoreDto {
         private String street;
         private String zipcode;
         private String description;
+        private int capacity;
+        private int slotMinutes;
 
-        public static Response fromEntity(Store store){
+        /**
+         * @param ownerName 매장 주인 이름 - 매장의 owner 는 조회하지 않은 프록시일 수 있으므로 따로 받는다.
+         */
+        public static Response fromEntity(Store store, String ownerName){
             return Response.builder()
                     .storeId(store.getId())
                     .storeName(store.getStoreName())
-                    .owner(store.getOwner().getName())
+                    .owner(ownerName)
                     .city(store.getAddress().getCity())
                     .legion(store.getAddress().getLegion())
                     .street(store.getAddress().getStreet())
                     .zipcode(store.getAddress().getZipcode())
                     .description(store.getDescription())
+                    .capacity(store.getCapacity())
+                    .slotMinutes(store.getSlotMinutes())
                     .build();
         }
     }
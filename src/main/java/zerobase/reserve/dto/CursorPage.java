@@ -0,0 +1,46 @@
+package zerobase.reserve.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답
+ * 요청한 size 보다 한 건 더 조회하여 다음 페이지 존재 여부를 판단하므로 전체 건수(COUNT) 조회는 하지 않는다.
+ * content - 현재 페이지 목록
+ * nextCursor - 다음 페이지 요청 시 전달할 커서, 마지막 페이지인 경우 null
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    /**
+     * 요청한 페이지 크기를 1 ~ MAX_SIZE 범위로 보정
+     */
+    public static int pageSize(int size){
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    /**
+     * @param rows size + 1 건까지 조회된 목록
+     * @param size 페이지 크기
+     * @param cursorOf 행으로부터 커서를 만드는 함수
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, PageCursor> cursorOf){
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? List.copyOf(rows.subList(0, size)) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(size - 1)).encode() : null;
+
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+}
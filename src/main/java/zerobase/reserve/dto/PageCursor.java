@@ -0,0 +1,101 @@
+package zerobase.reserve.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+import zerobase.reserve.exception.ErrorCode;
+import zerobase.reserve.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 - 이전 페이지 마지막 행의 (정렬 키, id)
+ * 클라이언트에는 내용을 알 수 없도록 base64 로 인코딩된 문자열로 전달한다.
+ * id 로만 정렬하는 목록은 정렬 키가 없다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PageCursor {
+
+    private static final char SEPARATOR = ',';
+
+    private final String sortKey;
+    private final Long id;
+
+    public static PageCursor of(Long id){
+        return new PageCursor(null, id);
+    }
+
+    public static PageCursor of(int sortKey, Long id){
+        return new PageCursor(String.valueOf(sortKey), id);
+    }
+
+    public static PageCursor of(double sortKey, Long id){
+        return new PageCursor(String.valueOf(sortKey), id);
+    }
+
+    public static PageCursor of(LocalDateTime sortKey, Long id){
+        return new PageCursor(sortKey.toString(), id);
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 해석
+     * @param cursor 인코딩된 커서, 첫 페이지는 비어있다.
+     * @return 해석된 커서, 첫 페이지는 null
+     */
+    public static PageCursor decode(String cursor){
+        if (!StringUtils.hasText(cursor)) return null;
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+
+            String sortKey = separator > 0 ? decoded.substring(0, separator) : null;
+            Long id = Long.valueOf(decoded.substring(separator + 1));
+
+            return new PageCursor(sortKey, id);
+        } catch (IllegalArgumentException e){
+            throw new InvalidRequestException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode(){
+        String raw = sortKey == null ? String.valueOf(id) : sortKey + SEPARATOR + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int getSortKeyAsInt(){
+        if (sortKey == null) throw new InvalidRequestException(ErrorCode.INVALID_CURSOR);
+
+        try {
+            return Integer.parseInt(sortKey);
+        } catch (NumberFormatException e){
+            throw new InvalidRequestException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public double getSortKeyAsDouble(){
+        if (sortKey == null) throw new InvalidRequestException(ErrorCode.INVALID_CURSOR);
+
+        try {
+            return Double.parseDouble(sortKey);
+        } catch (NumberFormatException e){
+            throw new InvalidRequestException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public LocalDateTime getSortKeyAsDateTime(){
+        if (sortKey == null) throw new InvalidRequestException(ErrorCode.INVALID_CURSOR);
+
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException e){
+            throw new InvalidRequestException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
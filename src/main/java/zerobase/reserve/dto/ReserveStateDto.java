@@ -0,0 +1,35 @@
+package zerobase.reserve.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import zerobase.reserve.domain.ReserveStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 단건 조회, 상태 변경 전 검증에 필요한 정보 - 예약, 회원, 매장, 점장을 한 번의 쿼리로 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReserveStateDto {
+
+    private Long reserveId;
+    private ReserveStatus reserveStatus;
+    private LocalDateTime reserveTime;
+    private LocalDateTime lastModifiedDate;
+    private LocalDateTime slotTime;
+    private Integer seatNo;
+    private Long memberId;
+    private String memberEmail;
+    private Long storeId;
+    private String storeName;
+    private String ownerEmail;
+
+    public ReserveDto toReserveDto(){
+        return toReserveDto(reserveStatus);
+    }
+
+    public ReserveDto toReserveDto(ReserveStatus reserveStatus){
+        return new ReserveDto(reserveId, reserveTime, reserveStatus, memberEmail, storeName);
+    }
+}
@@ -0,0 +1,35 @@
+package zerobase.reserve.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 매장의 하루 예약 가능 시간 DTO
+ * openSlots - 좌석이 남은 슬롯만 시간 순으로 담는다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class StoreAvailabilityDto {
+
+    private Long storeId;
+    private LocalDate date;
+    private int capacity;
+    private int slotMinutes;
+    private List<Slot> openSlots;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Slot{
+        private LocalDateTime slotTime;
+        private int remaining;
+    }
+}
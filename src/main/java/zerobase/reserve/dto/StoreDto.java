@@ -1,16 +1,22 @@
 package zerobase.reserve.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 import zerobase.reserve.domain.Store;
+import zerobase.reserve.domain.StoreRating;
+
+import java.util.List;
 
 /**
  * 매장 정보 DTO
+ * 평점 정보는 리뷰를 집계하지 않고 매장 평점 집계(StoreRating)에서 가져온다. 평점별 리뷰 수, 조회 수는 매장 상세 조회에만 포함된다.
  */
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@ToString
 public class StoreDto {
 
     private Long storeId;
@@ -20,8 +26,22 @@ public class StoreDto {
     private String city;
     private String street;
     private String description;
+    private double ratingAverage;
+    private long ratingCount;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<Long> ratingHistogram;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long viewCount;
+
+    // 목록 조회 JPQL 프로젝션용
+    public StoreDto(Long storeId, String ownerName, String storeName, String legion, String city, String street,
+                    String description, double ratingAverage, long ratingCount) {
+        this(storeId, ownerName, storeName, legion, city, street, description, ratingAverage, ratingCount, null, null);
+    }
 
-    public static StoreDto fromEntity(Store store){
+    public static StoreDto fromEntity(Store store, StoreRating rating, long viewCount){
         return StoreDto.builder()
                 .storeId(store.getId())
                 .ownerName(store.getOwner().getName())
@@ -30,6 +50,10 @@ public class StoreDto {
                 .legion(store.getAddress().getLegion())
                 .street(store.getAddress().getStreet())
                 .description(store.getDescription())
+                .ratingAverage(rating.getRatingAverage())
+                .ratingCount(rating.getRatingCount())
+                .ratingHistogram(rating.getHistogram())
+                .viewCount(viewCount)
                 .build();
     }
 }
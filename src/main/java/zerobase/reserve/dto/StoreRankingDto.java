@@ -0,0 +1,42 @@
+package zerobase.reserve.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+import zerobase.reserve.ranking.RankedStore;
+import zerobase.reserve.ranking.RankingType;
+
+/**
+ * 매장 순위 DTO - 평점 순위는 평균 평점과 리뷰 수, 예약 순위는 예약 수를 포함한다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StoreRankingDto {
+
+    private int rank;
+    private Long storeId;
+    private String storeName;
+    private String legion;
+    private Double ratingAverage;
+    private Long ratingCount;
+    private Long reserveCount;
+
+    public static StoreRankingDto of(int rank, RankingType type, RankedStore store){
+        StoreRankingDtoBuilder builder = StoreRankingDto.builder()
+                .rank(rank)
+                .storeId(store.getStoreId())
+                .storeName(store.getStoreName())
+                .legion(store.getRegion());
+
+        if (type == RankingType.RATING){
+            builder.ratingAverage(store.getScore()).ratingCount(store.getCount());
+        } else {
+            builder.reserveCount(store.getCount());
+        }
+
+        return builder.build();
+    }
+}
@@ -2,6 +2,10 @@ package zerobase.reserve.dto;
 
 import lombok.*;
 
+/**
+ * 매장 목록 조회 조건
+ * sort - 검색어가 없을 때의 정렬 기준, "rating" 이면 평균 평점 내림차순, 없으면 매장 id 오름차순
+ */
 @Getter
 @Setter
 @AllArgsConstructor
@@ -9,5 +13,16 @@ import lombok.*;
 @Builder
 public class StoreSearchCond {
 
+    public static final String SORT_RATING = "rating";
+
     String keyword;
+    String sort;
+
+    public StoreSearchCond(String keyword) {
+        this.keyword = keyword;
+    }
+
+    public boolean isSortByRating(){
+        return SORT_RATING.equalsIgnoreCase(sort);
+    }
 }
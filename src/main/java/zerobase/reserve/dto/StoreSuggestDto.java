@@ -0,0 +1,25 @@
+package zerobase.reserve.dto;
+
+import lombok.*;
+import zerobase.reserve.search.StoreSuggestion;
+
+/**
+ * 매장 이름 자동완성 DTO
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class StoreSuggestDto {
+
+    private Long storeId;
+    private String storeName;
+
+    public static StoreSuggestDto from(StoreSuggestion suggestion){
+        return StoreSuggestDto.builder()
+                .storeId(suggestion.getStoreId())
+                .storeName(suggestion.getStoreName())
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package zerobase.reserve.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장 정보의 버전 - 매장 수정 시각과 리뷰 수
+ * 리뷰는 추가만 되므로 리뷰 수가 같으면 평점 집계와 리뷰 목록도 같다.
+ * 조건부 조회(ETag)에서 매장, 리뷰를 조회하기 전에 바뀌었는지 판단하는 데 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class StoreVersion {
+
+    private final Long storeId;
+    private final LocalDateTime lastModifiedDate;
+    private final long ratingCount;
+}
@@ -0,0 +1,20 @@
+package zerobase.reserve.dto;
+
+import lombok.*;
+
+/**
+ * 인기 급상승 매장 DTO - score 는 최근 조회, 예약의 가중 빈도 추정값이다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TrendingStoreDto {
+
+    private int rank;
+    private Long storeId;
+    private String storeName;
+    private String legion;
+    private long score;
+}
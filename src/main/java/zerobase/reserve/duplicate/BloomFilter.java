@@ -0,0 +1,101 @@
+package zerobase.reserve.duplicate;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 블룸 필터
+ * mightContain 이 false 이면 추가된 적이 없는 값임이 보장되고, true 이면 거짓 양성일 수 있다.
+ * 비트 배열은 AtomicLongArray 로 관리하므로 별도의 잠금 없이 여러 스레드에서 추가, 조회할 수 있다.
+ * 비트 위치는 64비트 해시 하나를 두 개의 해시로 나누어 (h1 + i * h2) 로 만든다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 원소 수 - 이보다 많이 추가되면 거짓 양성 비율이 올라간다.
+     * @param falsePositiveRate 예상 원소 수만큼 추가되었을 때의 거짓 양성 비율
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1){
+            throw new IllegalArgumentException("invalid bloom filter size : n = " + expectedInsertions + ", p = " + falsePositiveRate);
+        }
+
+        long words = (optimalBitSize(expectedInsertions, falsePositiveRate) + 63) / 64;
+
+        if (words > Integer.MAX_VALUE){
+            throw new IllegalArgumentException("bloom filter too large : n = " + expectedInsertions + ", p = " + falsePositiveRate);
+        }
+
+        this.bits = new AtomicLongArray((int) words);
+        this.bitSize = words * 64;
+        this.hashCount = optimalHashCount(expectedInsertions, bitSize);
+    }
+
+    public void add(String value){
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++){
+            long index = index(h1 + i * h2);
+            long mask = 1L << index;
+
+            bits.getAndAccumulate((int) (index >>> 6), mask, (word, bit) -> word | bit);
+        }
+    }
+
+    public boolean mightContain(String value){
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++){
+            long index = index(h1 + i * h2);
+
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0){
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public long bitSize(){
+        return bitSize;
+    }
+
+    public int hashCount(){
+        return hashCount;
+    }
+
+    private long index(int combined){
+        // 음수가 되지 않도록 부호 비트를 뒤집은 뒤 비트 배열 크기로 나눈다.
+        return (combined < 0 ? ~combined : combined) % bitSize;
+    }
+
+    // FNV-1a 64비트 해시 후 splitmix64 의 마무리 단계로 비트를 섞는다.
+    private static long hash(String value){
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < value.length(); i++){
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+
+        return hash ^ (hash >>> 31);
+    }
+
+    private static long optimalBitSize(long n, double p){
+        return Math.max(64, (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2))));
+    }
+
+    private static int optimalHashCount(long n, long m){
+        return Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    }
+}
@@ -0,0 +1,117 @@
+package zerobase.reserve.duplicate;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import zerobase.reserve.repository.MemberRepository;
+import zerobase.reserve.repository.StoreRepository;
+import zerobase.reserve.transaction.AfterCommit;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiFunction;
+
+/**
+ * 이미 사용 중인 회원 이메일, 매장 이름의 블룸 필터
+ * 회원 가입, 매장 등록 시 필터에 없는 값은 DB 를 조회하지 않고 바로 저장하며, 중복은 DB 유일 제약이 최종적으로 막는다.
+ * 필터에 있을 수도 있는 값만 DB 에서 존재 여부를 확인하여 비밀번호 해시 등 저장 전 작업을 건너뛰고 바로 거절한다.
+ * 기동 시 member, store 테이블로부터 구축되며 가입, 등록 시 커밋 후 갱신된다.
+ * 다른 서버에서 저장된 값은 필터에 없을 수 있지만 이 경우에도 유일 제약 위반으로 거절되므로 결과는 같다.
+ * reserve.duplicate-filter.enabled 가 false 이면 필터를 만들지 않고 항상 DB 유일 제약으로만 판단한다.
+ */
+@Slf4j
+@Component
+public class KnownNameFilter implements SmartInitializingSingleton {
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final MemberRepository memberRepository;
+    private final StoreRepository storeRepository;
+    private final boolean enabled;
+    private final BloomFilter emails;
+    private final BloomFilter storeNames;
+
+    public KnownNameFilter(
+            MemberRepository memberRepository,
+            StoreRepository storeRepository,
+            @Value("${reserve.duplicate-filter.enabled:true}") boolean enabled,
+            @Value("${reserve.duplicate-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${reserve.duplicate-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.memberRepository = memberRepository;
+        this.storeRepository = storeRepository;
+        this.enabled = enabled;
+        this.emails = enabled ? new BloomFilter(expectedInsertions, falsePositiveRate) : null;
+        this.storeNames = enabled ? new BloomFilter(expectedInsertions, falsePositiveRate) : null;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) return;
+
+        long emailCount = load(emails, memberRepository::findEmails);
+        long storeNameCount = load(storeNames, storeRepository::findStoreNames);
+
+        log.info("known name filter built : emails = {}, store names = {}, bits = {}, hashes = {}",
+                emailCount, storeNameCount, emails.bitSize(), emails.hashCount());
+    }
+
+    /**
+     * 이미 가입된 이메일일 수 있는지 확인
+     * @return false 이면 가입된 적 없는 이메일 (필터를 끈 경우에도 false)
+     */
+    public boolean mightContainEmail(String email){
+        return enabled && email != null && emails.mightContain(normalize(email));
+    }
+
+    /**
+     * 이미 등록된 매장 이름일 수 있는지 확인
+     * @return false 이면 등록된 적 없는 매장 이름 (필터를 끈 경우에도 false)
+     */
+    public boolean mightContainStoreName(String storeName){
+        return enabled && storeName != null && storeNames.mightContain(normalize(storeName));
+    }
+
+    /**
+     * 이메일 추가 - 트랜잭션 안에서 호출되면 커밋 이후에 추가한다.
+     */
+    public void addEmailAfterCommit(String email){
+        if (enabled && email != null){
+            AfterCommit.run(() -> emails.add(normalize(email)));
+        }
+    }
+
+    /**
+     * 매장 이름 추가 - 트랜잭션 안에서 호출되면 커밋 이후에 추가한다.
+     */
+    public void addStoreNameAfterCommit(String storeName){
+        if (enabled && storeName != null){
+            AfterCommit.run(() -> storeNames.add(normalize(storeName)));
+        }
+    }
+
+    private long load(BloomFilter filter, BiFunction<String, Integer, List<String>> chunkLoader){
+        String last = null;
+        List<String> chunk;
+        long count = 0;
+
+        do {
+            chunk = chunkLoader.apply(last, LOAD_CHUNK_SIZE);
+
+            for (String value : chunk){
+                filter.add(normalize(value));
+                last = value;
+            }
+
+            count += chunk.size();
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+        return count;
+    }
+
+    // 운영 DB 의 기본 collation 은 대소문자와 뒤쪽 공백을 구분하지 않으므로 필터도 같은 값으로 취급한다.
+    private static String normalize(String value){
+        return value.stripTrailing().toLowerCase(Locale.ROOT);
+    }
+}
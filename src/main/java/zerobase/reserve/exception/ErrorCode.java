@@ -19,7 +19,16 @@ public enum ErrorCode {
     RESERVE_NOT_COMPLETE("방문이 완료된 예약만 리뷰 생성이 가능합니다."),
     CANNOT_CREATE_REVIEW_FROM_REVIEW("예약한지 1주일 전까지만 리뷰를 작성할 수 있습니다."),
     ALREADY_REVIEWED("이미 리뷰한 예약을 다시 리뷰할 수 없습니다."),
-    ILLEGAL_ACCESS("잘못된 접근입니다.");
+    ILLEGAL_ACCESS("잘못된 접근입니다."),
+    SERVER_BUSY("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_CURSOR("잘못된 페이지 커서입니다."),
+    INVALID_SLOT_MINUTES("예약 슬롯 길이(분)는 하루(1440분)를 나누어 떨어지게 하는 값이어야 합니다."),
+    RESERVE_SLOT_FULL("해당 시간대의 예약이 모두 찼습니다."),
+    RESERVE_CONFLICT("동시에 같은 자리에 예약이 들어왔습니다. 다시 시도해주세요."),
+    RESERVE_TIME_OUT_OF_RANGE("예약 시각은 현재 이후부터 예약 가능 기간 안이어야 합니다."),
+    INVALID_DATE("날짜는 yyyy-MM-dd 형식의 오늘부터 예약 가능 기간 안의 날짜여야 합니다."),
+    INVALID_RANKING_TYPE("매장 순위 기준은 rating, reservations 중 하나여야 합니다."),
+    RESERVE_ALREADY_COMPLETE("이미 방문이 완료된 예약입니다.");
 
     private final String description;
 }
@@ -1,9 +1,11 @@
 package zerobase.reserve.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import zerobase.reserve.dto.ErrorResponseDto;
 
@@ -71,6 +73,27 @@ public class GlobalExceptionHandler {
                 .build();
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    public ErrorResponseDto handleInvalidRequestException(InvalidRequestException e){
+        log.error("error occurred error message = {}", e.getErrorMessage());
+
+        return ErrorResponseDto.builder()
+                .errorCode(e.getErrorCode())
+                .errorMessage(e.getErrorMessage())
+                .build();
+    }
+
+    @ExceptionHandler(ServerBusyException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponseDto handleServerBusyException(ServerBusyException e){
+        log.error("error occurred error message = {}", e.getErrorMessage());
+
+        return ErrorResponseDto.builder()
+                .errorCode(e.getErrorCode())
+                .errorMessage(e.getErrorMessage())
+                .build();
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ErrorResponseDto handleMethodArgumentNotValidException(MethodArgumentNotValidException e){
         log.error("validate error occurred");
@@ -0,0 +1,21 @@
+package zerobase.reserve.exception;
+
+import lombok.*;
+
+/**
+ * 페이지 커서 등 요청 파라미터의 형식이 잘못된 경우 발생하는 예외
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class InvalidRequestException extends RuntimeException{
+    private ErrorCode errorCode;
+    private String errorMessage;
+
+    public InvalidRequestException(ErrorCode errorCode){
+        this.errorCode = errorCode;
+        this.errorMessage = errorCode.getDescription();
+    }
+}
@@ -0,0 +1,21 @@
+package zerobase.reserve.exception;
+
+import lombok.*;
+
+/**
+ * 처리 가능한 양을 초과하는 요청이 들어와 작업을 거절할 때 발생하는 예외
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ServerBusyException extends RuntimeException{
+    private ErrorCode errorCode;
+    private String errorMessage;
+
+    public ServerBusyException(ErrorCode errorCode){
+        this.errorCode = errorCode;
+        this.errorMessage = errorCode.getDescription();
+    }
+}
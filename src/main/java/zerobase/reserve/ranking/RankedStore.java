@@ -0,0 +1,33 @@
+package zerobase.reserve.ranking;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Comparator;
+
+/**
+ * 순위표의 매장 항목 - 점수가 높은 순, 같으면 개수가 많은 순, 같으면 매장 id 오름차순으로 정렬된다.
+ * 평점 순위에서 점수는 평균 평점, 개수는 리뷰 수이며 예약 순위에서는 둘 다 예약 수이다.
+ * 매장 id 까지 비교하므로 서로 다른 매장의 항목은 같은 순위가 되지 않는다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class RankedStore {
+
+    static final Comparator<RankedStore> RANKING = Comparator
+            .comparingDouble(RankedStore::getScore).reversed()
+            .thenComparing(Comparator.comparingLong(RankedStore::getCount).reversed())
+            .thenComparing(RankedStore::getStoreId);
+
+    private final Long storeId;
+    private final String storeName;
+    private final String region;
+    private final double score;
+    private final long count;
+
+    RankedStore withScore(double score, long count){
+        return new RankedStore(storeId, storeName, region, score, count);
+    }
+}
@@ -0,0 +1,27 @@
+package zerobase.reserve.ranking;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 매장 순위 기준
+ * - RATING - 평균 평점 순, 같으면 리뷰 수 순
+ * - RESERVATIONS - 예약 수 순
+ */
+@Getter
+@AllArgsConstructor
+public enum RankingType {
+    RATING("rating"),
+    RESERVATIONS("reservations");
+
+    private final String key;
+
+    public static Optional<RankingType> fromKey(String key){
+        return Arrays.stream(values())
+                .filter(type -> type.key.equalsIgnoreCase(key))
+                .findFirst();
+    }
+}
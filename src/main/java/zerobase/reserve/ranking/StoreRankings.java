@@ -0,0 +1,202 @@
+package zerobase.reserve.ranking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import zerobase.reserve.dto.PageCursor;
+import zerobase.reserve.dto.StoreDto;
+import zerobase.reserve.dto.StoreSearchCond;
+import zerobase.reserve.repository.ReserveRepository;
+import zerobase.reserve.repository.StoreRepository;
+import zerobase.reserve.transaction.AfterCommit;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 평점 순, 예약 수 순 매장 순위표
+ * 순위 기준마다 전체 매장과 지역(주소의 legion)별로 매장 항목을 순위대로 정렬한 집합과 그 상위 MAX_SIZE 개 목록을 유지하므로
+ * 상위 K 개 조회는 목록의 앞 K 개를 돌려주는 것으로 끝나며 review, reserve 테이블을 집계하지 않는다.
+ * 기동 시 store, store_rating, reserve 테이블로부터 구축되며 매장 등록, 리뷰 작성, 예약 생성 시 커밋 후 갱신된다.
+ * 갱신은 순위 기준마다 한 번에 하나씩 수행하고, 갱신이 상위 MAX_SIZE 개에 영향을 주면 해당 지역의 상위 MAX_SIZE 개 목록을 새로 만들어 교체한다.
+ * 조회는 잠금 없이 교체된 목록을 읽으므로 갱신 도중에도 매장이 빠지거나 두 번 보이지 않는다.
+ */
+@Slf4j
+@Component
+public class StoreRankings implements SmartInitializingSingleton {
+
+    public static final int TOP_K = 10;
+    public static final int MAX_SIZE = 100;
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    private static final String ALL_REGIONS = "";
+
+    private final StoreRepository storeRepository;
+    private final ReserveRepository reserveRepository;
+    private final Map<RankingType, Ranking> rankings = new EnumMap<>(RankingType.class);
+
+    public StoreRankings(StoreRepository storeRepository, ReserveRepository reserveRepository) {
+        this.storeRepository = storeRepository;
+        this.reserveRepository = reserveRepository;
+
+        for (RankingType type : RankingType.values()){
+            rankings.put(type, new Ranking());
+        }
+    }
+
+    /**
+     * 기동 시 매장을 id 순으로 나누어 읽으며 평점 집계와 매장별 예약 수로 순위표를 구축한다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        Map<Long, Long> reserveCounts = reserveRepository.countByStore();
+        StoreSearchCond cond = new StoreSearchCond();
+        PageCursor cursor = null;
+        List<StoreDto> chunk;
+
+        do {
+            chunk = storeRepository.findStoreDtoList(cond, cursor, LOAD_CHUNK_SIZE);
+
+            for (StoreDto store : chunk){
+                add(store.getStoreId(), store.getStoreName(), store.getLegion(), store.getRatingAverage(),
+                        store.getRatingCount(), reserveCounts.getOrDefault(store.getStoreId(), 0L));
+                cursor = PageCursor.of(store.getStoreId());
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+        log.info("store rankings built : stores = {}", rankings.get(RankingType.RATING).size());
+    }
+
+    /**
+     * 리뷰, 예약이 없는 매장 추가 - 트랜잭션 안에서 호출되면 커밋 이후에 추가한다.
+     */
+    public void addAfterCommit(Long storeId, String storeName, String region){
+        AfterCommit.run(() -> add(storeId, storeName, region, 0, 0, 0));
+    }
+
+    /**
+     * 매장 평점에 리뷰 평점 하나를 반영 - 트랜잭션 안에서 호출되면 커밋 이후에 반영한다.
+     */
+    public void addRatingAfterCommit(Long storeId, int rating){
+        AfterCommit.run(() -> addRating(storeId, rating));
+    }
+
+    /**
+     * 매장 예약 수 1 증가 - 트랜잭션 안에서 호출되면 커밋 이후에 반영한다.
+     */
+    public void increaseReservationsAfterCommit(Long storeId){
+        AfterCommit.run(() -> increaseReservations(storeId));
+    }
+
+    public void add(Long storeId, String storeName, String region,
+                    double ratingAverage, long ratingCount, long reserveCount){
+        String regionKey = normalize(region);
+
+        rankings.get(RankingType.RATING).putIfAbsent(new RankedStore(storeId, storeName, regionKey, ratingAverage, ratingCount));
+        rankings.get(RankingType.RESERVATIONS).putIfAbsent(new RankedStore(storeId, storeName, regionKey, reserveCount, reserveCount));
+    }
+
+    /**
+     * 평균은 store_rating 과 같은 식으로 이전 평균에 새 평점을 반영해 계산한다.
+     */
+    public void addRating(Long storeId, int rating){
+        rankings.get(RankingType.RATING).update(storeId, current -> current.withScore(
+                current.getScore() + (rating - current.getScore()) / (current.getCount() + 1),
+                current.getCount() + 1
+        ));
+    }
+
+    public void increaseReservations(Long storeId){
+        rankings.get(RankingType.RESERVATIONS).update(storeId, current -> current.withScore(
+                current.getCount() + 1, current.getCount() + 1
+        ));
+    }
+
+    /**
+     * 상위 매장 조회
+     * @param type 순위 기준
+     * @param region 지역, 비어있으면 전체 매장
+     * @param limit 최대 개수 (MAX_SIZE 이하)
+     * @return 순위대로 정렬된 매장 항목 리스트
+     */
+    public List<RankedStore> top(RankingType type, String region, int limit){
+        List<RankedStore> top = rankings.get(type).tops.getOrDefault(normalize(region), List.of());
+
+        return top.size() <= limit ? top : top.subList(0, limit);
+    }
+
+    private static String normalize(String region){
+        return StringUtils.hasText(region) ? region.trim() : ALL_REGIONS;
+    }
+
+    /**
+     * 순위 기준 하나의 순위표 - 매장 id 별 현재 항목, 전체(ALL_REGIONS) 및 지역별 정렬된 항목 집합과 조회용 상위 MAX_SIZE 개 목록
+     * 정렬된 항목 집합은 잠금 안에서만 다루고, 조회는 변경되지 않는 상위 목록만 읽는다.
+     */
+    private static class Ranking {
+        private final Map<Long, RankedStore> stores = new HashMap<>();
+        private final Map<String, NavigableSet<RankedStore>> regions = new HashMap<>();
+        private final Map<String, List<RankedStore>> tops = new ConcurrentHashMap<>();
+
+        private synchronized int size(){
+            return stores.size();
+        }
+
+        private synchronized void putIfAbsent(RankedStore store){
+            if (stores.putIfAbsent(store.getStoreId(), store) != null) return;
+
+            for (String region : regionsOf(store)){
+                regions.computeIfAbsent(region, r -> new TreeSet<>(RankedStore.RANKING)).add(store);
+
+                if (isInTop(region, store)){
+                    publish(region);
+                }
+            }
+        }
+
+        private synchronized void update(Long storeId, UnaryOperator<RankedStore> updater){
+            RankedStore current = stores.get(storeId);
+
+            if (current == null) return;
+
+            RankedStore updated = updater.apply(current);
+            stores.put(storeId, updated);
+
+            for (String region : regionsOf(current)){
+                NavigableSet<RankedStore> ranked = regions.get(region);
+                boolean wasInTop = isInTop(region, current);
+
+                ranked.remove(current);
+                ranked.add(updated);
+
+                if (wasInTop || isInTop(region, updated)){
+                    publish(region);
+                }
+            }
+        }
+
+        // 상위 목록이 MAX_SIZE 개를 채우지 못했거나 마지막 항목보다 앞서는 항목만 상위 목록을 바꾼다.
+        private boolean isInTop(String region, RankedStore store){
+            List<RankedStore> top = tops.getOrDefault(region, List.of());
+
+            return top.size() < MAX_SIZE || RankedStore.RANKING.compare(store, top.get(top.size() - 1)) <= 0;
+        }
+
+        private void publish(String region){
+            List<RankedStore> top = new ArrayList<>(MAX_SIZE);
+
+            for (RankedStore store : regions.get(region)){
+                if (top.size() == MAX_SIZE) break;
+
+                top.add(store);
+            }
+
+            tops.put(region, Collections.unmodifiableList(top));
+        }
+
+        private static Set<String> regionsOf(RankedStore store){
+            return new LinkedHashSet<>(List.of(ALL_REGIONS, store.getRegion()));
+        }
+    }
+}
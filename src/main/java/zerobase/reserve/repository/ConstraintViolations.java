@@ -0,0 +1,47 @@
+package zerobase.reserve.repository;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * 저장 중 발생한 제약 위반이 어떤 제약에서 발생했는지 확인하는 도구
+ * 위반한 제약 이름은 DB 마다 형태가 다르다. (MariaDB: member_unique_email, H2: PUBLIC.MEMBER_UNIQUE_EMAIL_INDEX_8)
+ * 그래서 대소문자를 무시하고 제약 이름이 포함되어 있는지로 판단한다.
+ */
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    /**
+     * @param e 저장 중 발생한 예외
+     * @param constraintName 확인할 제약 이름
+     * @return 해당 제약을 위반한 경우 true
+     */
+    public static boolean isViolationOf(DataIntegrityViolationException e, String constraintName) {
+        String expected = constraintName.toLowerCase(Locale.ROOT);
+
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                String violated = ((ConstraintViolationException) cause).getConstraintName();
+
+                if (violated != null) {
+                    return violated.toLowerCase(Locale.ROOT).contains(expected);
+                }
+            }
+        }
+
+        // 드라이버 메시지에서 제약 이름을 꺼내지 못한 경우 예외 메시지로 판단한다.
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(expected)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -2,10 +2,12 @@ package zerobase.reserve.repository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
 import org.springframework.stereotype.Repository;
 import zerobase.reserve.domain.Member;
 
 import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +29,15 @@ public class MemberRepository {
         return member;
     }
 
+    /**
+     * 회원 프록시 조회 - 연관관계 설정에만 쓰이므로 DB 를 조회하지 않는다.
+     * @param memberId 회원 id
+     * @return 회원 엔티티 프록시
+     */
+    public Member getReference(Long memberId){
+        return em.getReference(Member.class, memberId);
+    }
+
     /**
      * 회원 id로 회원 조회
      * @param memberId 조회할 회원의 id
@@ -39,16 +50,33 @@ public class MemberRepository {
     }
 
     /**
-     * 회원 email 로 회원 조회
+     * 회원 email 로 회원 조회 - email 은 natural id 이므로 2차 캐시에 있으면 DB 를 조회하지 않는다.
      * @param email 조회할 회원의 email
      * @return 조회된 회원의 엔티티
      */
     public Optional<Member> findByEmail(String email){
-        List<Member> findMember = em.createQuery("select m from Member m where m.email = :email", Member.class)
-                .setParameter("email", email)
-                .getResultList();
+        if (email == null) return Optional.empty();
 
-        return findMember.stream().findAny();
+        return em.unwrap(Session.class)
+                .bySimpleNaturalId(Member.class)
+                .loadOptional(email);
+    }
+
+    /**
+     * 회원 비밀번호 해시 교체 - 저장된 해시가 expectedPassword 와 같을 때만 반영된다.
+     * 벌크 UPDATE 이므로 Hibernate 가 회원 2차 캐시 영역을 무효화한다.
+     * @param memberId 회원 id
+     * @param expectedPassword 현재 저장되어 있어야 하는 해시
+     * @param newPassword 새 해시
+     * @return 변경된 행 수
+     */
+    public int updatePassword(Long memberId, String expectedPassword, String newPassword){
+        return em.createQuery("update Member m set m.password = :newPassword " +
+                        "where m.id = :memberId and m.password = :expectedPassword")
+                .setParameter("newPassword", newPassword)
+                .setParameter("memberId", memberId)
+                .setParameter("expectedPassword", expectedPassword)
+                .executeUpdate();
     }
 
     public List<Member> findAll(){
@@ -58,11 +86,35 @@ public class MemberRepository {
 
 
     /**
-     * 중복 확인용 함수
+     * 중복 확인용 함수 - 회원 엔티티와 권한을 읽지 않고 email 유일 인덱스만 조회한다.
      * @param email 확인할 이메일
      * @return 해당 이메일이 이미 존재하는 경우 True, 존재하지 않는 경우 False
      */
     public boolean existsByEmail(String email){
-        return findByEmail(email).isPresent();
+        return !em.createQuery("select m.id from Member m where m.email = :email", Long.class)
+                .setParameter("email", email)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+
+    /**
+     * 이메일 순 회원 이메일 목록 조회 - 중복 확인용 블룸 필터 구축에 사용
+     * @param lastEmail 이전 목록의 마지막 이메일, 처음이면 null
+     * @param size 최대 개수
+     * @return lastEmail 다음부터의 이메일 목록
+     */
+    public List<String> findEmails(String lastEmail, int size){
+        TypedQuery<String> query = em.createQuery("select m.email from Member m" +
+                        " where m.email is not null" +
+                        (lastEmail == null ? "" : " and m.email > :lastEmail") +
+                        " order by m.email", String.class)
+                .setMaxResults(size);
+
+        if (lastEmail != null){
+            query.setParameter("lastEmail", lastEmail);
+        }
+
+        return query.getResultList();
     }
 }
@@ -3,11 +3,24 @@ package zerobase.reserve.repository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
+import zerobase.reserve.booking.OccupiedSeat;
+import zerobase.reserve.booking.ReserveDeadline;
+import zerobase.reserve.booking.ReserveSeat;
 import zerobase.reserve.domain.Reserve;
+import zerobase.reserve.domain.ReserveStatus;
+import zerobase.reserve.domain.ReserveTransition;
+import zerobase.reserve.dto.PageCursor;
+import zerobase.reserve.dto.ReserveDto;
+import zerobase.reserve.dto.ReserveStateDto;
 
 import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
 @Slf4j
@@ -32,27 +45,206 @@ public class ReserveRepository {
     }
 
     /**
-     * 주인이 가지고 있는 모든 가계들에 대한 예약을 가져오는 메서드
+     * 예약 단건 조회, 상태 변경 전 검증에 필요한 정보를 한 번의 쿼리로 조회
+     * 예약한 회원과 매장 점장의 이메일을 함께 가져오므로 존재 여부와 접근 권한을 한 번의 왕복으로 판단할 수 있다.
+     * @param reserveId 예약 id
+     * @return 예약 상태 정보
+     */
+    public Optional<ReserveStateDto> findStateById(Long reserveId){
+        return em.createQuery("select new zerobase.reserve.dto.ReserveStateDto(r.id, r.reserveStatus, r.reserveTime," +
+                        " r.lastModifiedDate, r.slotTime, r.seatNo, m.id, m.email, s.id, s.storeName, o.email)" +
+                        " from Reserve r join r.member m join r.store s left join s.owner o where r.id = :reserveId",
+                        ReserveStateDto.class)
+                .setParameter("reserveId", reserveId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    /**
+     * 예약 상태 전이 - 현재 상태가 전이 가능한 상태일 때만 변경하는 조건부 UPDATE
+     * 취소로 전이하면 좌석 번호도 비운다. 벌크 UPDATE 이므로 수정 시각을 직접 넣고,
+     * 영속성 컨텍스트에 남아있는 이전 상태의 예약 엔티티는 분리하여 이후 조회 시 다시 읽도록 한다.
+     * @param reserveId 예약 id
+     * @param transition 상태 전이
+     * @param now 수정 시각
+     * @return 변경된 경우 True, 그 사이 다른 요청이 상태를 바꿔 조건에 맞지 않으면 False
+     */
+    public boolean changeStatus(Long reserveId, ReserveTransition transition, LocalDateTime now){
+        String seat = transition.getTo() == ReserveStatus.CANCEL ? ", r.seatNo = null" : "";
+
+        int updated = em.createQuery("update Reserve r set r.reserveStatus = :to, r.lastModifiedDate = :now" + seat +
+                        " where r.id = :reserveId and r.reserveStatus in :from")
+                .setParameter("to", transition.getTo())
+                .setParameter("now", now)
+                .setParameter("reserveId", reserveId)
+                .setParameter("from", transition.getFrom())
+                .executeUpdate();
+
+        em.detach(em.getReference(Reserve.class, reserveId));
+
+        return updated == 1;
+    }
+
+    /**
+     * 예약의 현재 상태 조회
+     */
+    public Optional<ReserveStatus> findStatusById(Long reserveId){
+        return em.createQuery("select r.reserveStatus from Reserve r where r.id = :reserveId", ReserveStatus.class)
+                .setParameter("reserveId", reserveId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    /**
+     * 파트너 회원의 매장에 들어온 예약 목록을 DTO 로 바로 조회 - (예약 시간, 예약 id) 기준 키셋 페이지네이션
+     * 엔티티를 거치지 않으므로 회원 권한 컬렉션(EAGER) 등 연관 엔티티에 대한 추가 쿼리 없이 한 번의 쿼리로 조회된다.
      * @param ownerEmail 파트너 회원의 이메일
-     * @return 입력으로 받은 파트너 회원이 가진 모든 가계들에 들어온 모든 예약 데이터 리스트
+     * @param cursor 이전 페이지의 마지막 예약 커서, 첫 페이지는 null
+     * @param size 조회할 예약 수
+     * @return 예약 정보 DTO 리스트 (예약 시간 오름차순)
+     */
+    public List<ReserveDto> findReserveDtoByStoreOwnerEmail(String ownerEmail, PageCursor cursor, int size){
+        return findReserveDtoPage("select new zerobase.reserve.dto.ReserveDto(r.id, r.reserveTime, r.reserveStatus, m.email, s.storeName)" +
+                " from Reserve r join r.member m join r.store s join s.owner o" +
+                " where o.email = :email", ownerEmail, cursor, size);
+    }
+
+    /**
+     * 회원이 예약한 내역을 DTO 로 바로 조회 - 한 번의 쿼리로 조회되며 (예약 시간, 예약 id) 기준 키셋 페이지네이션
+     * @param memberEmail 회원 이메일
+     * @param cursor 이전 페이지의 마지막 예약 커서, 첫 페이지는 null
+     * @param size 조회할 예약 수
+     * @return 예약 정보 DTO 리스트 (예약 시간 오름차순)
+     */
+    public List<ReserveDto> findReserveDtoByMemberEmail(String memberEmail, PageCursor cursor, int size){
+        return findReserveDtoPage("select new zerobase.reserve.dto.ReserveDto(r.id, r.reserveTime, r.reserveStatus, m.email, s.storeName)" +
+                " from Reserve r join r.member m join r.store s" +
+                " where m.email = :email", memberEmail, cursor, size);
+    }
+
+    /**
+     * 매장별 예약 수 조회 - 자동완성 인기도 계산에 사용한다.
+     * @return 매장 id 별 예약 수
+     */
+    public Map<Long, Long> countByStore(){
+        return em.createQuery("select r.store.id, count(r) from Reserve r group by r.store.id", Object[].class)
+                .getResultList().stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+    }
+
+    /**
+     * 매장의 기간 내 슬롯에서 좌석을 잡고 있는 예약 조회 - 예약 엔진의 하루치 좌석 현황을 만들 때 사용한다.
+     * 취소된 예약은 좌석 번호가 비어있으므로 조회되지 않고, 좌석 번호 없이 남은 V3 이전 예약은 좌석 번호를 null 로 조회한다.
+     * @param storeId 매장 id
+     * @param from 시작 시각 (포함)
+     * @param to 끝 시각 (미포함)
+     * @return (슬롯, 좌석) 리스트
      */
-    public List<Reserve> findByStoreOwnerEmail(String ownerEmail){
-        return em.createQuery("select r from Reserve r join r.store s join s.owner m on m.email = :ownerId",
-                Reserve.class)
-                .setParameter("ownerId", ownerEmail)
+    public List<OccupiedSeat> findOccupiedSeats(Long storeId, LocalDateTime from, LocalDateTime to){
+        return em.createQuery("select new zerobase.reserve.booking.OccupiedSeat(r.slotTime, r.seatNo) from Reserve r" +
+                        " where r.store.id = :storeId and r.slotTime >= :from and r.slotTime < :to" +
+                        " and (r.seatNo is not null or r.reserveStatus <> :cancel)",
+                        OccupiedSeat.class)
+                .setParameter("storeId", storeId)
+                .setParameter("cancel", ReserveStatus.CANCEL)
+                .setParameter("from", from)
+                .setParameter("to", to)
                 .getResultList();
     }
 
-    // 고객은 자신이 예약한 내역들을 모두 확인할 수 있어야 한다.
+    /**
+     * 예약 시각이 기간 안에 있는 유효한 예약 조회 - (예약 시각, 예약 id) 기준 키셋으로 나누어 조회한다.
+     * @param from 시작 시각 (미포함)
+     * @param to 끝 시각 (포함)
+     * @param last 이전 조회의 마지막 예약, 처음은 null
+     * @param size 조회할 예약 수
+     * @return 예약 id, 예약 시각 리스트 (예약 시각 오름차순)
+     */
+    public List<ReserveDeadline> findValidDeadlines(LocalDateTime from, LocalDateTime to, ReserveDeadline last, int size){
+        String jpql = "select new zerobase.reserve.booking.ReserveDeadline(r.id, r.reserveTime) from Reserve r" +
+                " where r.reserveStatus = :status and r.reserveTime > :from and r.reserveTime <= :to";
+
+        if (last != null){
+            jpql += " and (r.reserveTime > :lastTime or (r.reserveTime = :lastTime and r.id > :lastId))";
+        }
+
+        TypedQuery<ReserveDeadline> query = em.createQuery(jpql + " order by r.reserveTime, r.id", ReserveDeadline.class)
+                .setParameter("status", ReserveStatus.VALID)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setMaxResults(size);
+
+        if (last != null){
+            query.setParameter("lastTime", last.getReserveTime())
+                    .setParameter("lastId", last.getReserveId());
+        }
+
+        return query.getResultList();
+    }
 
     /**
-     * 회원 자신이 예약한 내역들을 모두 확인 가능
-     * @param memberEmail 회원 이메일
-     * @return 회원이 수행한 예약 리스트들
+     * 예약 시각이 cutoff 이전인 유효한 예약을 id 순으로 조회
+     * @param cutoff 기준 시각 (포함)
+     * @param size 조회할 예약 수
+     * @return 예약과 좌석 정보 리스트
      */
-    public List<Reserve> findByMemberEmail(String memberEmail){
-        return em.createQuery("select r from Reserve r join r.member on r.member.email = :memberEmail", Reserve.class)
-                .setParameter("memberEmail", memberEmail)
+    public List<ReserveSeat> findValidReserveSeatsBefore(LocalDateTime cutoff, int size){
+        return em.createQuery("select new zerobase.reserve.booking.ReserveSeat(r.id, r.store.id, r.reserveTime, r.slotTime, r.seatNo)" +
+                        " from Reserve r where r.reserveStatus = :status and r.reserveTime <= :cutoff order by r.id",
+                        ReserveSeat.class)
+                .setParameter("status", ReserveStatus.VALID)
+                .setParameter("cutoff", cutoff)
+                .setMaxResults(size)
                 .getResultList();
     }
+
+    /**
+     * 주어진 예약 중 아직 유효하고 예약 시각이 cutoff 이전인 예약 조회
+     * @param reserveIds 예약 id 목록
+     * @param cutoff 기준 시각 (포함)
+     * @return 예약과 좌석 정보 리스트
+     */
+    public List<ReserveSeat> findValidReserveSeats(Collection<Long> reserveIds, LocalDateTime cutoff){
+        return em.createQuery("select new zerobase.reserve.booking.ReserveSeat(r.id, r.store.id, r.reserveTime, r.slotTime, r.seatNo)" +
+                        " from Reserve r where r.id in :reserveIds and r.reserveStatus = :status and r.reserveTime <= :cutoff",
+                        ReserveSeat.class)
+                .setParameter("reserveIds", reserveIds)
+                .setParameter("status", ReserveStatus.VALID)
+                .setParameter("cutoff", cutoff)
+                .getResultList();
+    }
+
+    /**
+     * 유효한 예약들을 한 번에 취소 상태로 변경하고 좌석을 비운다.
+     * 벌크 UPDATE 이므로 영속성 컨텍스트와 수정 시각 감사(auditing)를 거치지 않아 수정 시각을 직접 넣는다.
+     * @param reserveIds 예약 id 목록
+     * @param now 수정 시각
+     * @return 변경된 행 수
+     */
+    public int cancelValidReserves(Collection<Long> reserveIds, LocalDateTime now){
+        return em.createQuery("update Reserve r set r.reserveStatus = :cancel, r.seatNo = null, r.lastModifiedDate = :now" +
+                        " where r.id in :reserveIds and r.reserveStatus = :valid")
+                .setParameter("cancel", ReserveStatus.CANCEL)
+                .setParameter("now", now)
+                .setParameter("reserveIds", reserveIds)
+                .setParameter("valid", ReserveStatus.VALID)
+                .executeUpdate();
+    }
+
+    private List<ReserveDto> findReserveDtoPage(String jpql, String email, PageCursor cursor, int size){
+        if (cursor != null){
+            jpql += " and (r.reserveTime > :lastTime or (r.reserveTime = :lastTime and r.id > :lastId))";
+        }
+
+        TypedQuery<ReserveDto> query = em.createQuery(jpql + " order by r.reserveTime, r.id", ReserveDto.class)
+                .setParameter("email", email)
+                .setMaxResults(size);
+
+        if (cursor != null){
+            query.setParameter("lastTime", cursor.getSortKeyAsDateTime())
+                    .setParameter("lastId", cursor.getId());
+        }
+
+        return query.getResultList();
+    }
 }
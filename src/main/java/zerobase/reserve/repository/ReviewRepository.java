@@ -4,8 +4,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 import zerobase.reserve.domain.Review;
+import zerobase.reserve.dto.PageCursor;
 
 import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,35 +36,52 @@ public class ReviewRepository {
     }
 
     /**
-     * 매장의 id를 통해 리뷰 조회
+     * 매장의 id를 통해 리뷰 조회 - 리뷰 id 기준 키셋 페이지네이션
+     * (store_id, review_id) 인덱스를 타므로 매장의 리뷰 수와 무관하게 size 만큼만 읽는다.
      * @param storeId 리뷰를 조회할 매장의 id
-     * @return 해당 매장에 등록된 리뷰 리스트
+     * @param cursor 이전 페이지의 마지막 리뷰 커서, 첫 페이지는 null
+     * @param size 조회할 리뷰 수
+     * @return 해당 매장에 등록된 리뷰 리스트 (리뷰 id 오름차순)
      */
-    public List<Review> findByStoreId(Long storeId){
-        return em.createQuery("select r from Review r join Store s on s.id = :storeId", Review.class)
-                .setParameter("storeId", storeId)
-                .getResultList();
+    public List<Review> findByStoreId(Long storeId, PageCursor cursor, int size){
+        return findPage("select r from Review r where r.store.id = :key", storeId, cursor, size);
     }
 
     /**
-     * 회원이 등록한 리뷰 조회
+     * 회원이 등록한 리뷰 조회 - 리뷰 id 기준 키셋 페이지네이션
      * @param userEmail 확인할 회원의 이메일
+     * @param cursor 이전 페이지의 마지막 리뷰 커서, 첫 페이지는 null
+     * @param size 조회할 리뷰 수
      * @return 회원이 등록한 리뷰 리스트
      */
-    public List<Review> findByUserEmail(String userEmail){
-        return em.createQuery("select r from Review r join r.member m on m.email = :userEmail", Review.class)
-                .setParameter("userEmail", userEmail)
-                .getResultList();
+    public List<Review> findByUserEmail(String userEmail, PageCursor cursor, int size){
+        return findPage("select r from Review r join r.member m where m.email = :key", userEmail, cursor, size);
     }
 
     /**
-     * 자신의 매장에 들어온 모든 리뷰 조회
+     * 자신의 매장에 들어온 모든 리뷰 조회 - 리뷰 id 기준 키셋 페이지네이션
      * @param ownerEmail 확인할 파트너 회원의 이메일
+     * @param cursor 이전 페이지의 마지막 리뷰 커서, 첫 페이지는 null
+     * @param size 조회할 리뷰 수
      * @return 파트너 회원의 매장에 등록한 리뷰 리스트
      */
-    public List<Review> findByOwnerEmail(String ownerEmail){
-        return em.createQuery("select r from Review r join r.store s on s.owner.email = :ownerEmail", Review.class)
-                .setParameter("ownerEmail", ownerEmail)
-                .getResultList();
+    public List<Review> findByOwnerEmail(String ownerEmail, PageCursor cursor, int size){
+        return findPage("select r from Review r join r.store s join s.owner o where o.email = :key", ownerEmail, cursor, size);
+    }
+
+    private List<Review> findPage(String jpql, Object key, PageCursor cursor, int size){
+        if (cursor != null){
+            jpql += " and r.id > :lastId";
+        }
+
+        TypedQuery<Review> query = em.createQuery(jpql + " order by r.id", Review.class)
+                .setParameter("key", key)
+                .setMaxResults(size);
+
+        if (cursor != null){
+            query.setParameter("lastId", cursor.getId());
+        }
+
+        return query.getResultList();
     }
 }
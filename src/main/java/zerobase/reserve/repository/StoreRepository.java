@@ -2,11 +2,21 @@ package zerobase.reserve.repository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
 import org.springframework.stereotype.Repository;
 import zerobase.reserve.domain.Store;
+import zerobase.reserve.domain.StoreRating;
+import zerobase.reserve.domain.StoreViewCount;
+import zerobase.reserve.dto.PageCursor;
+import zerobase.reserve.dto.StoreDto;
 import zerobase.reserve.dto.StoreSearchCond;
+import zerobase.reserve.dto.StoreVersion;
+import zerobase.reserve.search.StoreDocument;
 
 import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,54 +25,242 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class StoreRepository {
 
+    private static final String STORE_DTO_SELECT = "select new zerobase.reserve.dto.StoreDto(s.id, o.name, s.storeName," +
+            " s.address.legion, s.address.city, s.address.street, s.description, r.ratingAverage, r.ratingCount)" +
+            " from Store s left join s.owner o join StoreRating r on r.storeId = s.id";
+
     private final EntityManager em;
 
     /**
-     * 매장 엔티티 저장
+     * 매장 엔티티 저장 - 리뷰가 없는 평점 집계를 함께 저장한다.
      * @param store 저장할 매장 엔티티
      * @return 저장된 매장 엔티티
      */
     public Store save(Store store){
         em.persist(store);
+        em.persist(new StoreRating(store));
+        em.persist(new StoreViewCount(store));
 
         return store;
     }
 
+    /**
+     * 매장 버전 조회 - 매장, 평점 집계 엔티티를 읽지 않고 수정 시각과 리뷰 수만 조회한다.
+     * @param storeId 매장 id
+     * @return 매장 버전
+     */
+    public Optional<StoreVersion> findVersion(Long storeId){
+        return em.createQuery("select new zerobase.reserve.dto.StoreVersion(s.id, s.lastModifiedDate, r.ratingCount)" +
+                        " from Store s join StoreRating r on r.storeId = s.id where s.id = :storeId", StoreVersion.class)
+                .setParameter("storeId", storeId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    /**
+     * 매장 평점 집계 조회
+     * @param storeId 매장 id
+     * @return 평점 집계
+     */
+    public Optional<StoreRating> findRating(Long storeId){
+        return Optional.ofNullable(em.find(StoreRating.class, storeId));
+    }
+
+    /**
+     * 반영된 매장 상세 조회 수 - 아직 반영되지 않은 조회 수는 StoreViewCounter 에 있다.
+     * @param storeId 매장 id
+     * @return 조회 수, 매장이 없으면 0
+     */
+    public long findViewCount(Long storeId){
+        StoreViewCount viewCount = em.find(StoreViewCount.class, storeId);
+
+        return viewCount == null ? 0 : viewCount.getViewCount();
+    }
+
+    /**
+     * 매장 평점 집계에 리뷰 평점 하나를 더한다 - 합계, 개수, 평균, 평점별 개수를 산술 UPDATE 한 번으로 갱신한다.
+     * 평균은 실수 컬럼인 이전 평균에 새 평점을 반영하는 식으로 계산해 DB 마다 다른 정수 나눗셈 규칙을 피하고,
+     * 갱신 전 개수를 쓰도록 맨 앞에 둔다. (MySQL 계열은 SET 절을 앞에서부터 적용하며 앞서 바뀐 값을 참조한다.)
+     * @param storeId 매장 id
+     * @param rating 리뷰 평점 (StoreRating.MIN_RATING ~ MAX_RATING)
+     * @return 갱신 여부
+     */
+    public boolean addRating(Long storeId, int rating){
+        if (rating < StoreRating.MIN_RATING || rating > StoreRating.MAX_RATING){
+            throw new IllegalArgumentException("rating out of range : " + rating);
+        }
+
+        String bucket = "r.rating" + rating;
+
+        return em.createQuery("update StoreRating r set" +
+                        " r.ratingAverage = r.ratingAverage + (:ratingValue - r.ratingAverage) / (r.ratingCount + 1)," +
+                        " r.ratingSum = r.ratingSum + :rating," +
+                        " r.ratingCount = r.ratingCount + 1," +
+                        " " + bucket + " = " + bucket + " + 1" +
+                        " where r.storeId = :storeId")
+                .setParameter("ratingValue", (double) rating)
+                .setParameter("rating", (long) rating)
+                .setParameter("storeId", storeId)
+                .executeUpdate() > 0;
+    }
+
     public Optional<Store> findById(Long storeId){
         Store store = em.find(Store.class, storeId);
 
         return Optional.ofNullable(store);
     }
 
-    public List<Store> findAll(StoreSearchCond cond){
-        String jpql = "select s from Store s";
-        boolean isCondHasKeyword = false;
+    /**
+     * 매장 프록시 조회 - 연관관계 설정에만 쓰이므로 DB 를 조회하지 않는다.
+     * @param storeId 매장 id
+     * @return 매장 엔티티 프록시
+     */
+    public Store getReference(Long storeId){
+        return em.getReference(Store.class, storeId);
+    }
+
+    /**
+     * 매장 목록 조회 - 매장 id 기준 키셋 페이지네이션
+     * @param cond 검색 조건, 키워드가 있으면 매장 이름에 키워드가 포함된 매장만 조회
+     * @param cursor 이전 페이지의 마지막 매장 커서, 첫 페이지는 null
+     * @param size 조회할 매장 수
+     * @return 매장 엔티티 리스트 (매장 id 오름차순)
+     */
+    public List<Store> findAll(StoreSearchCond cond, PageCursor cursor, int size){
+        return findPage("select s from Store s", Store.class, cond, cursor, size);
+    }
+
+    /**
+     * 매장 목록을 DTO 로 바로 조회 - 점주 정보를 함께 가져오므로 한 번의 쿼리로 조회된다.
+     * @param cond 검색 조건
+     * @param cursor 이전 페이지의 마지막 매장 커서, 첫 페이지는 null
+     * @param size 조회할 매장 수
+     * @return 매장 정보 DTO 리스트 (매장 id 오름차순)
+     */
+    public List<StoreDto> findStoreDtoList(StoreSearchCond cond, PageCursor cursor, int size){
+        return findPage(STORE_DTO_SELECT, StoreDto.class, cond, cursor, size);
+    }
+
+    /**
+     * 매장 목록을 평균 평점 내림차순으로 조회 - (평균 평점, 매장 id) 키셋 페이지네이션
+     * 리뷰를 집계하지 않고 store_rating 의 (rating_average, store_id) 인덱스를 역순으로 읽는다.
+     * @param cursor 이전 페이지의 마지막 매장 커서(평균 평점, 매장 id), 첫 페이지는 null
+     * @param size 조회할 매장 수
+     * @return 매장 정보 DTO 리스트 (평균 평점, 매장 id 내림차순)
+     */
+    public List<StoreDto> findStoreDtoListOrderByRating(PageCursor cursor, int size){
+        String where = cursor == null ? ""
+                : " where r.ratingAverage < :lastAverage or (r.ratingAverage = :lastAverage and s.id < :lastId)";
+
+        TypedQuery<StoreDto> query = em.createQuery(STORE_DTO_SELECT + where +
+                        " order by r.ratingAverage desc, s.id desc", StoreDto.class)
+                .setMaxResults(size);
 
-        if (cond.getKeyword() != null && !cond.getKeyword().equals("")){
-            isCondHasKeyword = true;
-            jpql += " where s.storeName like :cond";
+        if (cursor != null){
+            query.setParameter("lastAverage", cursor.getSortKeyAsDouble());
+            query.setParameter("lastId", cursor.getId());
         }
 
+        return query.getResultList();
+    }
+
+    /**
+     * 매장 id 목록으로 매장 정보 DTO 조회 - 검색 색인으로 찾은 매장 정보를 가져올 때 사용한다.
+     * @param storeIds 조회할 매장 id 목록
+     * @return 매장 정보 DTO 리스트 (순서는 보장하지 않는다.)
+     */
+    public List<StoreDto> findStoreDtoByIds(Collection<Long> storeIds){
+        if (storeIds.isEmpty()) return List.of();
+
+        return em.createQuery(STORE_DTO_SELECT + " where s.id in :storeIds", StoreDto.class)
+                .setParameter("storeIds", storeIds)
+                .getResultList();
+    }
+
+    /**
+     * 검색 색인 구축용 매장 정보 조회 - 매장 id 순으로 나누어 조회한다.
+     * @param lastStoreId 이전에 조회한 마지막 매장 id, 처음 조회 시 null
+     * @param size 조회할 매장 수
+     * @return 색인 대상 매장 정보 리스트
+     */
+    public List<StoreDocument> findStoreDocuments(Long lastStoreId, int size){
+        return em.createQuery("select new zerobase.reserve.search.StoreDocument(s.id, s.storeName, s.description)" +
+                        " from Store s where s.id > :lastStoreId order by s.id", StoreDocument.class)
+                .setParameter("lastStoreId", lastStoreId == null ? 0L : lastStoreId)
+                .setMaxResults(size)
+                .getResultList();
+    }
+
+    private <T> List<T> findPage(String select, Class<T> resultClass, StoreSearchCond cond, PageCursor cursor, int size){
+        boolean isCondHasKeyword = cond.getKeyword() != null && !cond.getKeyword().equals("");
+        List<String> where = new ArrayList<>();
+
         if (isCondHasKeyword){
-            return em.createQuery(jpql, Store.class)
-                    .setParameter("cond", "%" + cond.getKeyword() + "%")
-                    .getResultList();
+            where.add("s.storeName like :cond");
         }
 
-        return em.createQuery(jpql, Store.class)
-                .getResultList();
+        if (cursor != null){
+            where.add("s.id > :lastId");
+        }
+
+        String jpql = where.isEmpty() ? select : select + " where " + String.join(" and ", where);
+        TypedQuery<T> query = em.createQuery(jpql + " order by s.id", resultClass)
+                .setMaxResults(size);
+
+        if (isCondHasKeyword){
+            query.setParameter("cond", "%" + cond.getKeyword() + "%");
+        }
+
+        if (cursor != null){
+            query.setParameter("lastId", cursor.getId());
+        }
+
+        return query.getResultList();
     }
 
     /**
-     * 매장 이름으로 매장 엔티티 조회
+     * 매장 이름으로 매장 엔티티 조회 - 매장 이름은 natural id 이므로 2차 캐시에 있으면 DB 를 조회하지 않는다.
      * @param storeName 조회할 매장의 이름
      * @return 해당 매장의 엔티티
      */
     public Optional<Store> findByStoreName(String storeName){
-        List<Store> findByStoreName = em.createQuery("select s from Store s where s.storeName = :storeName", Store.class)
+        if (storeName == null) return Optional.empty();
+
+        return em.unwrap(Session.class)
+                .bySimpleNaturalId(Store.class)
+                .loadOptional(storeName);
+    }
+
+    /**
+     * 중복 확인용 함수 - 매장 엔티티를 읽지 않고 매장 이름 유일 인덱스만 조회한다.
+     * @param storeName 확인할 매장 이름
+     * @return 해당 이름의 매장이 이미 존재하는 경우 True, 존재하지 않는 경우 False
+     */
+    public boolean existsByStoreName(String storeName){
+        return !em.createQuery("select s.id from Store s where s.storeName = :storeName", Long.class)
                 .setParameter("storeName", storeName)
-                .getResultList();
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+
+    /**
+     * 이름 순 매장 이름 목록 조회 - 중복 확인용 블룸 필터 구축에 사용
+     * @param lastStoreName 이전 목록의 마지막 매장 이름, 처음이면 null
+     * @param size 최대 개수
+     * @return lastStoreName 다음부터의 매장 이름 목록
+     */
+    public List<String> findStoreNames(String lastStoreName, int size){
+        TypedQuery<String> query = em.createQuery("select s.storeName from Store s" +
+                        " where s.storeName is not null" +
+                        (lastStoreName == null ? "" : " and s.storeName > :lastStoreName") +
+                        " order by s.storeName", String.class)
+                .setMaxResults(size);
+
+        if (lastStoreName != null){
+            query.setParameter("lastStoreName", lastStoreName);
+        }
 
-        return findByStoreName.stream().findAny();
+        return query.getResultList();
     }
 }
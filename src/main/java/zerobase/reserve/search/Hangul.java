@@ -0,0 +1,36 @@
+package zerobase.reserve.search;
+
+/**
+ * 한글 음절 처리 유틸리티
+ */
+public final class Hangul {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private Hangul() {
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꾼 문자열 - 한글 음절이 아닌 문자는 그대로 둔다. ("서강 bar" -> "ㅅㄱ bar")
+     */
+    public static String toChosung(String text){
+        StringBuilder sb = new StringBuilder(text.length());
+
+        for (int i = 0; i < text.length(); i++){
+            char c = text.charAt(i);
+            sb.append(isSyllable(c) ? CHOSUNG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG] : c);
+        }
+
+        return sb.toString();
+    }
+
+    public static boolean isSyllable(char c){
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
@@ -0,0 +1,16 @@
+package zerobase.reserve.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 색인 대상 매장 정보 - 색인 구축 시 매장 엔티티 대신 필요한 컬럼만 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class StoreDocument {
+
+    private Long storeId;
+    private String storeName;
+    private String description;
+}
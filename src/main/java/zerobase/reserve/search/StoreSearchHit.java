@@ -0,0 +1,31 @@
+package zerobase.reserve.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Comparator;
+
+/**
+ * 매장 검색 결과 - 매장 id 와 점수
+ * 점수가 높은 순, 점수가 같으면 매장 id 오름차순으로 정렬된다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class StoreSearchHit {
+
+    public static final Comparator<StoreSearchHit> RANKING = Comparator
+            .comparingInt(StoreSearchHit::getScore).reversed()
+            .thenComparing(StoreSearchHit::getStoreId);
+
+    private final Long storeId;
+    private final int score;
+
+    /**
+     * 정렬 순서상 (score, storeId) 위치보다 뒤에 있는지 확인 - 커서 이후의 결과를 찾을 때 사용한다.
+     */
+    public boolean isAfter(int score, Long storeId){
+        return this.score < score || (this.score == score && this.storeId > storeId);
+    }
+}
@@ -0,0 +1,166 @@
+package zerobase.reserve.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import zerobase.reserve.repository.StoreRepository;
+import zerobase.reserve.transaction.AfterCommit;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 매장 이름, 설명에 대한 n-gram 역색인
+ * 공백을 제거하고 소문자로 바꾼 문자열의 1 ~ 3 글자 조각마다 해당 조각을 포함하는 매장 id 목록을 유지한다.
+ * 3 글자 이하 검색어는 조각 하나로 바로 찾고, 더 긴 검색어는 3 글자 조각들의 교집합을 구한 뒤 실제 포함 여부를 확인한다.
+ * 기동 시 store 테이블로부터 구축되며 이후 등록되는 매장은 트랜잭션 커밋 후 추가된다.
+ *
+ * 점수 - 이름 일치(4) > 이름 시작(3) > 이름 포함(2) > 설명 포함(1)
+ */
+@Slf4j
+@Component
+public class StoreSearchIndex implements SmartInitializingSingleton {
+
+    private static final int MAX_GRAM = 3;
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final StoreRepository storeRepository;
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, IndexedStore> stores = new ConcurrentHashMap<>();
+
+    public StoreSearchIndex(StoreRepository storeRepository) {
+        this.storeRepository = storeRepository;
+    }
+
+    /**
+     * 기동 시 store 테이블 전체를 id 순으로 나누어 읽어 색인을 구축한다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        Long lastStoreId = null;
+        List<StoreDocument> chunk;
+
+        do {
+            chunk = storeRepository.findStoreDocuments(lastStoreId, LOAD_CHUNK_SIZE);
+            chunk.forEach(this::add);
+
+            if (!chunk.isEmpty()){
+                lastStoreId = chunk.get(chunk.size() - 1).getStoreId();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+        log.info("store search index built : stores = {}, grams = {}", stores.size(), postings.size());
+    }
+
+    /**
+     * 매장 색인 추가 - 트랜잭션 안에서 호출되면 커밋이 완료된 이후에 추가하여 롤백된 매장이 검색되지 않도록 한다.
+     * @param document 색인할 매장 정보
+     */
+    public void addAfterCommit(StoreDocument document){
+        AfterCommit.run(() -> add(document));
+    }
+
+    public void add(StoreDocument document){
+        IndexedStore store = new IndexedStore(normalize(document.getStoreName()), normalize(document.getDescription()));
+        stores.put(document.getStoreId(), store);
+
+        Set<String> grams = grams(store.name);
+        grams.addAll(grams(store.description));
+
+        for (String gram : grams){
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(document.getStoreId());
+        }
+    }
+
+    /**
+     * 검색어를 이름 또는 설명에 포함하는 매장 검색
+     * @param keyword 검색어
+     * @return 점수 순으로 정렬된 검색 결과
+     */
+    public List<StoreSearchHit> search(String keyword){
+        String query = normalize(keyword);
+
+        if (query.isEmpty()) return List.of();
+
+        List<StoreSearchHit> hits = new ArrayList<>();
+
+        for (Long storeId : candidates(query)){
+            IndexedStore store = stores.get(storeId);
+            int score = store == null ? 0 : store.score(query);
+
+            if (score > 0){
+                hits.add(new StoreSearchHit(storeId, score));
+            }
+        }
+
+        hits.sort(StoreSearchHit.RANKING);
+
+        return hits;
+    }
+
+    public int size(){
+        return stores.size();
+    }
+
+    private Collection<Long> candidates(String query){
+        if (query.length() <= MAX_GRAM){
+            return postings.getOrDefault(query, Set.of());
+        }
+
+        // 가장 짧은 목록부터 교집합을 구해 비교 횟수를 줄인다.
+        List<Set<Long>> lists = new ArrayList<>();
+
+        for (int i = 0; i + MAX_GRAM <= query.length(); i++){
+            Set<Long> posting = postings.get(query.substring(i, i + MAX_GRAM));
+
+            if (posting == null) return List.of();
+
+            lists.add(posting);
+        }
+
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        return lists.get(0).stream()
+                .filter(storeId -> lists.stream().allMatch(posting -> posting.contains(storeId)))
+                .collect(Collectors.toList());
+    }
+
+    private static Set<String> grams(String text){
+        Set<String> grams = new HashSet<>();
+
+        for (int n = 1; n <= MAX_GRAM; n++){
+            for (int i = 0; i + n <= text.length(); i++){
+                grams.add(text.substring(i, i + n));
+            }
+        }
+
+        return grams;
+    }
+
+    private static String normalize(String text){
+        if (!StringUtils.hasText(text)) return "";
+
+        return StringUtils.trimAllWhitespace(text).toLowerCase(Locale.ROOT);
+    }
+
+    private static class IndexedStore {
+        private final String name;
+        private final String description;
+
+        private IndexedStore(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+
+        private int score(String query){
+            if (name.equals(query)) return 4;
+            if (name.startsWith(query)) return 3;
+            if (name.contains(query)) return 2;
+            if (description.contains(query)) return 1;
+
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package zerobase.reserve.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import zerobase.reserve.repository.ReserveRepository;
+import zerobase.reserve.repository.StoreRepository;
+import zerobase.reserve.transaction.AfterCommit;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 매장 이름 자동완성용 접두사 트라이
+ * 매장 이름과 이름의 초성 문자열("서강" -> "ㅅㄱ")을 모두 키로 넣어 초성만 입력해도 찾을 수 있다.
+ * 각 노드는 해당 접두사로 시작하는 매장 중 인기도(예약 수) 상위 TOP_K 개를 미리 정렬해 가지고 있으므로
+ * 조회는 검색어 길이만큼 노드를 따라가는 것으로 끝난다.
+ * 기동 시 store, reserve 테이블로부터 구축되며 매장 등록, 예약 생성 시 커밋 후 갱신된다.
+ */
+@Slf4j
+@Component
+public class StoreSuggestIndex implements SmartInitializingSingleton {
+
+    public static final int TOP_K = 10;
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final StoreRepository storeRepository;
+    private final ReserveRepository reserveRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<Long, StoreSuggestion> stores = new HashMap<>();
+
+    public StoreSuggestIndex(StoreRepository storeRepository, ReserveRepository reserveRepository) {
+        this.storeRepository = storeRepository;
+        this.reserveRepository = reserveRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Map<Long, Long> reserveCounts = reserveRepository.countByStore();
+        Long lastStoreId = null;
+        List<StoreDocument> chunk;
+
+        do {
+            chunk = storeRepository.findStoreDocuments(lastStoreId, LOAD_CHUNK_SIZE);
+
+            for (StoreDocument document : chunk){
+                add(document.getStoreId(), document.getStoreName(), reserveCounts.getOrDefault(document.getStoreId(), 0L));
+                lastStoreId = document.getStoreId();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+        log.info("store suggest index built : stores = {}", stores.size());
+    }
+
+    /**
+     * 매장 추가 - 트랜잭션 안에서 호출되면 커밋 이후에 추가한다.
+     */
+    public void addAfterCommit(Long storeId, String storeName){
+        AfterCommit.run(() -> add(storeId, storeName, 0L));
+    }
+
+    /**
+     * 매장 인기도 1 증가 - 예약 생성 시 호출되며 트랜잭션 안에서 호출되면 커밋 이후에 반영한다.
+     */
+    public void increasePopularityAfterCommit(Long storeId){
+        AfterCommit.run(() -> increasePopularity(storeId));
+    }
+
+    public void add(Long storeId, String storeName, long popularity){
+        if (!StringUtils.hasText(storeName)) return;
+
+        lock.writeLock().lock();
+
+        try {
+            if (stores.containsKey(storeId)) return;
+
+            StoreSuggestion suggestion = new StoreSuggestion(storeId, storeName, popularity);
+            stores.put(storeId, suggestion);
+
+            for (String key : keys(storeName)){
+                Node node = root;
+
+                for (int i = 0; i < key.length(); i++){
+                    node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                    node.offer(suggestion);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인기도는 증가만 하므로 매장 이름의 경로에 있는 노드들만 갱신하면 된다.
+     */
+    public void increasePopularity(Long storeId){
+        lock.writeLock().lock();
+
+        try {
+            StoreSuggestion current = stores.get(storeId);
+
+            if (current == null) return;
+
+            StoreSuggestion updated = current.withPopularity(current.getPopularity() + 1);
+            stores.put(storeId, updated);
+
+            for (String key : keys(current.getStoreName())){
+                Node node = root;
+
+                for (int i = 0; i < key.length() && node != null; i++){
+                    node = node.children.get(key.charAt(i));
+
+                    if (node != null){
+                        node.offer(updated);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 매장을 인기도 순으로 조회
+     * @param prefix 검색어 - 매장 이름 또는 초성
+     * @param limit 최대 개수 (TOP_K 이하)
+     * @return 자동완성 후보 매장 리스트
+     */
+    public List<StoreSuggestion> suggest(String prefix, int limit){
+        String key = normalize(prefix);
+
+        if (key.isEmpty()) return List.of();
+
+        lock.readLock().lock();
+
+        try {
+            Node node = root;
+
+            for (int i = 0; i < key.length() && node != null; i++){
+                node = node.children.get(key.charAt(i));
+            }
+
+            if (node == null) return List.of();
+
+            return List.copyOf(node.top.subList(0, Math.min(limit, node.top.size())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Set<String> keys(String storeName){
+        String name = normalize(storeName);
+
+        return new LinkedHashSet<>(List.of(name, Hangul.toChosung(name)));
+    }
+
+    private static String normalize(String text){
+        if (!StringUtils.hasText(text)) return "";
+
+        return StringUtils.trimAllWhitespace(text).toLowerCase(Locale.ROOT);
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<StoreSuggestion> top = new ArrayList<>(TOP_K + 1);
+
+        /**
+         * 상위 TOP_K 목록 갱신 - 이미 있는 매장이면 인기도를 바꾸고 다시 정렬한다.
+         */
+        private void offer(StoreSuggestion suggestion){
+            top.removeIf(candidate -> candidate.getStoreId().equals(suggestion.getStoreId()));
+            top.add(suggestion);
+            top.sort(StoreSuggestion.RANKING);
+
+            if (top.size() > TOP_K){
+                top.remove(TOP_K);
+            }
+        }
+    }
+}
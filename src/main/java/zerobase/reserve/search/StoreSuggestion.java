@@ -0,0 +1,28 @@
+package zerobase.reserve.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Comparator;
+
+/**
+ * 자동완성 후보 매장 - 인기도(예약 수)가 높은 순, 같으면 매장 id 오름차순으로 정렬된다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class StoreSuggestion {
+
+    static final Comparator<StoreSuggestion> RANKING = Comparator
+            .comparingLong(StoreSuggestion::getPopularity).reversed()
+            .thenComparing(StoreSuggestion::getStoreId);
+
+    private final Long storeId;
+    private final String storeName;
+    private final long popularity;
+
+    StoreSuggestion withPopularity(long popularity){
+        return new StoreSuggestion(storeId, storeName, popularity);
+    }
+}
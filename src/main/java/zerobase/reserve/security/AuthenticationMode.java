@@ -0,0 +1,10 @@
+package zerobase.reserve.security;
+
+/**
+ * JWT 인증 방식
+ * DATABASE - 토큰의 subject 로 회원을 조회하여 인증 정보 생성 (회원 정보는 PrincipalCache 로 캐시)
+ * CLAIMS - 서명된 클레임(회원 id, subject, 권한)만으로 인증 정보 생성, DB 를 조회하지 않는다.
+ */
+public enum AuthenticationMode {
+    DATABASE, CLAIMS
+}
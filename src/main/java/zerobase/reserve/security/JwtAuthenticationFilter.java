@@ -2,8 +2,6 @@ package zerobase.reserve.security;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ObjectUtils;
@@ -35,14 +33,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String token = resolveTokenFromRequest(request);
 
-        if (StringUtils.hasText(token) && tokenProvider.validateToken(token)){
-            Authentication auth = tokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(auth);
+        if (StringUtils.hasText(token)){
+            tokenProvider.parseToken(token)
+                    .map(tokenProvider::getAuthentication)
+                    .ifPresent(auth -> SecurityContextHolder.getContext().setAuthentication(auth));
         }
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 공개 API 는 토큰을 처리하지 않고 그대로 통과시킨다.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicEndpoints.MATCHER.matches(request);
+    }
+
     /**
      * 들어온 토큰이 JWT 타입 토큰인지 검증
      * @param request 들어온 요청
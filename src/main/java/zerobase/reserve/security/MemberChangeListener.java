@@ -0,0 +1,31 @@
+package zerobase.reserve.security;
+
+import lombok.RequiredArgsConstructor;
+import zerobase.reserve.domain.Member;
+import zerobase.reserve.transaction.AfterCommit;
+
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 회원 엔티티 변경 감지 리스너
+ * 회원 정보(changeMemberInfo) 또는 권한 컬렉션이 변경되어 flush 되면 캐시된 인증 정보를 제거하고
+ * 이전에 발급된 토큰을 폐기한다. (CLAIMS 모드에서는 토큰의 권한을 그대로 신뢰하기 때문)
+ * 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 이후에도 한 번 더 제거한다.
+ */
+@RequiredArgsConstructor
+public class MemberChangeListener {
+
+    private final PrincipalCache principalCache;
+    private final TokenRevocationRegistry revocationRegistry;
+
+    @PostUpdate
+    @PostRemove
+    public void onMemberChanged(Member member){
+        Long memberId = member.getId();
+        principalCache.evict(memberId);
+        revocationRegistry.revoke(memberId);
+
+        AfterCommit.runInTransaction(() -> principalCache.evict(memberId));
+    }
+}
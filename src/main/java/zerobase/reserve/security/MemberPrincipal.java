@@ -0,0 +1,79 @@
+package zerobase.reserve.security;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import zerobase.reserve.domain.Member;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 인증된 회원의 불변 스냅샷
+ * 요청 간에 캐시되므로 영속성 컨텍스트와 분리된 값만 가진다. (비밀번호는 보관하지 않는다.)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MemberPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final String name;
+    private final List<String> roles;
+    private final List<GrantedAuthority> authorities;
+
+    public static MemberPrincipal fromEntity(Member member){
+        return of(member.getId(), member.getEmail(), member.getName(), member.getRoles());
+    }
+
+    /**
+     * @param name 회원 이름 - 이름 클레임이 없는 이전 토큰으로 만든 경우 null
+     */
+    public static MemberPrincipal of(Long id, String email, String name, List<String> roles){
+        List<String> copiedRoles = List.copyOf(roles);
+
+        return new MemberPrincipal(id, email, name, copiedRoles,
+                copiedRoles.stream()
+                        .map(SimpleGrantedAuthority::new)
+                        .collect(Collectors.toUnmodifiableList()));
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return this.authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return "";
+    }
+
+    @Override
+    public String getUsername() {
+        return this.email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
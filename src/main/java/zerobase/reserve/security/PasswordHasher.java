@@ -0,0 +1,134 @@
+package zerobase.reserve.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import zerobase.reserve.exception.ErrorCode;
+import zerobase.reserve.exception.ServerBusyException;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 생성 및 검증 전용 작업자
+ * BCrypt 연산은 CPU 를 많이 사용하므로 톰캣 요청 스레드가 아닌 크기가 제한된 전용 스레드 풀에서 수행한다.
+ * 대기열이 가득 찬 경우 기다리지 않고 ServerBusyException(503)으로 즉시 거절하여 다른 API 가 영향을 받지 않도록 한다.
+ * 메트릭 - password.hash.latency(연산 시간), password.hash.queue.wait(대기열 대기 시간), executor.*{name=password-hash}
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${reserve.password.pool-size:0}") int poolSize,
+            @Value("${reserve.password.queue-capacity:100}") int queueCapacity,
+            @Value("${reserve.password.timeout:5s}") Duration timeout
+    ) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeout.toMillis();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hash");
+        this.encodeTimer = Timer.builder("password.hash.latency").tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash.latency").tag("operation", "matches").register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("password.hash.queue.wait").register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 해시 생성
+     * @param rawPassword 평문 비밀번호
+     * @return 해시된 비밀번호
+     */
+    public String encode(CharSequence rawPassword){
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 일치 여부 검증
+     * @param rawPassword 입력받은 평문 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 일치하는 경우 True
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword){
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시가 현재 설정된 cost 보다 낮은 cost 로 만들어져 다시 해시해야 하는지 확인 - 해시 연산이 없으므로 풀을 거치지 않는다.
+     * @param encodedPassword 저장된 해시
+     * @return 다시 해시해야 하는 경우 True
+     */
+    public boolean upgradeEncoding(String encodedPassword){
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Timer latencyTimer, Supplier<T> task){
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+
+                return latencyTimer.record(task);
+            });
+        } catch (RejectedExecutionException e){
+            log.warn("password hash queue is full, active = {}, queued = {}",
+                    executor.getActiveCount(), executor.getQueue().size());
+            throw new ServerBusyException(ErrorCode.SERVER_BUSY);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e){
+            future.cancel(true);
+            throw new ServerBusyException(ErrorCode.SERVER_BUSY);
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServerBusyException(ErrorCode.SERVER_BUSY);
+        } catch (ExecutionException e){
+            if (e.getCause() instanceof RuntimeException){
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        executor.shutdown();
+    }
+
+    private static class HashThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
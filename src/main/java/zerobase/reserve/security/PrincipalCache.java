@@ -0,0 +1,84 @@
+package zerobase.reserve.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.function.Function;
+
+/**
+ * JWT 인증 시 매 요청마다 회원을 DB 에서 조회하지 않도록 인증된 회원 정보를 캐시
+ * 키는 (토큰 subject, 토큰 발급 시각) 이므로 재로그인으로 새 토큰을 받으면 새로 조회된다.
+ * 크기와 TTL 로 제한되며, 회원 정보나 권한이 변경되면 MemberChangeListener 를 통해 제거된다.
+ * 적중/실패 횟수는 cache.gets{cache=principal} 메트릭으로 노출된다.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    public static final String CACHE_NAME = "principal";
+
+    private final Cache<Key, MemberPrincipal> cache;
+
+    public PrincipalCache(
+            MeterRegistry meterRegistry,
+            @Value("${spring.jwt.principal-cache.maximum-size:10000}") long maximumSize,
+            @Value("${spring.jwt.principal-cache.ttl:5m}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 회원 정보를 반환하고, 없는 경우 loader 를 통해 조회한 뒤 캐시에 저장
+     * @param subject 토큰의 subject(회원 이메일)
+     * @param issuedAt 토큰 발급 시각
+     * @param loader 캐시 실패 시 회원 정보를 조회할 함수
+     * @return 인증된 회원 정보
+     */
+    public MemberPrincipal get(String subject, Date issuedAt, Function<String, MemberPrincipal> loader){
+        return cache.get(new Key(subject, issuedAt == null ? 0L : issuedAt.getTime()),
+                key -> loader.apply(key.subject));
+    }
+
+    /**
+     * 해당 회원에 대해 캐시된 모든 항목 제거 - 회원 정보 변경 시 호출
+     * @param memberId 변경된 회원의 id
+     */
+    public void evict(Long memberId){
+        if (memberId == null) return;
+
+        cache.asMap().values().removeIf(principal -> memberId.equals(principal.getId()));
+        log.debug("principal cache evicted member id = {}", memberId);
+    }
+
+    public void evictAll(){
+        cache.invalidateAll();
+    }
+
+    public long size(){
+        cache.cleanUp();
+
+        return cache.estimatedSize();
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Key {
+        private final String subject;
+        private final long issuedAt;
+    }
+}
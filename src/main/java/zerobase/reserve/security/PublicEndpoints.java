@@ -0,0 +1,25 @@
+package zerobase.reserve.security;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+/**
+ * 인증 없이 접근 가능한 API 목록
+ * 해당 요청은 Authorization 헤더가 있더라도 토큰 파싱과 회원 조회를 하지 않는다.
+ */
+public final class PublicEndpoints {
+
+    public static final RequestMatcher MATCHER = new OrRequestMatcher(
+            new AntPathRequestMatcher("/members/signin", HttpMethod.POST.name()),
+            new AntPathRequestMatcher("/members/*/signup", HttpMethod.POST.name()),
+            new AntPathRequestMatcher("/stores", HttpMethod.GET.name()),
+            new AntPathRequestMatcher("/stores/*", HttpMethod.GET.name()),
+            new AntPathRequestMatcher("/stores/*/reviews", HttpMethod.GET.name()),
+            new AntPathRequestMatcher("/stores/*/availability", HttpMethod.GET.name())
+    );
+
+    private PublicEndpoints() {
+    }
+}
@@ -0,0 +1,65 @@
+package zerobase.reserve.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 서명 검증이 끝난 JWT 의 클레임
+ * 필터에서 한 번 검증한 결과를 이후 단계로 그대로 전달하기 위한 불변 객체
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenClaims {
+
+    private final Long memberId;
+    private final String subject;
+    private final String name;
+    private final List<String> roles;
+    private final long version;
+    private final Date issuedAt;
+    private final Date expiration;
+
+    static TokenClaims from(Claims claims, String memberIdKey, String nameKey, String rolesKey, String versionKey){
+        Object memberId = claims.get(memberIdKey);
+        Object version = claims.get(versionKey);
+
+        return new TokenClaims(
+                memberId instanceof Number ? ((Number) memberId).longValue() : null,
+                claims.getSubject(),
+                claims.get(nameKey, String.class),
+                toRoles(claims.get(rolesKey)),
+                version instanceof Number ? ((Number) version).longValue() : 0L,
+                copy(claims.getIssuedAt()),
+                copy(claims.getExpiration())
+        );
+    }
+
+    public Date getIssuedAt() {
+        return copy(issuedAt);
+    }
+
+    public Date getExpiration() {
+        return copy(expiration);
+    }
+
+    private static List<String> toRoles(Object roles){
+        if (!(roles instanceof Collection)) return List.of();
+
+        return ((Collection<?>) roles).stream()
+                .map(String::valueOf)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private static Date copy(Date date){
+        return date == null ? null : new Date(date.getTime());
+    }
+}
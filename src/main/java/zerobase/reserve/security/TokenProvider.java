@@ -1,83 +1,132 @@
 package zerobase.reserve.security;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
+import zerobase.reserve.domain.Member;
 import zerobase.reserve.service.MemberService;
 
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
-import java.util.List;
+import java.util.Optional;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class TokenProvider {
 
-    private static final long TOKEN_EXPIRE_TIME = 1000 * 60 * 60;
+    private static final String KEY_MEMBER_ID = "mid";
+    private static final String KEY_NAME = "name";
     private static final String KEY_ROLES = "roles";
+    private static final String KEY_VERSION = "ver";
     private final MemberService memberService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationRegistry revocationRegistry;
+    private final AuthenticationMode authenticationMode;
+    private final long tokenExpireTime;
 
-    @Value("{spring.jwt.secret}")
-    private String secretKey;
+    // 서명 키는 기동 시 한 번만 디코딩하고, 파서 역시 미리 만들어 모든 요청에서 재사용한다.
+    private final byte[] signingKey;
+    private final JwtParser jwtParser;
+
+    /**
+     * CLAIMS 모드는 DB 를 거치지 않고 토큰만 신뢰하므로 권한 변경이 빠르게 반영되도록 짧은 만료 시간을 사용한다.
+     */
+    public TokenProvider(
+            MemberService memberService,
+            PrincipalCache principalCache,
+            TokenRevocationRegistry revocationRegistry,
+            @Value("${spring.jwt.secret}") String secretKey,
+            @Value("${spring.jwt.auth-mode:database}") AuthenticationMode authenticationMode,
+            @Value("${spring.jwt.token-ttl:1h}") Duration tokenTtl,
+            @Value("${spring.jwt.claims-token-ttl:10m}") Duration claimsTokenTtl
+    ) {
+        this.memberService = memberService;
+        this.principalCache = principalCache;
+        this.revocationRegistry = revocationRegistry;
+        this.authenticationMode = authenticationMode;
+        this.tokenExpireTime = (authenticationMode == AuthenticationMode.CLAIMS ? claimsTokenTtl : tokenTtl).toMillis();
+        this.signingKey = Base64.getDecoder().decode(secretKey);
+        this.jwtParser = Jwts.parser().setSigningKey(signingKey);
+    }
 
     /**
      * jwt token 생성
-     * @param username 유저 식별자
-     * @param roles 해당 유저가 가진 권한
+     * 회원 id, 이름, 권한, 토큰 버전을 클레임에 담아 CLAIMS 모드에서 DB 조회 없이 인증할 수 있도록 한다.
+     * @param member 토큰을 발급받을 회원
      * @return 위 입력에 대해 연산되어 나온 JWT 토큰
      */
-    public String generateToken(String username, List<String> roles){
-        Claims claims = Jwts.claims().setSubject(username);
-        claims.put(KEY_ROLES, roles);
+    public String generateToken(Member member){
+        Claims claims = Jwts.claims().setSubject(member.getEmail());
+        claims.put(KEY_MEMBER_ID, member.getId());
+        claims.put(KEY_NAME, member.getName());
+        claims.put(KEY_ROLES, member.getRoles());
+        claims.put(KEY_VERSION, revocationRegistry.currentVersion(member.getId()));
 
         Date now = new Date();
-        Date expireDate = new Date(now.getTime() + TOKEN_EXPIRE_TIME);
+        Date expireDate = new Date(now.getTime() + tokenExpireTime);
 
         return Jwts.builder()
                 .setClaims(claims)
                 .setIssuedAt(now)
                 .setExpiration(expireDate)
-                .signWith(SignatureAlgorithm.HS512, secretKey)
+                .signWith(SignatureAlgorithm.HS512, signingKey)
                 .compact();
     }
 
-    public String getUserName(String token){
-        return parseClaims(token).getSubject();
-    }
-
-    public Authentication getAuthentication(String jwt){
-        UserDetails userDetails = memberService.loadUserByUsername(getUserName(jwt));
-
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
-    }
-
     /**
-     * 토큰 유효성 검증
+     * 토큰 서명, 만료, 폐기 여부 검증 - 요청당 한 번만 호출된다.
+     * 만료되었거나 서명이 올바르지 않거나 폐기된 토큰은 빈 값을 반환한다.
      * @param token 검증받을 토큰
-     * @return 토큰이 유효한 경우 True, 그렇지 않을 경우 False
+     * @return 검증된 토큰의 클레임
      */
-    public boolean validateToken(String token){
-        if (!StringUtils.hasText(token)) return false;
+    public Optional<TokenClaims> parseToken(String token){
+        if (!StringUtils.hasText(token)) return Optional.empty();
 
-        Claims claims = parseClaims(token);
+        TokenClaims tokenClaims;
 
-        return !claims.getExpiration().before(new Date());
-    }
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            tokenClaims = TokenClaims.from(claims, KEY_MEMBER_ID, KEY_NAME, KEY_ROLES, KEY_VERSION);
+        } catch (JwtException | IllegalArgumentException e){
+            log.debug("invalid token : {}", e.getMessage());
 
-    private Claims parseClaims(String token){
-        try{
-            return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
-        } catch (ExpiredJwtException e){
-            return e.getClaims();
+            return Optional.empty();
         }
+
+        if (revocationRegistry.isRevoked(tokenClaims.getMemberId(), tokenClaims.getVersion())){
+            log.debug("revoked token : member id = {}", tokenClaims.getMemberId());
+
+            return Optional.empty();
+        }
+
+        if (authenticationMode == AuthenticationMode.CLAIMS && tokenClaims.getMemberId() == null){
+            return Optional.empty();
+        }
+
+        return Optional.of(tokenClaims);
+    }
+
+    /**
+     * 검증된 클레임으로부터 인증 정보 생성
+     * CLAIMS 모드 - 클레임의 회원 id, subject, 권한만으로 인증 정보를 만든다.
+     * DATABASE 모드 - 회원 정보는 (subject, 발급 시각) 단위로 캐시되므로 캐시 적중 시 DB 를 조회하지 않는다.
+     * @param claims parseToken 으로 검증된 클레임
+     * @return 인증 정보
+     */
+    public Authentication getAuthentication(TokenClaims claims){
+        MemberPrincipal principal = authenticationMode == AuthenticationMode.CLAIMS
+                ? MemberPrincipal.of(claims.getMemberId(), claims.getSubject(), claims.getName(), claims.getRoles())
+                : principalCache.get(claims.getSubject(), claims.getIssuedAt(), memberService::loadUserByUsername);
+
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
     }
 }
@@ -0,0 +1,112 @@
+package zerobase.reserve.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 토큰 버전 테이블
+ * 토큰 발급 시 현재 버전을 ver 클레임에 담고, 검증 시 토큰의 버전이 현재 버전보다 낮으면 폐기된 토큰으로 본다.
+ * 회원 정보나 권한이 변경되면 버전을 올려 이전에 발급된 토큰을 모두 무효화한다.
+ * - 버전은 폐기 시각(ms)이므로 폐기 기록이 사라진 뒤 다시 폐기해도 그 사이에 발급된 토큰보다 항상 높은 버전이 된다.
+ * - 폐기 기록은 토큰 최대 수명(retention) 동안 유지한다. 그 이후에는 폐기 이전에 발급된 토큰이 모두 만료되었으므로 제거해도 된다.
+ * - 유지 중인 폐기 기록이 maximum-size 를 넘으면 기록을 버리는 대신 모든 토큰을 폐기한다. (모든 회원이 다시 로그인해야 하지만 폐기된 토큰이 되살아나지는 않는다.)
+ * 인스턴스 메모리에만 존재하므로 여러 인스턴스로 운영하는 경우 폐기 이벤트를 각 인스턴스에 전달해야 한다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final int maximumSize;
+    private final long retentionMillis;
+    private volatile long revokedAllVersion;
+
+    /**
+     * @param retention 폐기 기록 유지 시간, null 이면 토큰 최대 수명 - 토큰 최대 수명보다 짧으면 폐기된 토큰이 되살아나므로 시작할 수 없다.
+     */
+    public TokenRevocationRegistry(
+            @Value("${spring.jwt.revocation.maximum-size:100000}") int maximumSize,
+            @Value("${spring.jwt.revocation.retention:#{null}}") Duration retention,
+            @Value("${spring.jwt.token-ttl:1h}") Duration tokenTtl,
+            @Value("${spring.jwt.claims-token-ttl:10m}") Duration claimsTokenTtl
+    ) {
+        Duration maxTokenTtl = tokenTtl.compareTo(claimsTokenTtl) >= 0 ? tokenTtl : claimsTokenTtl;
+
+        if (retention != null && retention.compareTo(maxTokenTtl) < 0){
+            throw new IllegalArgumentException("revocation retention " + retention + " is shorter than token ttl " + maxTokenTtl);
+        }
+
+        this.maximumSize = maximumSize;
+        this.retentionMillis = (retention == null ? maxTokenTtl : retention).toMillis();
+    }
+
+    /**
+     * 토큰 발급 시 사용할 회원의 현재 토큰 버전
+     * @param memberId 회원 id
+     * @return 현재 버전, 유지 중인 폐기 기록이 없으면 0 (전체 폐기 이후라면 전체 폐기 버전)
+     */
+    public long currentVersion(Long memberId){
+        return currentVersion(memberId, System.currentTimeMillis());
+    }
+
+    long currentVersion(Long memberId, long now){
+        long revokedAll = revokedAllVersion;
+
+        if (memberId == null) return revokedAll;
+
+        Long version = versions.get(memberId);
+
+        if (version == null || isExpired(version, now)) return revokedAll;
+
+        return Math.max(version, revokedAll);
+    }
+
+    /**
+     * 해당 회원에게 지금까지 발급된 모든 토큰 폐기
+     * @param memberId 회원 id
+     */
+    public void revoke(Long memberId){
+        revoke(memberId, System.currentTimeMillis());
+    }
+
+    synchronized void revoke(Long memberId, long now){
+        if (memberId == null) return;
+
+        versions.put(memberId, Math.max(now, currentVersion(memberId, now) + 1));
+
+        if (versions.size() > maximumSize){
+            versions.values().removeIf(version -> isExpired(version, now));
+        }
+
+        if (versions.size() > maximumSize){
+            revokeAll(now);
+        }
+    }
+
+    public boolean isRevoked(Long memberId, long tokenVersion){
+        return tokenVersion < currentVersion(memberId);
+    }
+
+    // 모든 회원의 기존 버전보다 높은 버전으로 전체 폐기한 뒤 회원별 기록을 비운다.
+    private void revokeAll(long now){
+        long version = Math.max(now, revokedAllVersion);
+
+        for (long memberVersion : versions.values()){
+            version = Math.max(version, memberVersion);
+        }
+
+        revokedAllVersion = version + 1;
+        versions.clear();
+
+        log.warn("more than {} live token revocations, all tokens issued so far are revoked", maximumSize);
+    }
+
+    private boolean isExpired(long version, long now){
+        return version + retentionMillis <= now;
+    }
+}
@@ -2,24 +2,36 @@ package zerobase.reserve.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import zerobase.reserve.domain.Member;
+import zerobase.reserve.duplicate.KnownNameFilter;
 import zerobase.reserve.dto.CreateMemberDto;
 import zerobase.reserve.dto.MemberDto;
 import zerobase.reserve.exception.DuplicateException;
 import zerobase.reserve.exception.ErrorCode;
 import zerobase.reserve.exception.LoginException;
 import zerobase.reserve.exception.NotExistsException;
+import zerobase.reserve.repository.ConstraintViolations;
 import zerobase.reserve.repository.MemberRepository;
+import zerobase.reserve.security.MemberPrincipal;
+import zerobase.reserve.security.PasswordHasher;
 
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 회원 가입, 로그인
+ * 가입, 로그인은 비밀번호 해시(PasswordHasher)를 기다리는 동안 트랜잭션을 열어두지 않는다. 커넥션은 해시 대기열보다 훨씬 적으므로
+ * 해시를 기다리며 커넥션을 쥐고 있으면 대기열이 차기 전에 커넥션 풀이 먼저 바닥나 다른 API 까지 커넥션을 기다리게 된다.
+ * 그래서 조회, 저장은 각각 짧은 트랜잭션(transactionTemplate)으로 수행하고 해시는 그 사이에 트랜잭션 없이 수행한다.
+ * (이미 트랜잭션 안에서 호출되면 그 트랜잭션에 참여한다. 요청 전체에 열린 세션이 커넥션을 쥐고 있지 않는 것은 AppConfig 참고)
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -27,12 +39,21 @@ import java.util.List;
 public class MemberService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final KnownNameFilter knownNameFilter;
+    private final TransactionTemplate transactionTemplate;
 
+    /**
+     * 인증 필터에서 사용할 회원 정보 조회
+     * 요청 간 캐시될 수 있도록 엔티티 대신 불변 스냅샷을 반환한다.
+     * @param username 회원 email
+     * @return 인증된 회원 정보
+     */
     @Override
-    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+    public MemberPrincipal loadUserByUsername(String username) throws UsernameNotFoundException {
        return memberRepository.findByEmail(username)
-                .orElseThrow(() -> new NotExistsException(ErrorCode.MEMBER_NOT_EXISTS));
+               .map(MemberPrincipal::fromEntity)
+               .orElseThrow(() -> new NotExistsException(ErrorCode.MEMBER_NOT_EXISTS));
     }
 
     /**
@@ -40,15 +61,15 @@ public class MemberService implements UserDetailsService {
      * @param member 회원 가입할 회원의 정보 DTO
      * @return 회원가입 완료 후 회원의 정보 DTO
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public MemberDto createUserMember(CreateMemberDto.SignUp member){
         checkDuplicateEmail(member.getEmail());
-        member.setPassword(passwordEncoder.encode(member.getPassword()));
+        member.setPassword(passwordHasher.encode(member.getPassword()));
 
         List<String> roles = new ArrayList<>();
         roles.add("ROLE_USER");
 
-        return MemberDto.fromEntity(memberRepository.save(member.createMember(roles)));
+        return MemberDto.fromEntity(saveMember(member.createMember(roles)));
     }
 
     /**
@@ -56,50 +77,91 @@ public class MemberService implements UserDetailsService {
      * @param member 파트너 회원 가입할 회원의 정보 DTO
      * @return 회원가입 완료 후 회원의 정보 DTO
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public MemberDto createPartnerMember(CreateMemberDto.SignUp member){
         checkDuplicateEmail(member.getEmail());
-        member.setPassword(passwordEncoder.encode(member.getPassword()));
+        member.setPassword(passwordHasher.encode(member.getPassword()));
 
         List<String> roles = new ArrayList<>();
         roles.add("ROLE_PARTNER");
         roles.add("ROLE_USER");
 
-        return MemberDto.fromEntity(memberRepository.save(member.createMember(roles)));
+        return MemberDto.fromEntity(saveMember(member.createMember(roles)));
     }
 
     /**
      * 회원 가입에서 회원은 기본적으로 이메일에 의해 구분될 수 있다(PK는 인공 id로 설정)
-     * 중복된 이메일로는 가입할 수 없도록 정책을 설정하였기 떄문에 입력받은 이메일에 대해 동일한 이메일이 존재하는지 확인
-     * 존재하는 경우 DuplicateException 를 던진다.
+     * 중복된 이메일로는 가입할 수 없도록 정책을 설정하였으며, 최종 판단은 email 유일 제약이 하므로 여기서는 빠른 거절만 한다.
+     * 블룸 필터에 없는 이메일은 DB 를 조회하지 않고 통과시키고, 있을 수도 있는 이메일만 DB 에서 확인하여
+     * 존재하는 경우 비밀번호 해시 전에 DuplicateException 를 던진다.
      * @param email 확인할 이메일
      */
     private void checkDuplicateEmail(String email) {
-        boolean exists = memberRepository.existsByEmail(email);
-
-        if (exists){
+        if (knownNameFilter.mightContainEmail(email)
+                && Boolean.TRUE.equals(transactionTemplate.execute(status -> memberRepository.existsByEmail(email)))){
             throw new DuplicateException(ErrorCode.DUPLICATE_EMAIL);
         }
     }
 
+    /**
+     * 회원 저장 - 동시에 같은 이메일로 가입한 경우 등 email 유일 제약 위반은 DuplicateException 으로 바꾼다.
+     * 그 밖의 제약 위반은 중복이 아니므로 그대로 던진다.
+     */
+    private Member saveMember(Member member) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> memberRepository.save(member));
+        } catch (DataIntegrityViolationException e){
+            if (ConstraintViolations.isViolationOf(e, Member.UNIQUE_EMAIL)){
+                throw new DuplicateException(ErrorCode.DUPLICATE_EMAIL);
+            }
+            throw e;
+        }
+
+        knownNameFilter.addEmailAfterCommit(member.getEmail());
+
+        return member;
+    }
+
     /**
      * 로그인 기능 함수
+     * 저장된 비밀번호가 현재 설정보다 낮은 bcrypt cost 로 해시되어 있으면 로그인에 성공한 시점에 다시 해시하여 저장한다.
+     * 회원은 가입 직후의 로그인도 찾을 수 있도록 쓰기 트랜잭션(주 DB)으로 조회한다.
      * @param signIn 로그인에 필요한 id 및 password 데이터 DTO
      *               로그인 실패 시 LoginException 반환
      * @return 로그인 성공 시 해당 멤버 엔티티 반환
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Member authenticate(CreateMemberDto.SignIn signIn){
-        Member findMember = memberRepository.findByEmail(signIn.getEmail())
+        Member findMember = transactionTemplate.execute(status -> memberRepository.findByEmail(signIn.getEmail()))
                 .orElseThrow(() -> new NotExistsException(ErrorCode.MEMBER_NOT_EXISTS));
 
         if (isPasswordMatched(signIn.getPassword(), findMember.getPassword())){
             throw new LoginException(ErrorCode.PASSWORD_NOT_MATCH);
         }
 
+        if (passwordHasher.upgradeEncoding(findMember.getPassword())){
+            rehashPassword(findMember, signIn.getPassword());
+        }
+
         return findMember;
     }
 
     private boolean isPasswordMatched(String inputPassword, String storedPassword) {
-        return !passwordEncoder.matches(inputPassword, storedPassword);
+        return !passwordHasher.matches(inputPassword, storedPassword);
+    }
+
+    /**
+     * 비밀번호 재해시 - 비밀번호 자체가 바뀐 것은 아니므로 회원 변경 이벤트(토큰 폐기)를 발생시키지 않도록 벌크 update 로 반영한다.
+     * 동시에 다른 요청이 먼저 재해시한 경우에는 이전 해시 조건이 맞지 않아 반영되지 않는다.
+     */
+    private void rehashPassword(Member member, String rawPassword) {
+        String rehashed = passwordHasher.encode(rawPassword);
+
+        Integer updated = transactionTemplate.execute(status ->
+                memberRepository.updatePassword(member.getId(), member.getPassword(), rehashed));
+
+        if (updated != null && updated > 0){
+            log.info("password rehashed with current bcrypt cost, member id = {}", member.getId());
+        }
     }
 }
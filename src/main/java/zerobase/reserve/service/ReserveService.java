@@ -2,21 +2,32 @@ package zerobase.reserve.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import zerobase.reserve.booking.NoShowSweeper;
+import zerobase.reserve.booking.SeatHold;
+import zerobase.reserve.booking.SlotBookingEngine;
 import zerobase.reserve.domain.Member;
 import zerobase.reserve.domain.Reserve;
 import zerobase.reserve.domain.ReserveStatus;
+import zerobase.reserve.domain.ReserveTransition;
 import zerobase.reserve.domain.Store;
 import zerobase.reserve.dto.CreateReserveDto;
 import zerobase.reserve.dto.ReserveDto;
+import zerobase.reserve.dto.ReserveStateDto;
 import zerobase.reserve.exception.ErrorCode;
 import zerobase.reserve.exception.InvalidReserveException;
 import zerobase.reserve.exception.NotExistsException;
 import zerobase.reserve.exception.NotMatchException;
+import zerobase.reserve.repository.ConstraintViolations;
 import zerobase.reserve.repository.MemberRepository;
 import zerobase.reserve.repository.ReserveRepository;
 import zerobase.reserve.repository.StoreRepository;
+import zerobase.reserve.ranking.StoreRankings;
+import zerobase.reserve.search.StoreSuggestIndex;
+import zerobase.reserve.trending.StoreTrending;
+import zerobase.reserve.security.MemberPrincipal;
 
 import javax.persistence.EntityManager;
 import java.time.LocalDateTime;
@@ -31,34 +42,30 @@ public class ReserveService {
     private final ReserveRepository reserveRepository;
     private final StoreRepository storeRepository;
     private final MemberRepository memberRepository;
+    private final StoreSuggestIndex storeSuggestIndex;
+    private final StoreRankings storeRankings;
+    private final StoreTrending storeTrending;
+    private final SlotBookingEngine slotBookingEngine;
+    private final NoShowSweeper noShowSweeper;
 
     /**
      * 회원이 매장 상세 조회에 들어가지 않은 상태에서 직접 예약을 생성할 때 사용
-     * 유저의 특정은 로그인한 사용자만 사용 가능하므로 principal.getName()을 통해 받아온다.
+     * 유저의 특정은 로그인한 사용자만 사용 가능하므로 인증 필터가 만든 인증 정보를 받아온다.
+     * 인증 필터에서 이미 확인된 회원이므로 다시 조회하지 않고 연관관계에는 회원 id 로 만든 프록시를 사용한다.
      * @param reserveInfo 생성할 예약의 정보 DTO
-     * @param memberEmail 예약을 진행하는 회원의 Email
+     * @param principal 예약을 진행하는 회원의 인증 정보
      * @return 예약 정보 DTO
      */
     @Transactional
-    public CreateReserveDto.Response createReserve(CreateReserveDto.Request reserveInfo, String memberEmail){
-        Member member = memberRepository.findByEmail(memberEmail)
-                .orElseThrow(() -> new NotExistsException(ErrorCode.MEMBER_NOT_EXISTS));
+    public CreateReserveDto.Response createReserve(CreateReserveDto.Request reserveInfo, MemberPrincipal principal){
+        Member member = memberRepository.getReference(principal.getId());
 
         Store store = storeRepository.findByStoreName(reserveInfo.getStoreName())
                 .orElseThrow(() -> new NotExistsException(ErrorCode.STORE_NOT_EXISTS));
 
-        LocalDateTime reserveTime = transformStringToLocalDate(reserveInfo.getReserveTime());
-
-        return CreateReserveDto.Response.fromEntity(
-                reserveRepository.save(
-                        Reserve.builder()
-                                .reserveTime(reserveTime)
-                                .reserveStatus(ReserveStatus.VALID)
-                                .member(member)
-                                .store(store)
-                                .build()
-                )
-        );
+        Reserve reserve = book(member, store, transformStringToLocalDate(reserveInfo.getReserveTime()));
+
+        return CreateReserveDto.Response.fromEntity(reserve, principal.getEmail());
     }
 
     /**
@@ -66,119 +73,174 @@ public class ReserveService {
      * 매장 상세 URL 에서 사용되기 때문에 storeName 대신 storeId가 들어온다.
      * @param reserveInfo 생성할 예약의 정보 DTO
      * @param storeId 진행하는 예약의 대상인 매장 id
-     * @param memberEmail 예약 진행중인 회원의 Email
+     * @param principal 예약 진행중인 회원의 인증 정보
      * @return 만들어진 예약 정보 DTO
      */
     @Transactional
     public CreateReserveDto.Response createReserveFromStore(
             CreateReserveDto.StoreRequest reserveInfo,
             Long storeId,
-            String memberEmail
+            MemberPrincipal principal
     ){
-        Member member = memberRepository.findByEmail(memberEmail)
-                .orElseThrow(() -> new NotExistsException(ErrorCode.MEMBER_NOT_EXISTS));
+        Member member = memberRepository.getReference(principal.getId());
 
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new NotExistsException(ErrorCode.STORE_NOT_EXISTS));
 
-        LocalDateTime reserveTime = transformStringToLocalDate(reserveInfo.getReserveTime());
-
-        return CreateReserveDto.Response.fromEntity(
-                reserveRepository.save(
-                        Reserve.builder()
-                                .reserveTime(reserveTime)
-                                .reserveStatus(ReserveStatus.VALID)
-                                .member(member)
-                                .store(store)
-                                .build()
-                )
-        );
+        Reserve reserve = book(member, store, transformStringToLocalDate(reserveInfo.getReserveTime()));
+
+        return CreateReserveDto.Response.fromEntity(reserve, principal.getEmail());
+    }
+
+    /**
+     * 예약 엔진에서 슬롯의 좌석을 확보한 뒤 예약 저장
+     * 좌석이 모두 찼으면 DB 를 거치지 않고 거절되며, 메모리 상태와 달리 DB 에서 좌석이 겹친 경우 유일 제약 위반을 충돌로 알린다.
+     * 지난 시각이나 예약 가능 기간 밖의 시각은 좌석 현황을 만들기 전에 거절한다. - 날짜마다 하루치 현황이 캐시에 쌓이지 않도록
+     */
+    private Reserve book(Member member, Store store, LocalDateTime reserveTime){
+        LocalDateTime now = LocalDateTime.now();
+
+        if (!reserveTime.isAfter(now) || !slotBookingEngine.isWithinHorizon(reserveTime.toLocalDate(), now.toLocalDate())){
+            throw new InvalidReserveException(ErrorCode.RESERVE_TIME_OUT_OF_RANGE);
+        }
+
+        SeatHold hold = slotBookingEngine.acquire(store, reserveTime);
+        Reserve reserve;
+
+        try {
+            reserve = reserveRepository.save(
+                    Reserve.builder()
+                            .reserveTime(reserveTime)
+                            .slotTime(hold.getSlotTime())
+                            .seatNo(hold.getSeatNo())
+                            .reserveStatus(ReserveStatus.VALID)
+                            .member(member)
+                            .store(store)
+                            .build()
+            );
+        } catch (DataIntegrityViolationException e){
+            // 인증 이후 탈퇴한 회원인 경우 - 확보한 좌석은 롤백 시 반납된다.
+            if (ConstraintViolations.isViolationOf(e, Reserve.FOREIGN_KEY_MEMBER)){
+                throw new NotExistsException(ErrorCode.MEMBER_NOT_EXISTS);
+            }
+            // 좌석 유일 제약이 아닌 위반은 충돌이 아니므로 그대로 던진다.
+            if (!ConstraintViolations.isViolationOf(e, Reserve.UNIQUE_STORE_SLOT_SEAT)){
+                throw e;
+            }
+            slotBookingEngine.conflict(hold);
+            throw new InvalidReserveException(ErrorCode.RESERVE_CONFLICT);
+        }
+
+        storeSuggestIndex.increasePopularityAfterCommit(store.getId());
+        storeRankings.increaseReservationsAfterCommit(store.getId());
+        storeTrending.recordReservationAfterCommit(store.getId());
+        noShowSweeper.scheduleAfterCommit(reserve.getId(), reserveTime);
+
+        return reserve;
     }
 
     /**
      * 점장에게 들어온 예약에 대한 단건 조회
-     * 다른 점장에 대한 예약을 조회할 수 없도록 검증  - isOwnerEmailMatched 로 수행
+     * 다른 점장에 대한 예약을 조회할 수 없도록 검증 - 예약과 함께 조회한 점장 이메일로 수행
+     * 예약, 회원, 매장, 점장을 한 번의 쿼리로 조회하므로 존재 여부와 접근 권한을 한 번에 판단한다.
      * @param reserveId 예약 id
      * @param partnerEmail 점장의 Email
      * @return 예약 DTO
      */
     public ReserveDto getOwnerReserveInfo(Long reserveId, String partnerEmail){
-        Reserve reserve = reserveRepository.findById(reserveId)
-                .orElseThrow(() -> new NotExistsException(ErrorCode.RESERVE_NOT_EXISTS));
+        ReserveStateDto state = getReserveState(reserveId);
 
-        if (isOwnerEmailMatched(partnerEmail, reserve)){
+        if (!partnerEmail.equals(state.getOwnerEmail())){
             throw new NotMatchException(ErrorCode.ILLEGAL_ACCESS);
         }
 
-        return ReserveDto.fromEntity(reserve);
+        return state.toReserveDto();
     }
 
     /**
-     * 점장에게 들어온 단건 예약에 대한 취소
-     * 다른 점장의 예약을 취소할 수 없도록 예약이 걸린 매점의 점장에 대한 검증 - isOwnerEmailMatched 로 수행
+     * 점장에게 들어온 단건 예약에 대한 취소 - 유효한(VALID) 예약만 취소할 수 있다.
+     * 다른 점장의 예약을 취소할 수 없도록 예약이 걸린 매점의 점장에 대한 검증 - 예약과 함께 조회한 점장 이메일로 수행
      * @param reserveId 예약 id
      * @param partnerEmail 점장 Email
      * @return 취소된 예약의 DTO
      */
     @Transactional
     public ReserveDto cancelUserReserveFromOwner(Long reserveId, String partnerEmail){
-        Reserve reserve = reserveRepository.findById(reserveId)
-                .orElseThrow(() -> new NotExistsException(ErrorCode.RESERVE_NOT_EXISTS));
+        ReserveStateDto state = getReserveState(reserveId);
 
-        if (isOwnerEmailMatched(partnerEmail, reserve)){
+        if (!partnerEmail.equals(state.getOwnerEmail())){
             throw new NotMatchException(ErrorCode.ILLEGAL_ACCESS);
         }
 
-        reserve.changeReserveStatus(ReserveStatus.CANCEL);
-
-        return ReserveDto.fromEntity(reserve);
+        return cancel(state);
     }
 
     /**
      * 회원의 예약 단건 조회
-     * 다른 예약 조회 불가능하도록 검증 수행 - isUserEmailMatched 로 수행
+     * 다른 예약 조회 불가능하도록 검증 수행 - 예약과 함께 조회한 회원 이메일로 수행
      * @param reserveId 예약 id
      * @param userEmail 유저의 Email
      * @return 해당 예약의 DTO
      */
     public ReserveDto getReserveFromUser(Long reserveId, String userEmail){
-        Reserve reserve = reserveRepository.findById(reserveId)
-                .orElseThrow(() -> new NotExistsException(ErrorCode.RESERVE_NOT_EXISTS));
+        ReserveStateDto state = getReserveState(reserveId);
 
-        if (isUserEmailMatched(userEmail, reserve)){
+        if (!userEmail.equals(state.getMemberEmail())){
             throw new NotMatchException(ErrorCode.ILLEGAL_ACCESS);
         }
 
-        return ReserveDto.fromEntity(reserve);
+        return state.toReserveDto();
     }
 
     /**
-     * 회원이 진행한 예약에 대한 취소
-     * 다른 회원의 예약을 취소할 수 없도록 예약이 걸린 매점의 점장에 대한 검증 - isUserEmailMatched 로 수행
+     * 회원이 진행한 예약에 대한 취소 - 유효한(VALID) 예약만 취소할 수 있다.
+     * 다른 회원의 예약을 취소할 수 없도록 예약한 회원에 대한 검증 - 예약과 함께 조회한 회원 이메일로 수행
      * @param reserveId 예약 id
      * @param userEmail 점장 Email
      * @return 취소된 예약의 DTO
      */
     @Transactional
     public ReserveDto cancelUserReserveFromUser(Long reserveId, String userEmail) {
-        Reserve reserve = reserveRepository.findById(reserveId)
-                .orElseThrow(() -> new NotExistsException(ErrorCode.RESERVE_NOT_EXISTS));
+        ReserveStateDto state = getReserveState(reserveId);
 
-        if (isUserEmailMatched(userEmail, reserve)) {
+        if (!userEmail.equals(state.getMemberEmail())) {
             throw new NotMatchException(ErrorCode.ILLEGAL_ACCESS);
         }
 
-        reserve.changeReserveStatus(ReserveStatus.CANCEL);
+        return cancel(state);
+    }
 
-        return ReserveDto.fromEntity(reserve);
+    private ReserveStateDto getReserveState(Long reserveId){
+        return reserveRepository.findStateById(reserveId)
+                .orElseThrow(() -> new NotExistsException(ErrorCode.RESERVE_NOT_EXISTS));
     }
 
-    private static boolean isUserEmailMatched(String userEmail, Reserve reserve) {
-        return !reserve.getMember().getEmail().equals(userEmail);
+    // 유효한 예약만 취소하고, 커밋되면 잡고 있던 좌석을 예약 엔진에 반납
+    private ReserveDto cancel(ReserveStateDto state){
+        transition(state, ReserveTransition.CANCEL);
+        slotBookingEngine.releaseAfterCommit(state.getStoreId(), state.getSlotTime(), state.getSeatNo());
+
+        return state.toReserveDto(ReserveStatus.CANCEL);
     }
 
-    private static boolean isOwnerEmailMatched(String email, Reserve reserve) {
-        return !reserve.getStore().getOwner().getEmail().equals(email);
+    /**
+     * 조건부 UPDATE 로 상태 전이 - 조회한 상태에서 전이할 수 없거나, 그 사이 다른 요청이 먼저 상태를 바꾼 경우
+     * 해당 시점의 상태에 맞는 에러 코드로 실패한다.
+     */
+    private void transition(ReserveStateDto state, ReserveTransition transition){
+        ReserveStatus current = state.getReserveStatus();
+
+        if (transition.isAllowedFrom(current)){
+            if (reserveRepository.changeStatus(state.getReserveId(), transition, LocalDateTime.now())){
+                return;
+            }
+
+            // 조회 이후 다른 요청이 먼저 상태를 바꾼 경우
+            current = reserveRepository.findStatusById(state.getReserveId())
+                    .orElseThrow(() -> new NotExistsException(ErrorCode.RESERVE_NOT_EXISTS));
+        }
+
+        throw new InvalidReserveException(transition.rejectReason(current));
     }
 
     /**
@@ -192,31 +254,30 @@ public class ReserveService {
      */
     @Transactional(noRollbackFor = InvalidReserveException.class)
     public ReserveDto arriveCheck(Long reserveId, String userEmail){
-        Reserve reserve = reserveRepository.findById(reserveId)
-                .orElseThrow(() -> new NotExistsException(ErrorCode.RESERVE_NOT_EXISTS));
+        ReserveStateDto state = getReserveState(reserveId);
 
-        if (isUserEmailMatched(userEmail, reserve)){
+        if (!userEmail.equals(state.getMemberEmail())){
             throw new NotMatchException(ErrorCode.ILLEGAL_ACCESS);
         }
 
         // 이미 취소된 예약인지
-        if (reserve.getReserveStatus() == ReserveStatus.CANCEL){
+        if (state.getReserveStatus() == ReserveStatus.CANCEL){
             throw new InvalidReserveException(ErrorCode.RESERVE_CANCELED);
         }
 
-        // 예약시간 10분 이전에 도착했는지 확인
-        if (isReserveValid(reserve)){
-            reserve.changeReserveStatus(ReserveStatus.CANCEL);
+        // 예약시간 10분 이전에 도착했는지 확인 - 늦은 경우 예약은 취소되고 예외는 롤백하지 않는다.
+        if (isReserveValid(state.getReserveTime())){
+            cancel(state);
             throw new InvalidReserveException(ErrorCode.RESERVE_NO_LONGER_AVAILABLE);
         }
 
-        reserve.changeReserveStatus(ReserveStatus.COMPLETE);
+        transition(state, ReserveTransition.ARRIVE);
 
-        return ReserveDto.fromEntity(reserve);
+        return state.toReserveDto(ReserveStatus.COMPLETE);
     }
 
-    private static boolean isReserveValid(Reserve reserve) {
-        return !LocalDateTime.now().isBefore(reserve.getReserveTime().minusMinutes(10));
+    private static boolean isReserveValid(LocalDateTime reserveTime) {
+        return !LocalDateTime.now().isBefore(Reserve.arriveDeadline(reserveTime));
     }
 
     // String to LocalDateTime
@@ -4,16 +4,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import zerobase.reserve.domain.Reserve;
 import zerobase.reserve.domain.ReserveStatus;
+import zerobase.reserve.domain.ReserveTransition;
 import zerobase.reserve.domain.Review;
 import zerobase.reserve.dto.CreateReviewDto;
+import zerobase.reserve.dto.ReserveStateDto;
 import zerobase.reserve.exception.ErrorCode;
 import zerobase.reserve.exception.InvalidReviewException;
 import zerobase.reserve.exception.NotExistsException;
 import zerobase.reserve.exception.NotMatchException;
+import zerobase.reserve.ranking.StoreRankings;
+import zerobase.reserve.repository.MemberRepository;
 import zerobase.reserve.repository.ReserveRepository;
 import zerobase.reserve.repository.ReviewRepository;
+import zerobase.reserve.repository.StoreRepository;
 
 import java.time.LocalDateTime;
 
@@ -25,43 +29,61 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final ReserveRepository reserveRepository;
+    private final StoreRepository storeRepository;
+    private final MemberRepository memberRepository;
+    private final StoreRankings storeRankings;
 
     /**
      * 리뷰 생성 - 리뷰는 생성 후 방문이 완료된 예약만 생성이 가능하다. 따라서 다음과 같은 검증을 거쳐야 한다.
      * 1. 해당 예약이 이미 리뷰가 수행되었는지 확인
      * 2. 해당 예약이 방문이 완료되었는지 확인
      * 3. 리뷰 생성에 대한 날짜 제약 - 리뷰 생성 날짜가 방문이 완료된 날로부터 1주일 초과로 진행된 경우에 생성할 수 없다.
+     * 예약 상태 변경(COMPLETE -> REVIEWED)은 조건부 UPDATE 로 수행하므로 같은 예약에 동시에 들어온 리뷰 요청 중 하나만 성공한다.
      * @param request 리뷰 생성 요청 DTO
      * @return 생성된 리뷰 응답 DTO
      */
     @Transactional
     public CreateReviewDto.Response createReview(CreateReviewDto.Request request, Long reserveId, String memberEmail){
-        Reserve reserve = reserveRepository.findById(reserveId)
+        ReserveStateDto state = reserveRepository.findStateById(reserveId)
                 .orElseThrow(() -> new NotExistsException(ErrorCode.RESERVE_NOT_EXISTS));
 
-        if (checkIllegalAccess(memberEmail, reserve.getMember().getEmail())){
+        if (checkIllegalAccess(memberEmail, state.getMemberEmail())){
             throw new NotMatchException(ErrorCode.ILLEGAL_ACCESS);
         }
 
-        if (checkReserveAlreadyReviewed(reserve.getReserveStatus())){
+        if (checkReserveAlreadyReviewed(state.getReserveStatus())){
             throw new InvalidReviewException(ErrorCode.ALREADY_REVIEWED);
         }
 
-        if (checkReserveNotComplete(reserve.getReserveStatus())){
+        if (checkReserveNotComplete(state.getReserveStatus())){
             throw new NotMatchException(ErrorCode.RESERVE_NOT_COMPLETE);
         }
 
-        if (checkReserveDateTime(reserve.getLastModifiedDate())){
+        if (checkReserveDateTime(state.getLastModifiedDate())){
             throw new InvalidReviewException(ErrorCode.CANNOT_CREATE_REVIEW_FROM_REVIEW);
         }
 
-        reserve.changeReserveStatus(ReserveStatus.REVIEWED);
+        if (!reserveRepository.changeStatus(reserveId, ReserveTransition.REVIEW, LocalDateTime.now())){
+            // 조회 이후 다른 요청이 먼저 상태를 바꾼 경우
+            ReserveStatus current = reserveRepository.findStatusById(reserveId)
+                    .orElseThrow(() -> new NotExistsException(ErrorCode.RESERVE_NOT_EXISTS));
+
+            if (checkReserveAlreadyReviewed(current)){
+                throw new InvalidReviewException(ErrorCode.ALREADY_REVIEWED);
+            }
+
+            throw new NotMatchException(ReserveTransition.REVIEW.rejectReason(current));
+        }
+
+        // 매장 평점 집계는 다시 계산하지 않고 이 리뷰의 평점만 더한다.
+        storeRepository.addRating(state.getStoreId(), request.getRating());
+        storeRankings.addRatingAfterCommit(state.getStoreId(), request.getRating());
 
         return CreateReviewDto.Response.fromEntity(
                 reviewRepository.save(
                         Review.builder()
-                                .store(reserve.getStore())
-                                .member(reserve.getMember())
+                                .store(storeRepository.getReference(state.getStoreId()))
+                                .member(memberRepository.getReference(state.getMemberId()))
                                 .rating(request.getRating())
                                 .reviewContent(request.getReviewContent())
                                 .build()
@@ -71,7 +93,7 @@ public class ReviewService {
 
     // 다른 회원의 예약을 조회하는지 검증
     private static boolean checkIllegalAccess(String memberEmail, String reserveEmail) {
-        return !reserveEmail.equals(memberEmail);
+        return !memberEmail.equals(reserveEmail);
     }
 
     // 이미 리뷰된 예약인지 검증
@@ -1,18 +1,47 @@
 package zerobase.reserve.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import zerobase.reserve.booking.SlotBookingEngine;
+import zerobase.reserve.datasource.ReplicaRoutingDataSource;
 import zerobase.reserve.domain.Address;
 import zerobase.reserve.domain.Member;
 import zerobase.reserve.domain.Store;
+import zerobase.reserve.duplicate.KnownNameFilter;
 import zerobase.reserve.dto.CreateStoreDto;
+import zerobase.reserve.dto.CursorPage;
+import zerobase.reserve.dto.PageCursor;
+import zerobase.reserve.dto.StoreAvailabilityDto;
+import zerobase.reserve.dto.StoreDto;
+import zerobase.reserve.dto.StoreRankingDto;
+import zerobase.reserve.dto.StoreSearchCond;
+import zerobase.reserve.dto.StoreSuggestDto;
+import zerobase.reserve.dto.TrendingStoreDto;
 import zerobase.reserve.exception.DuplicateException;
+import zerobase.reserve.exception.InvalidRequestException;
 import zerobase.reserve.exception.NotExistsException;
+import zerobase.reserve.ranking.RankedStore;
+import zerobase.reserve.ranking.RankingType;
+import zerobase.reserve.ranking.StoreRankings;
+import zerobase.reserve.repository.ConstraintViolations;
 import zerobase.reserve.repository.MemberRepository;
 import zerobase.reserve.repository.StoreRepository;
+import zerobase.reserve.search.StoreDocument;
+import zerobase.reserve.search.StoreSearchHit;
+import zerobase.reserve.search.StoreSearchIndex;
+import zerobase.reserve.search.StoreSuggestIndex;
+import zerobase.reserve.security.MemberPrincipal;
+import zerobase.reserve.trending.StoreTrending;
+import zerobase.reserve.trending.TrendingStore;
 
-import java.util.Optional;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static zerobase.reserve.exception.ErrorCode.*;
 
@@ -23,53 +52,238 @@ public class StoreService {
 
     private final StoreRepository storeRepository;
     private final MemberRepository memberRepository;
+    private final StoreSearchIndex storeSearchIndex;
+    private final StoreSuggestIndex storeSuggestIndex;
+    private final SlotBookingEngine slotBookingEngine;
+    private final KnownNameFilter knownNameFilter;
+    private final StoreRankings storeRankings;
+    private final StoreTrending storeTrending;
 
     // 입력받은 매점 정보를 DB에 저장
 
     /**
      * 입력으로 들어온 매장 정보를 DB에 저장
      * @param storeInfo 저장할 매장 정보 DTO
-     * @param ownerEmail 해당 매장의 주인 - 로그인을 통해 나온 JWT 로 얻을 수 있다.
+     * @param principal 해당 매장의 주인 - 로그인을 통해 나온 인증 정보이므로 회원을 다시 조회하지 않는다.
      * @return 저장된 매장 정보 DTO
      */
     @Transactional
-    public CreateStoreDto.Response createStore(CreateStoreDto.Request storeInfo, String ownerEmail){
+    public CreateStoreDto.Response createStore(CreateStoreDto.Request storeInfo, MemberPrincipal principal){
         validateStoreName(storeInfo);
-        Member owner = getOwnerFromEmail(ownerEmail);
-
-        return CreateStoreDto.Response.fromEntity(
-                storeRepository.save(Store.builder()
-                        .storeName(storeInfo.getStoreName())
-                        .owner(owner)
-                        .address(new Address(storeInfo.getLegion(), storeInfo.getCity(), storeInfo.getStreet(), storeInfo.getZipcode()))
-                        .description(storeInfo.getDescription())
-                        .build()
-                )
+        validateSlotMinutes(storeInfo);
+        Member owner = memberRepository.getReference(principal.getId());
+
+        Store store = saveStore(Store.builder()
+                .storeName(storeInfo.getStoreName())
+                .owner(owner)
+                .address(new Address(storeInfo.getLegion(), storeInfo.getCity(), storeInfo.getStreet(), storeInfo.getZipcode()))
+                .description(storeInfo.getDescription())
+                .capacity(storeInfo.getCapacity())
+                .slotMinutes(storeInfo.getSlotMinutes())
+                .build()
         );
+
+        knownNameFilter.addStoreNameAfterCommit(store.getStoreName());
+        storeSearchIndex.addAfterCommit(new StoreDocument(store.getId(), store.getStoreName(), store.getDescription()));
+        storeSuggestIndex.addAfterCommit(store.getId(), store.getStoreName());
+        storeRankings.addAfterCommit(store.getId(), store.getStoreName(), store.getAddress().getLegion());
+
+        // 이름 클레임이 없는 이전 토큰의 인증 정보일 때만 회원을 조회한다.
+        String ownerName = principal.getName() != null ? principal.getName() : owner.getName();
+
+        return CreateStoreDto.Response.fromEntity(store, ownerName);
+    }
+
+    /**
+     * 매장 목록 조회
+     * 검색어가 없으면 매장 id 순(sort=rating 이면 평균 평점 내림차순)으로 DB 에서 조회하고, 검색어가 있으면 검색 색인에서 점수 순으로 매장 id 를 찾은 뒤
+     * 해당 페이지의 매장 정보만 DB 에서 조회한다.
+     * @param cond 검색 조건
+     * @param cursor 이전 페이지의 마지막 매장 커서, 첫 페이지는 null
+     * @param size 페이지 크기
+     * @return 매장 정보 페이지
+     */
+    public CursorPage<StoreDto> getStoreList(StoreSearchCond cond, PageCursor cursor, int size){
+        if (!StringUtils.hasText(cond.getKeyword()) && cond.isSortByRating()){
+            List<StoreDto> stores = storeRepository.findStoreDtoListOrderByRating(cursor, size + 1);
+
+            return CursorPage.of(stores, size, store -> PageCursor.of(store.getRatingAverage(), store.getStoreId()));
+        }
+
+        if (!StringUtils.hasText(cond.getKeyword())){
+            List<StoreDto> stores = storeRepository.findStoreDtoList(cond, cursor, size + 1);
+
+            return CursorPage.of(stores, size, store -> PageCursor.of(store.getStoreId()));
+        }
+
+        List<StoreSearchHit> hits = storeSearchIndex.search(cond.getKeyword()).stream()
+                .filter(hit -> cursor == null || hit.isAfter(cursor.getSortKeyAsInt(), cursor.getId()))
+                .limit(size + 1)
+                .collect(Collectors.toList());
+
+        Map<Long, StoreDto> storeById = storeRepository.findStoreDtoByIds(
+                hits.stream().map(StoreSearchHit::getStoreId).collect(Collectors.toList())
+        ).stream().collect(Collectors.toMap(StoreDto::getStoreId, Function.identity()));
+
+        Map<Long, Integer> scoreById = new HashMap<>();
+        List<StoreDto> stores = new ArrayList<>();
+
+        for (StoreSearchHit hit : hits){
+            StoreDto store = storeById.get(hit.getStoreId());
+
+            if (store != null){
+                scoreById.put(hit.getStoreId(), hit.getScore());
+                stores.add(store);
+            }
+        }
+
+        return CursorPage.of(stores, size, store -> PageCursor.of(scoreById.get(store.getStoreId()), store.getStoreId()));
     }
 
 
     /**
-     * 파트너 이메일을 통해 파트너 엔티티 가져오기
-     * @param ownerEmail 찾을 파트너 이메일
-     * @return 파트너 엔티티
+     * 매장 이름 자동완성 - DB 를 조회하지 않고 자동완성 색인에서 인기도 순으로 조회한다.
+     * @param query 매장 이름의 앞부분 또는 초성
+     * @param size 최대 개수
+     * @return 자동완성 후보 매장 리스트
+     */
+    public List<StoreSuggestDto> suggestStores(String query, int size){
+        return storeSuggestIndex.suggest(query, Math.min(Math.max(size, 1), StoreSuggestIndex.TOP_K)).stream()
+                .map(StoreSuggestDto::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 상위 매장 순위 조회 - DB 를 조회하지 않고 메모리의 순위표에서 앞에서부터 size 개를 읽는다.
+     * @param by 순위 기준 (rating, reservations)
+     * @param region 지역(주소의 legion), 비어있으면 전체 매장
+     * @param size 최대 개수
+     * @return 순위대로 정렬된 매장 순위 리스트
      */
-    private Member getOwnerFromEmail(String ownerEmail) {
-        Optional<Member> owner = memberRepository.findByEmail(ownerEmail);
+    public List<StoreRankingDto> getTopStores(String by, String region, int size){
+        RankingType type = RankingType.fromKey(by)
+                .orElseThrow(() -> new InvalidRequestException(INVALID_RANKING_TYPE));
+        List<RankedStore> top = storeRankings.top(type, region, Math.min(Math.max(size, 1), StoreRankings.MAX_SIZE));
+        List<StoreRankingDto> result = new ArrayList<>(top.size());
 
-        if (owner.isEmpty()){
-            throw new NotExistsException(MEMBER_NOT_EXISTS);
+        for (int i = 0; i < top.size(); i++){
+            result.add(StoreRankingDto.of(i + 1, type, top.get(i)));
         }
 
-        return owner.get();
+        return result;
     }
 
-    // 해당 매점 이름이 이미 존재하는지 확인
+    /**
+     * 인기 급상승 매장 조회 - 최근 조회, 예약 빈도 추정값 순으로 매장 id 를 찾은 뒤 해당 매장 정보만 DB 에서 조회한다.
+     * @param size 최대 개수
+     * @return 추정값이 높은 순으로 정렬된 매장 리스트
+     */
+    public List<TrendingStoreDto> getTrendingStores(int size){
+        List<TrendingStore> trending = storeTrending.trending(Math.min(Math.max(size, 1), StoreTrending.MAX_SIZE));
+
+        Map<Long, StoreDto> storeById = storeRepository.findStoreDtoByIds(
+                trending.stream().map(TrendingStore::getStoreId).collect(Collectors.toList())
+        ).stream().collect(Collectors.toMap(StoreDto::getStoreId, Function.identity()));
+
+        List<TrendingStoreDto> result = new ArrayList<>(trending.size());
+
+        for (TrendingStore store : trending){
+            StoreDto storeDto = storeById.get(store.getStoreId());
+
+            if (storeDto != null){
+                result.add(TrendingStoreDto.builder()
+                        .rank(result.size() + 1)
+                        .storeId(storeDto.getStoreId())
+                        .storeName(storeDto.getStoreName())
+                        .legion(storeDto.getLegion())
+                        .score(store.getScore())
+                        .build());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 매장의 하루 예약 가능 시간 조회
+     * 예약 엔진이 가진 하루치 좌석 현황에서 계산하므로 현황이 캐시에 있으면 reserve 테이블을 조회하지 않는다.
+     * 이때 만든 좌석 현황은 예약 시 좌석 확보에도 쓰이므로 복제본이 아닌 주 DB 에서 읽는다.
+     * (쓰기 트랜잭션으로 보내면 조회한 회원의 이후 읽기까지 주 DB 로 가므로 읽기 전용 트랜잭션에 주 DB 를 지정한다.)
+     * @param storeId 매장 id
+     * @param date 조회할 날짜 (yyyy-MM-dd) - 오늘부터 예약 가능 기간(reserve.booking.horizon-days) 안이어야 한다.
+     * @return 좌석이 남은 슬롯 목록
+     */
+    public StoreAvailabilityDto getAvailability(Long storeId, String date){
+        LocalDate day = parseDate(date);
+        ReplicaRoutingDataSource.routeToPrimary();
+        Store store = storeRepository.findById(storeId)
+                .orElseThrow(() -> new NotExistsException(STORE_NOT_EXISTS));
+        int[] remainingSeats = slotBookingEngine.remainingSeats(store, day);
+        List<StoreAvailabilityDto.Slot> openSlots = new ArrayList<>();
+
+        for (int slot = 0; slot < remainingSeats.length; slot++){
+            if (remainingSeats[slot] > 0){
+                openSlots.add(new StoreAvailabilityDto.Slot(
+                        day.atStartOfDay().plusMinutes((long) slot * store.getSlotMinutes()), remainingSeats[slot]));
+            }
+        }
+
+        return StoreAvailabilityDto.builder()
+                .storeId(store.getId())
+                .date(day)
+                .capacity(store.getCapacity())
+                .slotMinutes(store.getSlotMinutes())
+                .openSlots(openSlots)
+                .build();
+    }
+
+    private LocalDate parseDate(String date){
+        LocalDate day;
+
+        try {
+            day = LocalDate.parse(date);
+        } catch (DateTimeParseException e){
+            throw new InvalidRequestException(INVALID_DATE);
+        }
+
+        if (!slotBookingEngine.isWithinHorizon(day, LocalDate.now())){
+            throw new InvalidRequestException(INVALID_DATE);
+        }
+
+        return day;
+    }
+
+    // 해당 매점 이름이 이미 존재하는지 확인 - 블룸 필터에 있을 수도 있는 이름만 DB 에서 확인하고, 최종 판단은 유일 제약이 한다.
     private void validateStoreName(CreateStoreDto.Request storeInfo) {
-        Optional<Store> storeData = storeRepository.findByStoreName(storeInfo.getStoreName());
+        String storeName = storeInfo.getStoreName();
 
-        if (storeData.isPresent()){
+        if (knownNameFilter.mightContainStoreName(storeName) && storeRepository.existsByStoreName(storeName)){
             throw new DuplicateException(DUPLICATE_STORE_NAME);
         }
     }
+
+    // 동시에 같은 이름으로 등록한 경우 매장 이름 유일 제약 위반을 DuplicateException 으로 바꾼다.
+    // 인증 이후 탈퇴한 회원이라 주인 외래 키 제약을 위반한 경우는 NotExistsException 으로 바꾸고, 그 밖의 제약 위반은 그대로 던진다.
+    private Store saveStore(Store store) {
+        try {
+            return storeRepository.save(store);
+        } catch (DataIntegrityViolationException e){
+            if (ConstraintViolations.isViolationOf(e, Store.UNIQUE_STORE_NAME)){
+                throw new DuplicateException(DUPLICATE_STORE_NAME);
+            }
+            if (ConstraintViolations.isViolationOf(e, Store.FOREIGN_KEY_OWNER)){
+                throw new NotExistsException(MEMBER_NOT_EXISTS);
+            }
+            throw e;
+        }
+    }
+
+    // 슬롯이 날짜 경계를 넘지 않도록 슬롯 길이는 하루를 나누어 떨어지게 해야 한다.
+    private void validateSlotMinutes(CreateStoreDto.Request storeInfo) {
+        Integer slotMinutes = storeInfo.getSlotMinutes();
+
+        if (slotMinutes != null && (slotMinutes <= 0 || 1440 % slotMinutes != 0)){
+            throw new InvalidRequestException(INVALID_SLOT_MINUTES);
+        }
+    }
 }
@@ -0,0 +1,42 @@
+package zerobase.reserve.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션이 커밋된 뒤에 실행할 작업 등록
+ * 롤백된 변경이 메모리 상태(색인, 순위표, 캐시 등)에 반영되지 않도록 DB 변경에 따라 메모리 상태를 바꾸는 작업에 사용한다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 실행하고, 트랜잭션 밖이면 바로 실행한다.
+     * @param task 실행할 작업
+     */
+    public static void run(Runnable task){
+        if (!runInTransaction(task)){
+            task.run();
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 호출된 경우에만 커밋된 뒤에 실행한다.
+     * @param task 실행할 작업
+     * @return 등록했으면 true, 트랜잭션 밖이라 실행하지 않으면 false
+     */
+    public static boolean runInTransaction(Runnable task){
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return false;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+
+        return true;
+    }
+}
@@ -0,0 +1,61 @@
+package zerobase.reserve.trending;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * count-min sketch - depth 개의 행마다 width 개의 카운터를 두고, 키를 행마다 다른 해시로 카운터 하나에 대응시켜 더한다.
+ * 추정값은 키에 대응되는 카운터들의 최솟값이며 실제 빈도보다 작지 않다.
+ * (전체 빈도 합이 N 일 때 e / width * N 을 넘게 과대 추정할 확률은 e^-depth 이하)
+ * 카운터는 AtomicLongArray 이므로 잠금 없이 여러 스레드가 동시에 더할 수 있고, 메모리는 키 개수와 관계없이 width * depth 개로 고정된다.
+ */
+public class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final AtomicLongArray counters;
+
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0) throw new IllegalArgumentException("width and depth must be positive");
+
+        this.width = width;
+        this.depth = depth;
+        this.counters = new AtomicLongArray(Math.multiplyExact(width, depth));
+    }
+
+    public void add(long key, long count){
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int row = 0; row < depth; row++){
+            counters.addAndGet(index(row, h1, h2), count);
+        }
+    }
+
+    public long estimate(long key){
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long min = Long.MAX_VALUE;
+
+        for (int row = 0; row < depth; row++){
+            min = Math.min(min, counters.get(index(row, h1, h2)));
+        }
+
+        return min;
+    }
+
+    // 행마다 h1 + row * h2 로 열을 정한다. (double hashing)
+    private int index(int row, int h1, int h2){
+        return row * width + Math.floorMod(h1 + row * h2, width);
+    }
+
+    // splitmix64 의 마무리 단계로 키의 비트를 섞는다.
+    private static long hash(long key){
+        long hash = key + 0x9e3779b97f4a7c15L;
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+
+        return hash ^ (hash >>> 31);
+    }
+}
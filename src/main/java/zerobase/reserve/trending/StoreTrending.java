@@ -0,0 +1,199 @@
+package zerobase.reserve.trending;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import zerobase.reserve.transaction.AfterCommit;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 window 동안 조회, 예약이 많은 매장 추정
+ * - window 를 buckets 개의 구간으로 나누고 구간마다 count-min sketch 를 둔다. 구간이 바뀌면 가장 오래된 구간의 sketch 를 새로 만들어
+ *   교체하므로 window 이전의 기록은 통째로 버려지고, 메모리는 매장 수와 관계없이 sketch buckets 개와 후보 heavy-hitters 개로 고정된다.
+ * - 매장 빈도 추정값은 window 안에 있는 구간들의 추정값 합이다.
+ * - 기록할 때마다 그 매장의 추정값으로 상위 후보(heavy hitter) 목록을 갱신한다. 후보 목록이 가득 찼을 때 가장 작은 후보보다 큰 매장만
+ *   가장 작은 후보를 밀어내고 들어간다.
+ * sketch 갱신과 구간 교체(CAS), 이미 후보인 매장의 갱신, 입장 기준에 못 미치는 매장의 기록은 잠금 없이 처리되며
+ * 후보를 밀어내는 경우와 구간 교체 후 후보 추정값을 다시 계산하는 경우에만 후보 목록을 잠근다.
+ */
+@Component
+public class StoreTrending {
+
+    public static final int TOP_K = 10;
+    public static final int MAX_SIZE = 100;
+
+    private final long bucketMillis;
+    private final int width;
+    private final int depth;
+    private final int heavyHitters;
+    private final long viewWeight;
+    private final long reservationWeight;
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final Map<Long, Long> candidates = new ConcurrentHashMap<>();
+    private volatile long admissionThreshold = 0;
+
+    public StoreTrending(
+            @Value("${reserve.trending.window:1h}") Duration window,
+            @Value("${reserve.trending.buckets:6}") int buckets,
+            @Value("${reserve.trending.width:2048}") int width,
+            @Value("${reserve.trending.depth:4}") int depth,
+            @Value("${reserve.trending.heavy-hitters:100}") int heavyHitters,
+            @Value("${reserve.trending.view-weight:1}") long viewWeight,
+            @Value("${reserve.trending.reservation-weight:5}") long reservationWeight
+    ) {
+        if (buckets <= 0 || window.toMillis() < buckets) throw new IllegalArgumentException("invalid trending window");
+
+        this.bucketMillis = window.toMillis() / buckets;
+        this.width = width;
+        this.depth = depth;
+        this.heavyHitters = heavyHitters;
+        this.viewWeight = viewWeight;
+        this.reservationWeight = reservationWeight;
+        this.buckets = new AtomicReferenceArray<>(buckets);
+    }
+
+    /**
+     * 매장 상세 조회 기록
+     */
+    public void recordView(Long storeId){
+        record(storeId, viewWeight, System.currentTimeMillis());
+    }
+
+    /**
+     * 매장 예약 기록 - 트랜잭션 안에서 호출되면 커밋 이후에 기록한다.
+     */
+    public void recordReservationAfterCommit(Long storeId){
+        AfterCommit.run(() -> record(storeId, reservationWeight, System.currentTimeMillis()));
+    }
+
+    /**
+     * 최근 window 동안 조회, 예약이 많은 매장 조회
+     * @param limit 최대 개수 - 후보 목록(heavy-hitters) 안에서만 찾는다.
+     * @return 추정값이 높은 순으로 정렬된 매장 리스트
+     */
+    public List<TrendingStore> trending(int limit){
+        return trending(limit, System.currentTimeMillis());
+    }
+
+    void record(Long storeId, long weight, long now){
+        if (storeId == null || weight <= 0) return;
+
+        current(now).sketch.add(storeId, weight);
+
+        long estimate = estimate(storeId, now);
+
+        if (candidates.computeIfPresent(storeId, (id, previous) -> estimate) != null) return;
+
+        if (candidates.size() < heavyHitters || estimate > admissionThreshold){
+            admit(storeId, estimate);
+        }
+    }
+
+    List<TrendingStore> trending(int limit, long now){
+        List<TrendingStore> trending = new ArrayList<>();
+
+        for (Long storeId : candidates.keySet()){
+            long estimate = estimate(storeId, now);
+
+            if (estimate > 0){
+                trending.add(new TrendingStore(storeId, estimate));
+            }
+        }
+
+        trending.sort(TrendingStore.RANKING);
+
+        return trending.subList(0, Math.min(limit, trending.size()));
+    }
+
+    long estimate(long storeId, long now){
+        long epoch = now / bucketMillis;
+        long estimate = 0;
+
+        for (int i = 0; i < buckets.length(); i++){
+            Bucket bucket = buckets.get(i);
+
+            if (bucket != null && bucket.epoch > epoch - buckets.length() && bucket.epoch <= epoch){
+                estimate += bucket.sketch.estimate(storeId);
+            }
+        }
+
+        return estimate;
+    }
+
+    /**
+     * 지금 구간의 sketch - 자리에 이전 구간이 남아있으면 새 sketch 로 교체한다.
+     * 교체에 성공한 스레드가 후보들의 추정값을 다시 계산해 window 를 벗어난 기록만큼 낮추고 0 이 된 후보를 뺀다.
+     */
+    private Bucket current(long now){
+        long epoch = now / bucketMillis;
+        int index = (int) Math.floorMod(epoch, (long) buckets.length());
+
+        while (true){
+            Bucket bucket = buckets.get(index);
+
+            if (bucket != null && bucket.epoch >= epoch) return bucket;
+
+            Bucket next = new Bucket(epoch, new CountMinSketch(width, depth));
+
+            if (buckets.compareAndSet(index, bucket, next)){
+                if (bucket != null){
+                    refreshCandidates(now);
+                }
+
+                return next;
+            }
+        }
+    }
+
+    private synchronized void admit(Long storeId, long estimate){
+        if (candidates.size() >= heavyHitters){
+            Map.Entry<Long, Long> smallest = smallestCandidate();
+
+            if (smallest == null || estimate <= smallest.getValue()) return;
+
+            candidates.remove(smallest.getKey());
+        }
+
+        candidates.put(storeId, estimate);
+        updateAdmissionThreshold();
+    }
+
+    private synchronized void refreshCandidates(long now){
+        for (Long storeId : candidates.keySet()){
+            long estimate = estimate(storeId, now);
+
+            if (estimate > 0){
+                candidates.put(storeId, estimate);
+            } else {
+                candidates.remove(storeId);
+            }
+        }
+
+        updateAdmissionThreshold();
+    }
+
+    private void updateAdmissionThreshold(){
+        Map.Entry<Long, Long> smallest = smallestCandidate();
+
+        admissionThreshold = candidates.size() < heavyHitters || smallest == null ? 0 : smallest.getValue();
+    }
+
+    private Map.Entry<Long, Long> smallestCandidate(){
+        return candidates.entrySet().stream()
+                .min(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+
+    private static class Bucket {
+        private final long epoch;
+        private final CountMinSketch sketch;
+
+        private Bucket(long epoch, CountMinSketch sketch) {
+            this.epoch = epoch;
+            this.sketch = sketch;
+        }
+    }
+}
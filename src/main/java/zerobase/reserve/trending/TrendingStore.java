@@ -0,0 +1,23 @@
+package zerobase.reserve.trending;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Comparator;
+
+/**
+ * 인기 급상승 매장 - 최근 window 동안의 가중 빈도(조회 + 예약) 추정값이 높은 순, 같으면 매장 id 오름차순으로 정렬된다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class TrendingStore {
+
+    static final Comparator<TrendingStore> RANKING = Comparator
+            .comparingLong(TrendingStore::getScore).reversed()
+            .thenComparing(TrendingStore::getStoreId);
+
+    private final Long storeId;
+    private final long score;
+}
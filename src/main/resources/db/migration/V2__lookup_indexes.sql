@@ -0,0 +1,19 @@
+-- 이메일, 매장 이름 단건 조회(findByEmail, findByStoreName)와 중복 검사를 인덱스로 처리
+alter table member
+    add constraint member_unique_email
+        unique (email);
+
+alter table store
+    add constraint store_unique_store_name
+        unique (store_name);
+
+-- 회원, 매장별 예약 목록 (예약 시각, 예약 id) 키셋 페이지네이션
+create index idx_reserve_member_id_reserve_time on reserve (member_id, reserve_time, reserve_id);
+create index idx_reserve_store_id_reserve_time on reserve (store_id, reserve_time, reserve_id);
+
+-- 매장, 회원별 리뷰 목록 리뷰 id 키셋 페이지네이션
+create index idx_review_store_id_review_id on review (store_id, review_id);
+create index idx_review_member_id_review_id on review (member_id, review_id);
+
+-- 회원 권한 컬렉션 로딩 (where member_member_id = ?) 을 인덱스만으로 처리
+create index idx_member_roles_member_id_roles on member_roles (member_member_id, roles);
@@ -0,0 +1,14 @@
+-- 매장 수용 인원, 예약 슬롯 길이(분)
+alter table store add column capacity integer not null default 10;
+alter table store add column slot_minutes integer not null default 30;
+
+-- 예약이 잡고 있는 슬롯 시작 시각과 좌석 번호 - 취소된 예약은 좌석 번호를 비운다.
+alter table reserve add column slot_time timestamp null;
+alter table reserve add column seat_no integer;
+
+alter table reserve
+    add constraint reserve_unique_store_slot_seat
+        unique (store_id, slot_time, seat_no);
+
+-- 방문 확인 마감이 지난 유효한 예약 조회 (노쇼 처리)
+create index idx_reserve_status_reserve_time on reserve (reserve_status, reserve_time);
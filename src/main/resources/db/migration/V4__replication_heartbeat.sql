@@ -0,0 +1,8 @@
+-- 복제 지연 측정용 heartbeat - 애플리케이션이 주 DB 에 주기적으로 현재 시각(ms)을 기록하고 복제본에서 읽어 지연을 계산한다.
+create table replication_heartbeat (
+    id integer not null,
+    beat_millis bigint not null,
+    primary key (id)
+);
+
+insert into replication_heartbeat (id, beat_millis) values (1, 0);
@@ -0,0 +1,39 @@
+-- 매장 평점 집계 - 리뷰 등록 시 산술 UPDATE 로 갱신한다.
+create table store_rating (
+                              store_id bigint not null,
+                              rating_average double not null default 0,
+                              rating_sum bigint not null default 0,
+                              rating_count bigint not null default 0,
+                              rating_0 bigint not null default 0,
+                              rating_1 bigint not null default 0,
+                              rating_2 bigint not null default 0,
+                              rating_3 bigint not null default 0,
+                              rating_4 bigint not null default 0,
+                              rating_5 bigint not null default 0,
+                              primary key (store_id)
+) engine=InnoDB default charset=utf8;
+
+alter table store_rating
+    add constraint store_rating_foreign_key_storeId
+        foreign key (store_id)
+            references store (store_id);
+
+-- 매장 목록 평점순 조회 (평균 평점, 매장 id 내림차순 키셋)
+create index idx_store_rating_average_store_id on store_rating (rating_average, store_id);
+
+-- 기존 매장의 평점을 이미 등록된 리뷰로 한 번만 계산해 채운다.
+insert into store_rating (store_id, rating_average, rating_sum, rating_count,
+                          rating_0, rating_1, rating_2, rating_3, rating_4, rating_5)
+select s.store_id,
+       coalesce(avg(r.rating), 0),
+       coalesce(sum(r.rating), 0),
+       count(r.review_id),
+       sum(case when r.rating = 0 then 1 else 0 end),
+       sum(case when r.rating = 1 then 1 else 0 end),
+       sum(case when r.rating = 2 then 1 else 0 end),
+       sum(case when r.rating = 3 then 1 else 0 end),
+       sum(case when r.rating = 4 then 1 else 0 end),
+       sum(case when r.rating = 5 then 1 else 0 end)
+from store s
+         left join review r on r.store_id = s.store_id
+group by s.store_id;
@@ -0,0 +1,2 @@
+-- 매장 상세 조회 수 - 애플리케이션이 메모리에 모은 조회 수를 주기적으로 더한다.
+alter table store add column view_count bigint not null default 0;
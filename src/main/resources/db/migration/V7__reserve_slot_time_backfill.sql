@@ -0,0 +1,11 @@
+-- V3 이전에 만든 예약의 슬롯 시작 시각을 예약 시각을 매장 슬롯 길이로 내려 한 번만 채운다. (SlotBookingEngine.slotOf 와 같은 계산)
+-- 좌석 번호는 V3 이후 같은 슬롯에 잡힌 좌석과 겹칠 수 있어 채우지 않고, 예약 엔진이 하루치 현황을 만들 때 빈 좌석을 하나씩 차지하게 한다.
+update reserve
+set slot_time = (select timestampadd(MINUTE,
+                                     hour(reserve.reserve_time) * 60 + minute(reserve.reserve_time)
+                                         - mod(hour(reserve.reserve_time) * 60 + minute(reserve.reserve_time), s.slot_minutes),
+                                     cast(cast(reserve.reserve_time as date) as datetime))
+                 from store s
+                 where s.store_id = reserve.store_id)
+where slot_time is null
+  and reserve_time is not null;
@@ -0,0 +1,18 @@
+-- 매장 상세 조회 수를 store 테이블에서 분리 - 조회 수 반영이 2차 캐시에 올라간 매장을 무효화하지 않도록 한다.
+create table store_view_count (
+                                  store_id bigint not null,
+                                  view_count bigint not null default 0,
+                                  primary key (store_id)
+) engine=InnoDB default charset=utf8;
+
+alter table store_view_count
+    add constraint store_view_count_foreign_key_storeId
+        foreign key (store_id)
+            references store (store_id);
+
+-- 기존 매장의 조회 수를 옮긴다.
+insert into store_view_count (store_id, view_count)
+select store_id, view_count
+from store;
+
+alter table store drop column view_count;
@@ -0,0 +1,173 @@
+package zerobase.reserve.booking;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.reserve.domain.*;
+import zerobase.reserve.repository.MemberRepository;
+import zerobase.reserve.repository.ReserveRepository;
+import zerobase.reserve.repository.StoreRepository;
+
+import javax.persistence.EntityManager;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static zerobase.reserve.support.Fixtures.member;
+
+@SpringBootTest
+@Transactional
+class NoShowSweeperTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private ReserveRepository reserveRepository;
+    @Autowired
+    private SlotBookingEngine slotBookingEngine;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManager em;
+
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    private SimpleMeterRegistry meterRegistry;
+    private NoShowSweeper sweeper;
+    private Member user;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new NoShowSweeper(reserveRepository, slotBookingEngine, transactionTemplate, meterRegistry,
+                true, 2, Duration.ofHours(2));
+
+        Member owner = memberRepository.save(member("owner@naver.com", "ROLE_PARTNER"));
+        user = memberRepository.save(member("user@naver.com", "ROLE_USER"));
+        store = storeRepository.save(
+                Store.builder()
+                        .storeName("참새정")
+                        .address(new Address("경상남도", "김해시", "삼계로", "50898"))
+                        .description("라면가계")
+                        .owner(owner)
+                        .build()
+        );
+    }
+
+    @Test
+    @DisplayName("재적재 - 마감이 지난 유효한 예약만 나누어 취소하고, 곧 마감될 예약은 휠에 등록")
+    void reload() {
+        // given
+        List<Long> overdue = List.of(
+                reserve(now.minusHours(1), ReserveStatus.VALID, 0),
+                reserve(now, ReserveStatus.VALID, 1),
+                reserve(now.plusMinutes(10), ReserveStatus.VALID, 2)
+        );
+        Long completed = reserve(now.minusHours(1), ReserveStatus.COMPLETE, 3);
+        Long upcoming = reserve(now.plusMinutes(30), ReserveStatus.VALID, 4);
+        Long later = reserve(now.plusHours(3), ReserveStatus.VALID, 5);
+
+        // when
+        int canceled = sweeper.reload(now);
+        em.clear();
+
+        // then
+        assertThat(canceled).isEqualTo(3);
+        assertThat(overdue).allSatisfy(id -> {
+            Reserve reserve = em.find(Reserve.class, id);
+
+            assertThat(reserve.getReserveStatus()).isEqualTo(ReserveStatus.CANCEL);
+            assertThat(reserve.getSeatNo()).isNull();
+        });
+        assertThat(em.find(Reserve.class, completed).getReserveStatus()).isEqualTo(ReserveStatus.COMPLETE);
+        assertThat(em.find(Reserve.class, upcoming).getReserveStatus()).isEqualTo(ReserveStatus.VALID);
+        assertThat(em.find(Reserve.class, later).getReserveStatus()).isEqualTo(ReserveStatus.VALID);
+        assertThat(sweeper.scheduledCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("reserve.sweeper.batch.size").summary().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("reserve.sweeper.batch.size").summary().totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재적재 - 조회한 예약 중 일부가 그 사이 방문 확인되어도 남은 예약을 계속 취소")
+    void reloadWhenArrivedDuringSweep() {
+        // given
+        Long arrived = reserve(now.minusHours(3), ReserveStatus.VALID, 0);
+        Long overdue = reserve(now.minusHours(2), ReserveStatus.VALID, 1);
+        Long remaining = reserve(now.minusHours(1), ReserveStatus.VALID, 2);
+
+        // 첫 번째 묶음을 조회한 뒤 취소하기 전에 한 예약이 방문 확인된다.
+        ReserveRepository racingRepository = new ReserveRepository(em) {
+            private boolean first = true;
+
+            @Override
+            public int cancelValidReserves(Collection<Long> reserveIds, LocalDateTime now) {
+                if (first){
+                    first = false;
+                    changeStatus(arrived, ReserveTransition.ARRIVE, now);
+                }
+
+                return super.cancelValidReserves(reserveIds, now);
+            }
+        };
+        sweeper = new NoShowSweeper(racingRepository, slotBookingEngine, transactionTemplate, meterRegistry,
+                true, 2, Duration.ofHours(2));
+
+        // when
+        int canceled = sweeper.reload(now);
+        em.clear();
+
+        // then
+        assertThat(canceled).isEqualTo(2);
+        assertThat(em.find(Reserve.class, arrived).getReserveStatus()).isEqualTo(ReserveStatus.COMPLETE);
+        assertThat(em.find(Reserve.class, overdue).getReserveStatus()).isEqualTo(ReserveStatus.CANCEL);
+        assertThat(em.find(Reserve.class, remaining).getReserveStatus()).isEqualTo(ReserveStatus.CANCEL);
+    }
+
+    @Test
+    @DisplayName("휠 진행 - 방문 확인 마감이 지난 뒤에만 취소, 그 사이 방문한 예약은 취소하지 않음")
+    void sweepExpired() {
+        // given
+        Long upcoming = reserve(now.plusMinutes(30), ReserveStatus.VALID, 0);
+        Long arrived = reserve(now.plusMinutes(30), ReserveStatus.VALID, 1);
+        sweeper.reload(now);
+
+        em.find(Reserve.class, arrived).changeReserveStatus(ReserveStatus.COMPLETE);
+        em.flush();
+
+        // when
+        int beforeDeadline = sweeper.sweepExpired(now.plusMinutes(19));
+        int afterDeadline = sweeper.sweepExpired(now.plusMinutes(21));
+        em.clear();
+
+        // then
+        assertThat(beforeDeadline).isZero();
+        assertThat(afterDeadline).isEqualTo(1);
+        assertThat(em.find(Reserve.class, upcoming).getReserveStatus()).isEqualTo(ReserveStatus.CANCEL);
+        assertThat(em.find(Reserve.class, arrived).getReserveStatus()).isEqualTo(ReserveStatus.COMPLETE);
+        assertThat(sweeper.scheduledCount()).isZero();
+        assertThat(meterRegistry.get("reserve.sweeper.lag").timer().count()).isEqualTo(1);
+    }
+
+    private Long reserve(LocalDateTime reserveTime, ReserveStatus status, int seatNo) {
+        return reserveRepository.save(
+                Reserve.builder()
+                        .member(user)
+                        .store(store)
+                        .reserveTime(reserveTime)
+                        .slotTime(SlotBookingEngine.slotOf(reserveTime, store.getSlotMinutes()))
+                        .seatNo(seatNo)
+                        .reserveStatus(status)
+                        .build()
+        ).getId();
+    }
+}
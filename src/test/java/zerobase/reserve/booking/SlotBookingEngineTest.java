@@ -0,0 +1,150 @@
+package zerobase.reserve.booking;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import zerobase.reserve.domain.Store;
+import zerobase.reserve.exception.ErrorCode;
+import zerobase.reserve.exception.InvalidReserveException;
+import zerobase.reserve.repository.ReserveRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SlotBookingEngineTest {
+
+    private ReserveRepository reserveRepository;
+    private SlotBookingEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        reserveRepository = mock(ReserveRepository.class);
+        engine = new SlotBookingEngine(reserveRepository, new SimpleMeterRegistry(), 1000, Duration.ofHours(1), 60);
+    }
+
+    @Test
+    @DisplayName("슬롯 시작 시각 계산")
+    void slotOf() {
+        LocalDateTime time = LocalDateTime.of(2023, 7, 2, 19, 44, 59);
+
+        assertThat(SlotBookingEngine.slotOf(time, 30)).isEqualTo(LocalDateTime.of(2023, 7, 2, 19, 30));
+        assertThat(SlotBookingEngine.slotOf(time, 60)).isEqualTo(LocalDateTime.of(2023, 7, 2, 19, 0));
+        assertThat(SlotBookingEngine.slotOf(time, 1)).isEqualTo(LocalDateTime.of(2023, 7, 2, 19, 44));
+    }
+
+    @Test
+    @DisplayName("같은 슬롯에 2000 개 스레드가 동시에 요청 - 수용 인원만큼만 서로 다른 좌석으로 통과")
+    void acquireConcurrently() throws InterruptedException {
+        // given
+        Store store = store(1L, 64);
+        LocalDateTime reserveTime = LocalDateTime.of(2023, 7, 2, 19, 0);
+        int threadCount = 2000;
+
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        Queue<Integer> seats = new ConcurrentLinkedQueue<>();
+        AtomicInteger rejected = new AtomicInteger();
+        Thread[] threads = new Thread[threadCount];
+
+        for (int i = 0; i < threadCount; i++){
+            threads[i] = new Thread(() -> {
+                ready.countDown();
+
+                try {
+                    start.await();
+                    seats.add(engine.acquire(store, reserveTime).getSeatNo());
+                } catch (InvalidReserveException e){
+                    rejected.incrementAndGet();
+                } catch (InterruptedException e){
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[i].start();
+        }
+
+        // when
+        ready.await();
+        start.countDown();
+
+        for (Thread thread : threads){
+            thread.join();
+        }
+
+        // then
+        Set<Integer> distinctSeats = seats.stream().collect(Collectors.toSet());
+        assertThat(seats).hasSize(64);
+        assertThat(distinctSeats).hasSize(64).allMatch(seat -> seat >= 0 && seat < 64);
+        assertThat(rejected.get()).isEqualTo(threadCount - 64);
+    }
+
+    @Test
+    @DisplayName("하루치 좌석 현황은 DB 에 저장된 좌석을 반영하고, 반납된 좌석은 다시 확보 가능")
+    void acquireAfterLoadAndRelease() {
+        // given
+        Store store = store(2L, 2);
+        LocalDateTime slotTime = LocalDateTime.of(2023, 7, 2, 12, 0);
+        when(reserveRepository.findOccupiedSeats(eq(2L), any(), any()))
+                .thenReturn(List.of(new OccupiedSeat(slotTime, 0)));
+
+        // when
+        SeatHold hold = engine.acquire(store, slotTime.plusMinutes(10));
+        InvalidReserveException full = assertThrows(InvalidReserveException.class,
+                () -> engine.acquire(store, slotTime));
+
+        engine.releaseAfterCommit(store.getId(), hold.getSlotTime(), hold.getSeatNo());
+        SeatHold reacquired = engine.acquire(store, slotTime);
+
+        // then
+        assertThat(hold.getSeatNo()).isEqualTo(1);
+        assertThat(full.getErrorCode()).isEqualTo(ErrorCode.RESERVE_SLOT_FULL);
+        assertThat(reacquired.getSeatNo()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좌석 번호가 없는 V3 이전 예약도 빈 좌석을 차지해 수용 인원에 포함되고, 취소되면 하루치 현황을 다시 만듦")
+    void acquireWithUnnumberedSeats() {
+        // given
+        Store store = store(3L, 3);
+        LocalDateTime slotTime = LocalDateTime.of(2023, 7, 2, 12, 0);
+        when(reserveRepository.findOccupiedSeats(eq(3L), any(), any()))
+                .thenReturn(List.of(new OccupiedSeat(slotTime, null), new OccupiedSeat(slotTime, 0)))
+                .thenReturn(List.of(new OccupiedSeat(slotTime, 0)));
+
+        // when
+        SeatHold hold = engine.acquire(store, slotTime);
+        InvalidReserveException full = assertThrows(InvalidReserveException.class,
+                () -> engine.acquire(store, slotTime));
+
+        engine.releaseAfterCommit(store.getId(), slotTime, null);
+        SeatHold reacquired = engine.acquire(store, slotTime);
+
+        // then
+        assertThat(hold.getSeatNo()).isEqualTo(2);
+        assertThat(full.getErrorCode()).isEqualTo(ErrorCode.RESERVE_SLOT_FULL);
+        assertThat(reacquired.getSeatNo()).isEqualTo(1);
+    }
+
+    private Store store(Long id, int capacity) {
+        return Store.builder()
+                .id(id)
+                .storeName("store" + id)
+                .capacity(capacity)
+                .slotMinutes(30)
+                .build();
+    }
+}
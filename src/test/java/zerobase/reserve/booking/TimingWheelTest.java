@@ -0,0 +1,83 @@
+package zerobase.reserve.booking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long START = 1_000_000_000L;
+
+    @Test
+    @DisplayName("만료 시각이 속한 틱이 지난 뒤에만 만료")
+    void advance() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 60, START);
+        List<String> expired = new ArrayList<>();
+        wheel.add(START + 1500, "a");
+        wheel.add(START + 2000, "b");
+
+        // when, then
+        wheel.advance(START + 1999, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(START + 2000, expired::add);
+        assertThat(expired).containsExactly("a");
+
+        wheel.advance(START + 3000, expired::add);
+        assertThat(expired).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("이미 지난 만료 시각은 다음 진행에서 바로 만료")
+    void addPastDeadline() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 60, START);
+        List<String> expired = new ArrayList<>();
+
+        // when
+        wheel.add(START - 10_000, "past");
+        wheel.advance(START + 1000, expired::add);
+
+        // then
+        assertThat(expired).containsExactly("past");
+    }
+
+    @Test
+    @DisplayName("여러 단계에 걸친 만료 시각 - 위 단계에서 내려와 만료 시각 이후 한 틱 안에 만료")
+    void advanceAcrossLevels() {
+        // given
+        TimingWheel<Long> wheel = new TimingWheel<>(1000, 60, START);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++){
+            long deadline = START + (long) (random.nextDouble() * 3 * 24 * 60 * 60 * 1000);
+            deadlines.add(deadline);
+            wheel.add(deadline, deadline);
+        }
+
+        // when
+        List<long[]> expired = new ArrayList<>();
+
+        for (long now = START; now <= START + 3L * 24 * 60 * 60 * 1000 + 1000; now += 7000){
+            long current = now;
+            wheel.advance(now, deadline -> expired.add(new long[]{deadline, current}));
+        }
+
+        // then
+        assertThat(expired).hasSize(deadlines.size());
+        assertThat(expired).allSatisfy(pair -> {
+            long deadline = pair[0];
+            long expiredAt = pair[1];
+
+            assertThat(expiredAt).isGreaterThanOrEqualTo(deadline);
+            assertThat(expiredAt - deadline).isLessThan(1000 + 7000);
+        });
+    }
+}
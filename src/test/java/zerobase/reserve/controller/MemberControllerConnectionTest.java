@@ -0,0 +1,103 @@
+package zerobase.reserve.controller;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.reserve.repository.MemberRepository;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 비밀번호 해시 중에 요청이 커넥션을 쥐고 있지 않은지 해시하는 시점의 커넥션 풀 사용량으로 확인한다.
+ * 비밀번호 인코더를 바꾸어 컨텍스트를 따로 만드므로, 다른 테스트의 DB 스키마를 다시 만들지 않도록 DB 도 따로 쓴다.
+ * 가입한 회원이 커밋되므로 tearDown 에서 지우고, 조회 수 반영이 커넥션을 쓰지 않도록 주기적 반영은 끈다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:connection;DB_CLOSE_DELAY=-1",
+        "reserve.view-counter.enabled=false"
+})
+@AutoConfigureMockMvc
+class MemberControllerConnectionTest {
+
+    private static final String EMAIL = "connection@naver.com";
+    private static final Map<String, Integer> ACTIVE_CONNECTIONS = new ConcurrentHashMap<>();
+
+    @TestConfiguration
+    static class RecordingPasswordEncoderConfiguration {
+
+        // 해시 작업 스레드에서 해시를 시작하는 시점의 사용 중인 커넥션 수를 기록한다.
+        @Bean
+        @Primary
+        PasswordEncoder recordingPasswordEncoder(DataSource dataSource) {
+            HikariDataSource hikari = (HikariDataSource) dataSource;
+            PasswordEncoder delegate = new BCryptPasswordEncoder(4);
+
+            return new PasswordEncoder() {
+                @Override
+                public String encode(CharSequence rawPassword) {
+                    ACTIVE_CONNECTIONS.merge("encode", hikari.getHikariPoolMXBean().getActiveConnections(), Math::max);
+                    return delegate.encode(rawPassword);
+                }
+
+                @Override
+                public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                    ACTIVE_CONNECTIONS.merge("matches", hikari.getHikariPoolMXBean().getActiveConnections(), Math::max);
+                    return delegate.matches(rawPassword, encodedPassword);
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManager em;
+
+    @AfterEach
+    void tearDown() {
+        ACTIVE_CONNECTIONS.clear();
+        transactionTemplate.executeWithoutResult(status ->
+                memberRepository.findByEmail(EMAIL).ifPresent(em::remove));
+    }
+
+    @Test
+    @DisplayName("가입, 로그인 - 비밀번호를 해시하는 동안 커넥션을 쥐고 있지 않음")
+    void hashWithoutConnection() throws Exception {
+        // when
+        mockMvc.perform(post("/members/user/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"kim\", \"email\": \"" + EMAIL + "\", \"password\": \"1234\", "
+                                + "\"phoneNumber\": \"010-0101-0101\", \"gender\": \"Male\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/members/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"" + EMAIL + "\", \"password\": \"1234\"}"))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(ACTIVE_CONNECTIONS).containsEntry("encode", 0).containsEntry("matches", 0);
+    }
+}
@@ -0,0 +1,129 @@
+package zerobase.reserve.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import zerobase.reserve.domain.*;
+import zerobase.reserve.repository.MemberRepository;
+import zerobase.reserve.repository.ReserveRepository;
+import zerobase.reserve.repository.StoreRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static zerobase.reserve.support.Fixtures.member;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class ReserveControllerPaginationTest {
+
+    private static final String OWNER_EMAIL = "owner@naver.com";
+    private static final String USER_EMAIL = "user@naver.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private ReserveRepository reserveRepository;
+
+    private final List<Long> reserveIdsInTimeOrder = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Member owner = memberRepository.save(member(OWNER_EMAIL));
+        Member user = memberRepository.save(member(USER_EMAIL));
+
+        Store store = storeRepository.save(
+                Store.builder()
+                        .storeName("참새정")
+                        .address(new Address("경상남도", "김해시", "삼계로", "50898"))
+                        .description("라면가계")
+                        .owner(owner)
+                        .build()
+        );
+
+        // 같은 시간의 예약이 있어도 (예약 시간, id) 순으로 빠짐없이 조회되어야 한다.
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 12, 0);
+        int[] hourOffsets = {0, 0, 1, 2, 2, 3};
+
+        for (int offset : hourOffsets){
+            Reserve reserve = reserveRepository.save(
+                    Reserve.builder()
+                            .member(user)
+                            .store(store)
+                            .reserveTime(base.plusHours(offset))
+                            .reserveStatus(ReserveStatus.VALID)
+                            .build()
+            );
+
+            reserveIdsInTimeOrder.add(reserve.getId());
+        }
+    }
+
+    @Test
+    @WithMockUser(username = USER_EMAIL, roles = "USER")
+    @DisplayName("회원 예약 목록 - 커서로 다음 페이지 조회")
+    void getUserReserveListByCursor() throws Exception {
+        // when
+        String firstPage = mockMvc.perform(get("/reserves/user").param("size", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(4)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        String nextCursor = JsonPath.read(firstPage, "$.nextCursor");
+
+        String secondPage = mockMvc.perform(get("/reserves/user").param("size", "4").param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()))
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        List<Number> ids = new ArrayList<>(JsonPath.read(firstPage, "$.content[*].id"));
+        ids.addAll(JsonPath.read(secondPage, "$.content[*].id"));
+
+        assertThat(ids).extracting(Number::longValue).containsExactlyElementsOf(reserveIdsInTimeOrder);
+    }
+
+    @Test
+    @WithMockUser(username = OWNER_EMAIL, roles = "PARTNER")
+    @DisplayName("점장 예약 목록 - 페이지 크기는 최대값으로 제한")
+    void getOwnerReserveListWithPageSizeCap() throws Exception {
+        mockMvc.perform(get("/reserves/owner").param("size", "100000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(6)))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @WithMockUser(username = USER_EMAIL, roles = "USER")
+    @DisplayName("회원 예약 목록 실패 - 잘못된 커서")
+    void getUserReserveListWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/reserves/user").param("cursor", "!!invalid!!"))
+                .andExpect(jsonPath("$.errorCode").value("INVALID_CURSOR"));
+
+        // id 만 담긴 커서는 예약 목록의 커서가 아니다.
+        mockMvc.perform(get("/reserves/user").param("cursor", "MTA"))
+                .andExpect(jsonPath("$.errorCode").value("INVALID_CURSOR"));
+    }
+}
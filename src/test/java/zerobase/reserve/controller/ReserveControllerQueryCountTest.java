@@ -0,0 +1,189 @@
+package zerobase.reserve.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import zerobase.reserve.domain.*;
+import zerobase.reserve.repository.MemberRepository;
+import zerobase.reserve.repository.ReserveRepository;
+import zerobase.reserve.repository.StoreRepository;
+import zerobase.reserve.security.MemberPrincipal;
+import zerobase.reserve.support.QueryCounter;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static zerobase.reserve.support.Fixtures.member;
+
+/**
+ * 예약 API 의 SQL 실행 횟수 검증
+ * - 목록 조회는 예약 건수와 무관하게 목록 조회 쿼리 한 번만 실행되어야 한다.
+ * - 단건 조회는 존재 여부와 접근 권한 검증을 포함해 쿼리 한 번만 실행되어야 한다.
+ * - 예약 생성은 인증 정보의 회원 id 를 그대로 사용하므로 회원을 다시 조회하지 않아야 한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class ReserveControllerQueryCountTest {
+
+    private static final String OWNER_EMAIL = "owner@naver.com";
+    private static final String USER_EMAIL = "user0@naver.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private QueryCounter queryCounter;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private ReserveRepository reserveRepository;
+
+    @BeforeEach
+    void setUp() {
+        Member owner = memberRepository.save(member(OWNER_EMAIL));
+
+        for (int i = 0; i < 3; i++){
+            Member user = memberRepository.save(member("user" + i + "@naver.com"));
+
+            for (int j = 0; j < 2; j++){
+                Store store = storeRepository.save(
+                        Store.builder()
+                                .storeName("store" + i + "-" + j)
+                                .address(new Address("경상남도", "김해시", "삼계로", "50898"))
+                                .description("라면가계")
+                                .owner(owner)
+                                .build()
+                );
+
+                reserveRepository.save(
+                        Reserve.builder()
+                                .member(user)
+                                .store(store)
+                                .reserveTime(LocalDateTime.now().plusDays(1))
+                                .reserveStatus(ReserveStatus.VALID)
+                                .build()
+                );
+            }
+        }
+
+        // 영속성 컨텍스트를 비워 API 호출 시 연관 엔티티를 실제로 조회하도록 한다.
+        em.flush();
+        em.clear();
+        queryCounter.reset();
+    }
+
+    @Test
+    @WithMockUser(username = OWNER_EMAIL, roles = "PARTNER")
+    @DisplayName("점장 예약 목록 조회 - 쿼리 1회")
+    void getOwnerReserveList() throws Exception {
+        // when
+        mockMvc.perform(get("/reserves/owner"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(6)))
+                .andExpect(jsonPath("$.content[0].storeName").exists())
+                .andExpect(jsonPath("$.content[0].memberEmail").exists());
+
+        // then
+        assertThat(queryCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    @WithMockUser(username = USER_EMAIL, roles = "USER")
+    @DisplayName("회원 예약 목록 조회 - 쿼리 1회")
+    void getUserReserveList() throws Exception {
+        // when
+        mockMvc.perform(get("/reserves/user"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].storeName").exists())
+                .andExpect(jsonPath("$.content[0].memberEmail").value(USER_EMAIL));
+
+        // then
+        assertThat(queryCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    @WithMockUser(username = OWNER_EMAIL, roles = "PARTNER")
+    @DisplayName("점장 예약 단건 조회 - 쿼리 1회")
+    void getOwnerReserve() throws Exception {
+        // given
+        Long reserveId = reserveIdOf(USER_EMAIL);
+
+        // when
+        mockMvc.perform(get("/reserves/owner/{reserveId}", reserveId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(reserveId))
+                .andExpect(jsonPath("$.memberEmail").value(USER_EMAIL));
+
+        // then
+        assertThat(queryCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    @WithMockUser(username = "user1@naver.com", roles = "USER")
+    @DisplayName("회원 예약 단건 조회 실패 - 다른 회원의 예약, 쿼리 1회")
+    void getUserReserveOfOtherMember() throws Exception {
+        // given
+        Long reserveId = reserveIdOf(USER_EMAIL);
+
+        // when
+        mockMvc.perform(get("/reserves/user/{reserveId}", reserveId))
+                .andExpect(jsonPath("$.errorCode").value("ILLEGAL_ACCESS"));
+
+        // then
+        assertThat(queryCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예약 생성 - 인증된 회원을 다시 조회하지 않음 (매장 조회, 좌석 현황 조회, 예약 저장)")
+    void addReserveWithoutMemberQuery() throws Exception {
+        // given
+        Member user = memberRepository.findByEmail(USER_EMAIL).get();
+        MemberPrincipal principal = MemberPrincipal.of(user.getId(), USER_EMAIL, user.getName(), List.of("ROLE_USER"));
+        em.clear();
+        queryCounter.reset();
+
+        // when
+        mockMvc.perform(post("/reserves/new")
+                        .with(authentication(new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"storeName\": \"store0-0\", \"reserveTime\": \"" + LocalDate.now().plusDays(1) + " 19:00:00\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.memberEmail").value(USER_EMAIL))
+                .andExpect(jsonPath("$.storeName").value("store0-0"));
+
+        // then
+        assertThat(queryCounter.count()).isEqualTo(3);
+    }
+
+    private Long reserveIdOf(String memberEmail){
+        Long reserveId = em.createQuery("select r.id from Reserve r where r.member.email = :email", Long.class)
+                .setParameter("email", memberEmail)
+                .setMaxResults(1)
+                .getSingleResult();
+        queryCounter.reset();
+
+        return reserveId;
+    }
+}
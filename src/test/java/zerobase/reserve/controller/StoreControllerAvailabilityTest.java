@@ -0,0 +1,156 @@
+package zerobase.reserve.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import zerobase.reserve.domain.*;
+import zerobase.reserve.dto.CreateReserveDto;
+import zerobase.reserve.repository.MemberRepository;
+import zerobase.reserve.repository.ReserveRepository;
+import zerobase.reserve.repository.StoreRepository;
+import zerobase.reserve.security.MemberPrincipal;
+import zerobase.reserve.service.ReserveService;
+import zerobase.reserve.support.QueryCounter;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static zerobase.reserve.support.Fixtures.member;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class StoreControllerAvailabilityTest {
+
+    private static final String USER_EMAIL = "user@naver.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private ReserveRepository reserveRepository;
+    @Autowired
+    private ReserveService reserveService;
+    @Autowired
+    private QueryCounter queryCounter;
+    @Value("${reserve.booking.horizon-days:60}")
+    private long horizonDays;
+
+    // 예약 가능 시간은 오늘부터 예약 가능 기간 안의 날짜만 조회할 수 있다.
+    private final LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+    private Member user;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        Member owner = memberRepository.save(member("owner@naver.com", "ROLE_PARTNER"));
+        user = memberRepository.save(member(USER_EMAIL, "ROLE_USER"));
+
+        store = storeRepository.save(
+                Store.builder()
+                        .storeName("참새정")
+                        .address(new Address("경상남도", "김해시", "삼계로", "50898"))
+                        .description("라면가계")
+                        .owner(owner)
+                        .capacity(2)
+                        .slotMinutes(60)
+                        .build()
+        );
+    }
+
+    @Test
+    @DisplayName("예약 가능 시간 조회 - 가득 찬 슬롯은 제외되고 남은 좌석 수 반환")
+    void getAvailability() throws Exception {
+        // given
+        reserve(tomorrow + " 12:00:00");
+        reserve(tomorrow + " 12:30:00");
+        reserve(tomorrow + " 13:10:00");
+
+        // when, then
+        mockMvc.perform(get("/stores/{storeId}/availability", store.getId()).param("date", tomorrow.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.capacity").value(2))
+                .andExpect(jsonPath("$.slotMinutes").value(60))
+                .andExpect(jsonPath("$.openSlots", hasSize(23)))
+                .andExpect(jsonPath("$.openSlots[?(@.slotTime == '" + tomorrow + "T12:00:00')]", hasSize(0)))
+                .andExpect(jsonPath("$.openSlots[12].slotTime").value(tomorrow + "T13:00:00"))
+                .andExpect(jsonPath("$.openSlots[12].remaining").value(1))
+                .andExpect(jsonPath("$.openSlots[13].remaining").value(2));
+    }
+
+    @Test
+    @DisplayName("예약 가능 시간 조회 - 처음 조회하는 날짜는 저장된 예약으로 만들고, 이후에는 예약을 조회하지 않음")
+    void getAvailabilityBuildsFromReserveRowsOnce() throws Exception {
+        // given
+        reserveRepository.save(
+                Reserve.builder()
+                        .member(user)
+                        .store(store)
+                        .reserveTime(tomorrow.atTime(18, 0))
+                        .slotTime(tomorrow.atTime(18, 0))
+                        .seatNo(1)
+                        .reserveStatus(ReserveStatus.VALID)
+                        .build()
+        );
+
+        mockMvc.perform(get("/stores/{storeId}/availability", store.getId()).param("date", tomorrow.toString()))
+                .andExpect(jsonPath("$.openSlots[18].remaining").value(1));
+
+        // when
+        queryCounter.reset();
+        mockMvc.perform(get("/stores/{storeId}/availability", store.getId()).param("date", tomorrow.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.openSlots", hasSize(24)));
+
+        // then
+        assertThat(queryCounter.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("예약 가능 시간 조회 실패 - 잘못된 날짜 형식")
+    void getAvailabilityWithInvalidDate() throws Exception {
+        mockMvc.perform(get("/stores/{storeId}/availability", store.getId()).param("date", "2023/07/02"))
+                .andExpect(jsonPath("$.errorCode").value("INVALID_DATE"));
+    }
+
+    @Test
+    @DisplayName("예약 가능 시간 조회 - 오늘부터 예약 가능 기간의 마지막 날까지 조회")
+    void getAvailabilityWithinHorizon() throws Exception {
+        mockMvc.perform(get("/stores/{storeId}/availability", store.getId()).param("date", LocalDate.now().toString()))
+                .andExpect(jsonPath("$.openSlots", hasSize(24)));
+        mockMvc.perform(get("/stores/{storeId}/availability", store.getId()).param("date", LocalDate.now().plusDays(horizonDays).toString()))
+                .andExpect(jsonPath("$.openSlots", hasSize(24)));
+    }
+
+    @Test
+    @DisplayName("예약 가능 시간 조회 실패 - 지난 날짜, 예약 가능 기간 이후의 날짜")
+    void getAvailabilityOutsideHorizon() throws Exception {
+        // given
+        queryCounter.reset();
+
+        // when, then
+        mockMvc.perform(get("/stores/{storeId}/availability", store.getId()).param("date", LocalDate.now().minusDays(1).toString()))
+                .andExpect(jsonPath("$.errorCode").value("INVALID_DATE"));
+        mockMvc.perform(get("/stores/{storeId}/availability", store.getId()).param("date", LocalDate.now().plusDays(horizonDays + 1).toString()))
+                .andExpect(jsonPath("$.errorCode").value("INVALID_DATE"));
+        assertThat(queryCounter.count()).isZero();
+    }
+
+    private void reserve(String reserveTime) {
+        reserveService.createReserveFromStore(new CreateReserveDto.StoreRequest(reserveTime), store.getId(), MemberPrincipal.fromEntity(user));
+    }
+}
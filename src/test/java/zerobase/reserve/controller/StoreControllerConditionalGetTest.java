@@ -0,0 +1,146 @@
+package zerobase.reserve.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import zerobase.reserve.domain.*;
+import zerobase.reserve.repository.MemberRepository;
+import zerobase.reserve.repository.ReviewRepository;
+import zerobase.reserve.repository.StoreRepository;
+import zerobase.reserve.support.QueryCounter;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static zerobase.reserve.support.Fixtures.member;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class StoreControllerConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private QueryCounter queryCounter;
+    @Autowired
+    private EntityManager em;
+
+    private Member owner;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        owner = memberRepository.save(member("owner@naver.com", "ROLE_PARTNER", "ROLE_USER"));
+
+        store = storeRepository.save(
+                Store.builder()
+                        .storeName("참새정")
+                        .address(new Address("경상남도", "김해시", "삼계로", "50898"))
+                        .description("라면가계")
+                        .owner(owner)
+                        .build()
+        );
+    }
+
+    @Test
+    @DisplayName("매장 상세 조회 - ETag 가 같으면 버전만 조회하고 304, 리뷰가 추가되면 200")
+    void getStoreInfoNotModified() throws Exception {
+        // given
+        String etag = mockMvc.perform(get("/stores/{storeId}", store.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        queryCounter.reset();
+        mockMvc.perform(get("/stores/{storeId}", store.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        long notModifiedQueries = queryCounter.count();
+
+        addReview(4);
+
+        // then
+        assertThat(etag).startsWith("W/\"");
+        assertThat(notModifiedQueries).isEqualTo(1);
+        mockMvc.perform(get("/stores/{storeId}", store.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.ratingCount").value(1));
+    }
+
+    @Test
+    @DisplayName("매장 리뷰 조회 - 리뷰 수가 같으면 리뷰를 조회하지 않고 304")
+    void getStoreReviewNotModified() throws Exception {
+        // given
+        addReview(5);
+        String etag = mockMvc.perform(get("/stores/{storeId}/reviews", store.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        queryCounter.reset();
+        mockMvc.perform(get("/stores/{storeId}/reviews", store.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        long notModifiedQueries = queryCounter.count();
+
+        addReview(3);
+
+        // then
+        assertThat(notModifiedQueries).isEqualTo(1);
+        mockMvc.perform(get("/stores/{storeId}/reviews", store.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("매장 목록 조회 - 페이지 내용이 같으면 304")
+    void getStoreListNotModified() throws Exception {
+        // given
+        String etag = mockMvc.perform(get("/stores").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when, then
+        mockMvc.perform(get("/stores").contentType(MediaType.APPLICATION_JSON).content("{}")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        addReview(2);
+
+        mockMvc.perform(get("/stores").contentType(MediaType.APPLICATION_JSON).content("{}")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    private void addReview(int rating) {
+        reviewRepository.save(
+                Review.builder()
+                        .store(store)
+                        .member(owner)
+                        .rating(rating)
+                        .reviewContent("맛있는 밥집")
+                        .build()
+        );
+        storeRepository.addRating(store.getId(), rating);
+
+        // 벌크 UPDATE 는 영속성 컨텍스트의 평점 집계를 바꾸지 않으므로 다음 요청처럼 새로 읽게 한다.
+        em.clear();
+    }
+}
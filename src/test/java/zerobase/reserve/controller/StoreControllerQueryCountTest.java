@@ -0,0 +1,79 @@
+package zerobase.reserve.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import zerobase.reserve.domain.Member;
+import zerobase.reserve.repository.MemberRepository;
+import zerobase.reserve.security.MemberPrincipal;
+import zerobase.reserve.support.QueryCounter;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static zerobase.reserve.support.Fixtures.member;
+
+/**
+ * 매장 등록 API 의 SQL 실행 횟수 검증 - 인증 정보의 회원 id 와 이름을 그대로 사용하므로 회원을 다시 조회하지 않아야 한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class StoreControllerQueryCountTest {
+
+    private static final String OWNER_EMAIL = "owner@naver.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private QueryCounter queryCounter;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private MemberPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        Member owner = memberRepository.save(member(OWNER_EMAIL, "ROLE_PARTNER", "ROLE_USER"));
+        principal = MemberPrincipal.fromEntity(owner);
+
+        // 영속성 컨텍스트와 2차 캐시를 비워 회원을 읽는다면 실제로 SQL 이 실행되도록 한다.
+        em.flush();
+        em.clear();
+        em.getEntityManagerFactory().getCache().evict(Member.class);
+        queryCounter.reset();
+    }
+
+    @Test
+    @DisplayName("매장 등록 - 인증된 회원을 다시 조회하지 않음 (매장 저장, 평점 집계 저장, 조회 수 저장)")
+    void createStoreWithoutMemberQuery() throws Exception {
+        // when
+        mockMvc.perform(post("/stores/new")
+                        .with(authentication(new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"storeName\": \"참새정\", \"legion\": \"경상남도\", \"city\": \"김해시\", "
+                                + "\"street\": \"삼계로\", \"zipcode\": \"12345\", \"description\": \"맛있는 밥집\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.storeName").value("참새정"))
+                .andExpect(jsonPath("$.owner").value("kim"));
+        // 평점 집계, 조회 수 insert 는 테스트 트랜잭션이 커밋되지 않으므로 직접 flush 해서 센다.
+        em.flush();
+
+        // then
+        assertThat(queryCounter.loadCount(Member.class)).isZero();
+        assertThat(queryCounter.count()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,213 @@
+package zerobase.reserve.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.reserve.booking.SlotBookingEngine;
+import zerobase.reserve.domain.*;
+import zerobase.reserve.dto.CreateReserveDto;
+import zerobase.reserve.dto.CreateReviewDto;
+import zerobase.reserve.ranking.RankedStore;
+import zerobase.reserve.ranking.RankingType;
+import zerobase.reserve.ranking.StoreRankings;
+import zerobase.reserve.repository.MemberRepository;
+import zerobase.reserve.repository.ReserveRepository;
+import zerobase.reserve.repository.StoreRepository;
+import zerobase.reserve.security.MemberPrincipal;
+import zerobase.reserve.service.ReserveService;
+import zerobase.reserve.service.ReviewService;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static zerobase.reserve.support.Fixtures.member;
+
+/**
+ * 순위표는 리뷰 작성, 예약 생성이 커밋된 뒤에 갱신되므로 테스트 트랜잭션 없이 서비스를 호출하고, 저장한 데이터는 tearDown 에서 지운다.
+ * 순위표에서 매장을 지울 수는 없으므로 테스트마다 다른 지역의 순위만 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class StoreControllerTopStoresTest {
+
+    private static final String STORE_NAME = "순위식당";
+    private static final String USER_EMAIL = "ranking-user@naver.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private ReserveRepository reserveRepository;
+    @Autowired
+    private ReserveService reserveService;
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private StoreRankings storeRankings;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManager em;
+
+    // 테스트마다 새 매장이 순위표에 남으므로 지역도 테스트마다 다르게 한다.
+    private final String region = "순위시-" + UUID.randomUUID().toString().substring(0, 8);
+    private final String tomorrow = LocalDate.now().plusDays(1).toString();
+
+    private Long ownerId;
+    private MemberPrincipal user;
+    private Long storeId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Member owner = memberRepository.save(member("ranking-owner@naver.com", "ROLE_PARTNER"));
+            Member user = memberRepository.save(member(USER_EMAIL, "ROLE_USER"));
+
+            Store store = storeRepository.save(
+                    Store.builder()
+                            .storeName(STORE_NAME)
+                            .address(new Address(region, "김해시", "삼계로", "50898"))
+                            .description("라면가계")
+                            .owner(owner)
+                            .build()
+            );
+
+            ownerId = owner.getId();
+            this.user = MemberPrincipal.fromEntity(user);
+            storeId = store.getId();
+        });
+
+        storeRankings.add(storeId, STORE_NAME, region, 0, 0, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.createQuery("delete from Review r where r.store.id = :storeId")
+                    .setParameter("storeId", storeId)
+                    .executeUpdate();
+            em.createQuery("delete from Reserve r where r.store.id = :storeId")
+                    .setParameter("storeId", storeId)
+                    .executeUpdate();
+            em.remove(em.find(StoreRating.class, storeId));
+            em.remove(em.find(StoreViewCount.class, storeId));
+            em.remove(em.find(Store.class, storeId));
+            em.remove(em.find(Member.class, ownerId));
+            em.remove(em.find(Member.class, user.getId()));
+        });
+    }
+
+    @Test
+    @DisplayName("예약 생성이 커밋되면 예약 수 순위에 반영")
+    void createReserveUpdatesRanking() throws Exception {
+        // when
+        reserveService.createReserve(new CreateReserveDto.Request(tomorrow + " 19:00:00", STORE_NAME), user);
+        reserveService.createReserve(new CreateReserveDto.Request(tomorrow + " 20:00:00", STORE_NAME), user);
+
+        // then
+        mockMvc.perform(get("/stores/top").param("by", "reservations").param("region", region))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].rank").value(1))
+                .andExpect(jsonPath("$[0].storeId").value(storeId))
+                .andExpect(jsonPath("$[0].legion").value(region))
+                .andExpect(jsonPath("$[0].reserveCount").value(2));
+    }
+
+    @Test
+    @DisplayName("롤백된 예약은 예약 수 순위에 반영되지 않음")
+    void rolledBackReserveNotRanked() throws Exception {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            reserveService.createReserve(new CreateReserveDto.Request(tomorrow + " 19:00:00", STORE_NAME), user);
+            status.setRollbackOnly();
+        });
+
+        // then
+        mockMvc.perform(get("/stores/top").param("by", "reservations").param("region", region))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].storeId").value(storeId))
+                .andExpect(jsonPath("$[0].reserveCount").value(0));
+    }
+
+    @Test
+    @DisplayName("리뷰 작성이 커밋되면 평점 순위에 반영")
+    void createReviewUpdatesRanking() throws Exception {
+        // given
+        Long reserveId = transactionTemplate.execute(status -> reserve(LocalDateTime.of(2023, 7, 2, 19, 0), ReserveStatus.COMPLETE));
+
+        // when
+        reviewService.createReview(new CreateReviewDto.Request(4, "맛있어요"), reserveId, USER_EMAIL);
+
+        // then
+        mockMvc.perform(get("/stores/top").param("region", region))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].storeId").value(storeId))
+                .andExpect(jsonPath("$[0].ratingAverage").value(4.0))
+                .andExpect(jsonPath("$[0].ratingCount").value(1));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 순위 기준이면 INVALID_RANKING_TYPE")
+    void invalidRankingType() throws Exception {
+        mockMvc.perform(get("/stores/top").param("by", "views"))
+                .andExpect(jsonPath("$.errorCode").value("INVALID_RANKING_TYPE"));
+    }
+
+    @Test
+    @DisplayName("기동 시 store_rating, reserve 테이블로부터 순위표 구축")
+    void rebuildOnStartup() {
+        // given
+        transactionTemplate.executeWithoutResult(status -> {
+            reserve(LocalDateTime.of(2023, 7, 2, 19, 0), ReserveStatus.VALID);
+            reserve(LocalDateTime.of(2023, 7, 2, 20, 0), ReserveStatus.VALID);
+            storeRepository.addRating(storeId, 5);
+            storeRepository.addRating(storeId, 2);
+        });
+        StoreRankings rebuilt = new StoreRankings(storeRepository, reserveRepository);
+
+        // when
+        rebuilt.afterSingletonsInstantiated();
+
+        // then
+        RankedStore byRating = rebuilt.top(RankingType.RATING, region, 10).get(0);
+        RankedStore byReservations = rebuilt.top(RankingType.RESERVATIONS, region, 10).get(0);
+
+        assertThat(byRating.getStoreId()).isEqualTo(storeId);
+        assertThat(byRating.getScore()).isCloseTo(3.5, within(1e-9));
+        assertThat(byRating.getCount()).isEqualTo(2L);
+        assertThat(byReservations.getStoreId()).isEqualTo(storeId);
+        assertThat(byReservations.getCount()).isEqualTo(2L);
+    }
+
+    private Long reserve(LocalDateTime reserveTime, ReserveStatus status) {
+        Store store = em.find(Store.class, storeId);
+
+        return reserveRepository.save(
+                Reserve.builder()
+                        .member(em.find(Member.class, user.getId()))
+                        .store(store)
+                        .reserveTime(reserveTime)
+                        .slotTime(SlotBookingEngine.slotOf(reserveTime, store.getSlotMinutes()))
+                        .seatNo(0)
+                        .reserveStatus(status)
+                        .build()
+        ).getId();
+    }
+}
@@ -0,0 +1,222 @@
+package zerobase.reserve.counter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.reserve.domain.*;
+import zerobase.reserve.repository.MemberRepository;
+import zerobase.reserve.repository.StoreRepository;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static zerobase.reserve.support.Fixtures.member;
+
+/**
+ * 조회 수는 flush 가 여는 별도 트랜잭션으로 반영되므로, 가게는 먼저 커밋해 두고 tearDown 에서 지운다.
+ * 스케줄에 의한 반영이 끼어들지 않도록 주기적 반영은 끈다.
+ */
+@SpringBootTest(properties = "reserve.view-counter.enabled=false")
+class StoreViewCounterTest {
+
+    private static final int THREADS = 8;
+    private static final int VIEWS_PER_THREAD = 1000;
+
+    @Autowired
+    private StoreViewCounter storeViewCounter;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private DataSource dataSource;
+
+    private Long memberId;
+    private Long storeId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Member member = memberRepository.save(member("viewcount@naver.com", "ROLE_PARTNER", "ROLE_USER"));
+
+            Store store = storeRepository.save(
+                    Store.builder()
+                            .storeName("조회수식당")
+                            .address(new Address("경상남도", "김해시", "삼계로", "50898"))
+                            .description("라면가계")
+                            .owner(member)
+                            .build()
+            );
+
+            memberId = member.getId();
+            storeId = store.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        storeViewCounter.flush();
+        transactionTemplate.executeWithoutResult(status -> {
+            em.remove(em.find(StoreRating.class, storeId));
+            em.remove(em.find(StoreViewCount.class, storeId));
+            em.remove(em.find(Store.class, storeId));
+            em.remove(em.find(Member.class, memberId));
+        });
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 조회 수가 모두 한 번의 배치로 반영되고, 캐시된 매장은 캐시에 남음")
+    void flushConcurrentViews() throws Exception {
+        // given
+        transactionTemplate.executeWithoutResult(status -> storeRepository.findById(storeId).orElseThrow());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++){
+            futures.add(executor.submit(() -> {
+                start.await();
+
+                for (int j = 0; j < VIEWS_PER_THREAD; j++){
+                    storeViewCounter.increment(storeId);
+                }
+
+                return null;
+            }));
+        }
+
+        start.countDown();
+
+        for (Future<?> future : futures){
+            future.get(10, TimeUnit.SECONDS);
+        }
+
+        executor.shutdown();
+        long pendingBeforeFlush = storeViewCounter.pending(storeId);
+
+        // when
+        int flushed = storeViewCounter.flush();
+
+        // then
+        assertThat(pendingBeforeFlush).isEqualTo(THREADS * VIEWS_PER_THREAD);
+        assertThat(flushed).isEqualTo(1);
+        assertThat(storeViewCounter.pending(storeId)).isZero();
+        assertThat(storeRepository.findViewCount(storeId)).isEqualTo(THREADS * VIEWS_PER_THREAD);
+        assertThat(em.getEntityManagerFactory().getCache().contains(Store.class, storeId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("반영할 조회 수가 없으면 UPDATE 하지 않고, 반영 후 다시 들어온 조회 수만 다음에 더함")
+    void flushOnlyNewViews() {
+        // given
+        storeViewCounter.increment(storeId);
+        storeViewCounter.flush();
+
+        // when
+        int emptyFlush = storeViewCounter.flush();
+        storeViewCounter.increment(storeId);
+        storeViewCounter.increment(storeId);
+        storeViewCounter.flush();
+
+        // then
+        assertThat(emptyFlush).isZero();
+        assertThat(storeRepository.findViewCount(storeId)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("조회가 멈췄다 이어지는 동안 계속 반영해도 반영 사이에 더해진 조회 수를 잃지 않음")
+    void flushWhileViewing() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean viewing = new AtomicBoolean(true);
+        List<Future<?>> viewers = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++){
+            viewers.add(executor.submit(() -> {
+                start.await();
+
+                for (int j = 0; j < VIEWS_PER_THREAD; j++){
+                    storeViewCounter.increment(storeId);
+
+                    // 반영 시점에 카운터가 비어 있는 경우도 생기도록 조회를 잠깐씩 멈춘다.
+                    if (j % 100 == 0){
+                        Thread.sleep(1);
+                    }
+                }
+
+                return null;
+            }));
+        }
+
+        Future<?> flusher = executor.submit(() -> {
+            start.await();
+
+            while (viewing.get()){
+                storeViewCounter.flush();
+            }
+
+            return null;
+        });
+
+        // when
+        start.countDown();
+
+        for (Future<?> viewer : viewers){
+            viewer.get(30, TimeUnit.SECONDS);
+        }
+
+        viewing.set(false);
+        flusher.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+        storeViewCounter.flush();
+
+        // then
+        assertThat(storeViewCounter.pending(storeId)).isZero();
+        assertThat(storeRepository.findViewCount(storeId)).isEqualTo(THREADS * VIEWS_PER_THREAD);
+    }
+
+    @Test
+    @DisplayName("반영 중인 조회 수는 커밋될 때까지 pending 에 포함")
+    void pendingIncludesInFlightViews() {
+        // given
+        AtomicReference<StoreViewCounter> counter = new AtomicReference<>();
+        List<Long> pendingDuringUpdate = new ArrayList<>();
+        JdbcTemplate observingJdbcTemplate = new JdbcTemplate(dataSource) {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                pendingDuringUpdate.add(counter.get().pending(storeId));
+
+                return super.batchUpdate(sql, batchArgs);
+            }
+        };
+        counter.set(new StoreViewCounter(observingJdbcTemplate, transactionTemplate, false));
+
+        counter.get().increment(storeId);
+        counter.get().increment(storeId);
+
+        // when
+        counter.get().flush();
+
+        // then
+        assertThat(pendingDuringUpdate).containsExactly(2L);
+        assertThat(counter.get().pending(storeId)).isZero();
+        assertThat(storeRepository.findViewCount(storeId)).isEqualTo(2);
+    }
+}
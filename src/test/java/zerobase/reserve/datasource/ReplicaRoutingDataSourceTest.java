@@ -0,0 +1,175 @@
+package zerobase.reserve.datasource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.reserve.domain.Member;
+import zerobase.reserve.repository.MemberRepository;
+import zerobase.reserve.security.MemberPrincipal;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.*;
+import static zerobase.reserve.support.Fixtures.member;
+
+/**
+ * 주 DB 와 복제본 역할의 H2 인메모리 DB 두 개로 라우팅을 검증한다.
+ * 두 DB 사이에 실제 복제는 없으므로 회원은 주 DB 에만 저장되고, 복제 진행은 복제본의 heartbeat 값을 직접 바꾸어 흉내낸다.
+ * 따라서 회원이 조회되면 주 DB, 조회되지 않으면 복제본에서 읽은 것이다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaRoutingDataSourceTest.PRIMARY_URL,
+        "reserve.datasource.replica-urls=" + ReplicaRoutingDataSourceTest.REPLICA_URL,
+        "reserve.datasource.max-lag=2s",
+        "reserve.datasource.heartbeat-interval=PT1H",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class ReplicaRoutingDataSourceTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String EMAIL = "replica@naver.com";
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManager em;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private MemberPrincipal principal;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Member member = readWrite.execute(status -> memberRepository.save(member(EMAIL, "ROLE_USER")));
+        principal = MemberPrincipal.fromEntity(member);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        replica.update("delete from member where member_id = ?", principal.getId());
+        readWrite.executeWithoutResult(status -> em.remove(em.find(Member.class, principal.getId())));
+    }
+
+    @Test
+    @DisplayName("복제본이 max-lag 안으로 따라와 있으면 읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 주 DB 에서 처리")
+    void routeReadOnlyToReplica() {
+        // given
+        replicate(System.currentTimeMillis());
+
+        // when, then
+        assertThat(memberFound(readOnly)).isFalse();
+        assertThat(memberFound(readWrite)).isTrue();
+    }
+
+    @Test
+    @DisplayName("복제본 지연이 max-lag 를 넘으면 읽기 전용 트랜잭션도 주 DB 에서 처리")
+    void fallbackToPrimaryWhenReplicaLags() {
+        // given
+        replicate(System.currentTimeMillis() - 10_000);
+
+        // when, then
+        assertThat(memberFound(readOnly)).isTrue();
+    }
+
+    @Test
+    @DisplayName("쓰기 이후 복제본이 그 시점까지 따라오기 전에는 같은 회원의 읽기만 주 DB 에서 처리")
+    void readYourWrites() {
+        // given
+        replicate(System.currentTimeMillis());
+        authenticate();
+        readWrite.executeWithoutResult(status -> memberRepository.existsByEmail(EMAIL));
+
+        // when
+        boolean sameMemberBeforeCatchUp = memberFound(readOnly);
+        SecurityContextHolder.clearContext();
+        boolean otherRequestBeforeCatchUp = memberFound(readOnly);
+
+        authenticate();
+        replicate(System.currentTimeMillis());
+        boolean sameMemberAfterCatchUp = memberFound(readOnly);
+
+        // then
+        assertThat(sameMemberBeforeCatchUp).isTrue();
+        assertThat(otherRequestBeforeCatchUp).isFalse();
+        assertThat(sameMemberAfterCatchUp).isFalse();
+    }
+
+    @Test
+    @DisplayName("주 DB 로 지정한 읽기 전용 트랜잭션은 주 DB 에서 처리하고, 그 회원의 이후 읽기는 계속 복제본에서 처리")
+    void routeToPrimaryWithoutReadYourWrites() {
+        // given
+        replicate(System.currentTimeMillis());
+        authenticate();
+
+        // when
+        Boolean routedToPrimary = readOnly.execute(status -> {
+            ReplicaRoutingDataSource.routeToPrimary();
+            return memberRepository.existsByEmail(EMAIL);
+        });
+        boolean nextRead = memberFound(readOnly);
+
+        // then
+        assertThat(routedToPrimary).isTrue();
+        assertThat(nextRead).isFalse();
+    }
+
+    @Test
+    @DisplayName("복제본에서 읽은 이전 값은 2차 캐시에 들어가지 않아 이후 주 DB 읽기에 보이지 않는다")
+    void replicaReadDoesNotPopulateSecondLevelCache() {
+        // given - 복제본에는 이름 변경이 아직 반영되지 않은 회원 행이 있다.
+        replicate(System.currentTimeMillis());
+        replica.update("insert into member (member_id, name, email) values (?, ?, ?)", principal.getId(), "stale", EMAIL);
+        em.getEntityManagerFactory().getCache().evict(Member.class);
+
+        // when
+        String readOnlyName = readOnly.execute(status -> memberRepository.findById(principal.getId()).get().getName());
+        String readWriteName = readWrite.execute(status -> memberRepository.findById(principal.getId()).get().getName());
+
+        // then
+        assertThat(readOnlyName).isEqualTo("stale");
+        assertThat(readWriteName).isEqualTo("kim");
+    }
+
+    private boolean memberFound(TransactionTemplate transactionTemplate) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> memberRepository.existsByEmail(EMAIL)));
+    }
+
+    // 주 DB 의 heartbeat 가 복제본에 beatMillis 까지 반영된 상태를 만든다.
+    private void replicate(long beatMillis) {
+        replica.update("update replication_heartbeat set beat_millis = ? where id = 1", beatMillis);
+        replicaLagMonitor.heartbeat();
+    }
+
+    private void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities()));
+    }
+}
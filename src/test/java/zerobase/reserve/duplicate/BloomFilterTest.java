@@ -0,0 +1,56 @@
+package zerobase.reserve.duplicate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함된 것으로 판단")
+    void noFalseNegative() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        // when
+        for (int i = 0; i < 10_000; i++){
+            filter.add("user" + i + "@naver.com");
+        }
+
+        // then
+        for (int i = 0; i < 10_000; i++){
+            assertThat(filter.mightContain("user" + i + "@naver.com")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("예상 원소 수만큼 추가했을 때 거짓 양성 비율이 설정값 근처")
+    void falsePositiveRate() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++){
+            filter.add("user" + i + "@naver.com");
+        }
+
+        // when
+        int falsePositives = 0;
+
+        for (int i = 10_000; i < 110_000; i++){
+            if (filter.mightContain("user" + i + "@naver.com")){
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("잘못된 크기 설정은 거절")
+    void invalidSize() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(1000, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,41 @@
+package zerobase.reserve.duplicate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class KnownNameFilterTest {
+
+    @Test
+    @DisplayName("추가된 이메일, 매장 이름만 있을 수도 있다고 판단 - 대소문자와 뒤쪽 공백은 구분하지 않음")
+    void mightContain() {
+        // given
+        KnownNameFilter filter = new KnownNameFilter(null, null, true, 1000, 0.001);
+
+        // when
+        filter.addEmailAfterCommit("Sehun5515@naver.com");
+        filter.addStoreNameAfterCommit("참새정");
+
+        // then
+        assertThat(filter.mightContainEmail("sehun5515@NAVER.com ")).isTrue();
+        assertThat(filter.mightContainEmail("sehun8631@naver.com")).isFalse();
+        assertThat(filter.mightContainStoreName("참새정")).isTrue();
+        assertThat(filter.mightContainStoreName("서강식당")).isFalse();
+        assertThat(filter.mightContainEmail(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("필터를 끄면 항상 DB 유일 제약으로만 판단")
+    void disabled() {
+        // given
+        KnownNameFilter filter = new KnownNameFilter(null, null, false, 1000, 0.001);
+
+        // when
+        filter.addEmailAfterCommit("sehun5515@naver.com");
+        filter.afterSingletonsInstantiated();
+
+        // then
+        assertThat(filter.mightContainEmail("sehun5515@naver.com")).isFalse();
+    }
+}
@@ -0,0 +1,95 @@
+package zerobase.reserve.ranking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StoreRankingsTest {
+
+    private StoreRankings rankings;
+
+    @BeforeEach
+    void setUp() {
+        rankings = new StoreRankings(null, null);
+        rankings.add(1L, "참새정", "경상남도", 4.0, 2, 10);
+        rankings.add(2L, "까치정", "경상남도", 4.5, 4, 3);
+        rankings.add(3L, "제비정", "서울특별시", 4.5, 10, 7);
+        rankings.add(4L, "비둘기정", "서울특별시", 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("평점 순위 - 평균 평점 순, 같으면 리뷰 수 순")
+    void topByRating() {
+        assertThat(rankings.top(RankingType.RATING, null, 10)).extracting(RankedStore::getStoreId)
+                .containsExactly(3L, 2L, 1L, 4L);
+        assertThat(rankings.top(RankingType.RATING, "", 2)).extracting(RankedStore::getStoreId)
+                .containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("지역별 순위 - 해당 지역 매장만, 없는 지역은 빈 목록")
+    void topByRegion() {
+        assertThat(rankings.top(RankingType.RESERVATIONS, "경상남도", 10)).extracting(RankedStore::getStoreId)
+                .containsExactly(1L, 2L);
+        assertThat(rankings.top(RankingType.RESERVATIONS, " 서울특별시 ", 10)).extracting(RankedStore::getStoreId)
+                .containsExactly(3L, 4L);
+        assertThat(rankings.top(RankingType.RESERVATIONS, "제주특별자치도", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("리뷰 평점 반영 시 평균과 순위가 전체, 지역 순위표에서 함께 바뀜")
+    void addRating() {
+        // when
+        rankings.addRating(1L, 5);
+        rankings.addRating(1L, 5);
+        rankings.addRating(1L, 5);
+
+        // then
+        RankedStore first = rankings.top(RankingType.RATING, null, 1).get(0);
+        assertThat(first.getStoreId()).isEqualTo(1L);
+        assertThat(first.getScore()).isCloseTo(4.6, within(1e-9));
+        assertThat(first.getCount()).isEqualTo(5L);
+        assertThat(rankings.top(RankingType.RATING, "경상남도", 10)).extracting(RankedStore::getStoreId)
+                .containsExactly(1L, 2L);
+        assertThat(rankings.top(RankingType.RATING, null, 10)).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("예약 수 증가 시 순위 변경, 등록되지 않은 매장은 무시")
+    void increaseReservations() {
+        // when
+        for (int i = 0; i < 4; i++){
+            rankings.increaseReservations(2L);
+        }
+        rankings.increaseReservations(100L);
+
+        // then
+        assertThat(rankings.top(RankingType.RESERVATIONS, null, 10)).extracting(RankedStore::getStoreId)
+                .containsExactly(1L, 2L, 3L, 4L);
+        assertThat(rankings.top(RankingType.RESERVATIONS, null, 10).get(1).getCount()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("상위 MAX_SIZE 개 밖의 매장이 순위가 올라 들어오면 조회 목록에 반영")
+    void updateOutsideTop() {
+        // given
+        for (long id = 10; id < 10 + StoreRankings.MAX_SIZE; id++){
+            rankings.add(id, "매장" + id, "부산광역시", 0, 0, 5);
+        }
+        rankings.add(999L, "막내정", "부산광역시", 0, 0, 1);
+        assertThat(rankings.top(RankingType.RESERVATIONS, "부산광역시", StoreRankings.MAX_SIZE))
+                .extracting(RankedStore::getStoreId).doesNotContain(999L);
+
+        // when
+        for (int i = 0; i < 5; i++){
+            rankings.increaseReservations(999L);
+        }
+
+        // then
+        assertThat(rankings.top(RankingType.RESERVATIONS, "부산광역시", StoreRankings.MAX_SIZE))
+                .hasSize(StoreRankings.MAX_SIZE)
+                .extracting(RankedStore::getStoreId).startsWith(999L).doesNotContain(10L + StoreRankings.MAX_SIZE - 1);
+    }
+}
@@ -0,0 +1,46 @@
+package zerobase.reserve.repository;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import zerobase.reserve.domain.Reserve;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConstraintViolationsTest {
+
+    @Test
+    @DisplayName("DB 마다 다른 형태의 제약 이름에서 같은 제약을 찾는다")
+    void matchConstraintNameOfEachDatabase() {
+        // given
+        DataIntegrityViolationException mariaDb = violation("Duplicate entry", "reserve_unique_store_slot_seat");
+        DataIntegrityViolationException h2 = violation("Unique index or primary key violation",
+                "PUBLIC.RESERVE_UNIQUE_STORE_SLOT_SEAT_INDEX_4");
+
+        // when, then
+        assertThat(ConstraintViolations.isViolationOf(mariaDb, Reserve.UNIQUE_STORE_SLOT_SEAT)).isTrue();
+        assertThat(ConstraintViolations.isViolationOf(h2, Reserve.UNIQUE_STORE_SLOT_SEAT)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 제약 위반은 해당 제약 위반으로 보지 않는다")
+    void notMatchOtherConstraint() {
+        // given
+        DataIntegrityViolationException foreignKey = violation("Cannot add or update a child row",
+                "reserve_foreign_key_memberId");
+        DataIntegrityViolationException tooLong = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Value too long for column \"NAME CHARACTER VARYING(30)\""));
+
+        // when, then
+        assertThat(ConstraintViolations.isViolationOf(foreignKey, Reserve.UNIQUE_STORE_SLOT_SEAT)).isFalse();
+        assertThat(ConstraintViolations.isViolationOf(tooLong, Reserve.UNIQUE_STORE_SLOT_SEAT)).isFalse();
+    }
+
+    private DataIntegrityViolationException violation(String message, String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException(message, new SQLException(message), constraintName));
+    }
+}
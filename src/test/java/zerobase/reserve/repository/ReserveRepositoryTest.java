@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 import zerobase.reserve.domain.*;
+import zerobase.reserve.dto.ReserveDto;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -159,16 +160,14 @@ class ReserveRepositoryTest {
         );
 
         // when
-        List<Reserve> ownerReserveList = reserveRepository.findByStoreOwnerEmail(owner.getEmail());
+        List<ReserveDto> ownerReserveList = reserveRepository.findReserveDtoByStoreOwnerEmail(owner.getEmail(), null, 10);
 
         // then
-
-        for (Reserve data : ownerReserveList) {
-            log.info("reserve store = {}, reserve member = {}",
-                    data.getStore().getStoreName(), data.getMember().getName());
+        for (ReserveDto data : ownerReserveList) {
+            log.info("reserve store = {}, reserve member = {}", data.getStoreName(), data.getMemberEmail());
         }
 
-        assertThat(ownerReserveList.size()).isEqualTo(4);
-        assertThat(ownerReserveList).containsExactly(reserve, reserve2, reserve3, reserve4);
+        assertThat(ownerReserveList).extracting(ReserveDto::getId)
+                .containsExactly(reserve.getId(), reserve2.getId(), reserve3.getId(), reserve4.getId());
     }
 }
\ No newline at end of file
@@ -7,9 +7,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 import zerobase.reserve.domain.*;
+import zerobase.reserve.dto.PageCursor;
 import zerobase.reserve.exception.ErrorCode;
 import zerobase.reserve.exception.NotExistsException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -164,7 +166,7 @@ class ReviewRepositoryTest {
         );
 
         // when
-        List<Review> result = reviewRepository.findByStoreId(store1.getId());
+        List<Review> result = reviewRepository.findByStoreId(store1.getId(), null, 10);
 
         // then
         assertThat(result.size()).isEqualTo(3);
@@ -234,7 +236,7 @@ class ReviewRepositoryTest {
         );
 
         // when
-        List<Review> result = reviewRepository.findByUserEmail(userMember.getEmail());
+        List<Review> result = reviewRepository.findByUserEmail(userMember.getEmail(), null, 10);
 
         // then
         assertThat(result.size()).isEqualTo(3);
@@ -313,10 +315,81 @@ class ReviewRepositoryTest {
         );
 
         // when
-        List<Review> result = reviewRepository.findByOwnerEmail(ownerMember.getEmail());
+        List<Review> result = reviewRepository.findByOwnerEmail(ownerMember.getEmail(), null, 10);
 
         // then
         assertThat(result.size()).isEqualTo(3);
         assertThat(result).containsExactly(review, review2, review3);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("매장 리뷰 조회 - 다른 매장의 리뷰는 제외하고 키셋 페이지 단위로 조회")
+    void findByStoreIdWithKeyset(){
+        // given
+        Member ownerMember = memberRepository.save(
+                Member.builder()
+                        .name("kim")
+                        .email("sehun5515@naver.com")
+                        .password("1234")
+                        .gender(Gender.MALE)
+                        .roles(Arrays.asList("ROLE_PARTNER", "ROLE_USER"))
+                        .phoneNumber("010-0101-0101")
+                        .build()
+        );
+
+        Member userMember = memberRepository.save(
+                Member.builder()
+                        .name("lee")
+                        .email("sehun8631@naver.com")
+                        .password("1234")
+                        .gender(Gender.MALE)
+                        .roles(List.of("ROLE_USER"))
+                        .phoneNumber("010-0101-0102")
+                        .build()
+        );
+
+        Store store1 = storeRepository.save(
+                Store.builder()
+                        .storeName("참새정")
+                        .address(new Address("경상남도", "김해시", "삼계로", "12345"))
+                        .description("맛있는 밥집")
+                        .owner(ownerMember)
+                        .build()
+        );
+
+        Store store2 = storeRepository.save(
+                Store.builder()
+                        .storeName("까치정")
+                        .address(new Address("경상남도", "김해시", "삼계로", "12355"))
+                        .description("맛있는 술집")
+                        .owner(ownerMember)
+                        .build()
+        );
+
+        List<Review> store1Reviews = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++){
+            store1Reviews.add(reviewRepository.save(review(store1, userMember)));
+            reviewRepository.save(review(store2, userMember));
+        }
+
+        // when
+        List<Review> firstPage = reviewRepository.findByStoreId(store1.getId(), null, 2);
+        List<Review> secondPage = reviewRepository.findByStoreId(store1.getId(), PageCursor.of(firstPage.get(1).getId()), 2);
+        List<Review> lastPage = reviewRepository.findByStoreId(store1.getId(), PageCursor.of(secondPage.get(1).getId()), 2);
+
+        // then
+        assertThat(firstPage).containsExactly(store1Reviews.get(0), store1Reviews.get(1));
+        assertThat(secondPage).containsExactly(store1Reviews.get(2), store1Reviews.get(3));
+        assertThat(lastPage).containsExactly(store1Reviews.get(4));
+    }
+
+    private Review review(Store store, Member member){
+        return Review.builder()
+                .rating(4)
+                .store(store)
+                .member(member)
+                .reviewContent("괜찮은 밥집이었습니다.")
+                .build();
+    }
+}
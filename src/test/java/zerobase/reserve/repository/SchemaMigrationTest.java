@@ -0,0 +1,102 @@
+package zerobase.reserve.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 운영 DB(MariaDB)와 같은 방식으로 H2 MySQL 호환 모드에서 마이그레이션 스크립트로만 스키마를 만들고, 엔티티 매핑이 그 스키마와 맞는지 검증한다.
+ * 컨텍스트가 ddl-auto: validate 로 뜨는 것 자체가 엔티티 검증이다.
+ * 기존 데이터를 채우는 마이그레이션은 이전 버전까지만 적용한 별도 DB 에 데이터를 넣은 뒤 나머지를 적용해 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("마이그레이션 - 모든 버전이 적용되고 조회용 인덱스와 유일 제약이 생성됨")
+    void migrate() {
+        // when
+        List<String> applied = Arrays.stream(flyway.info().applied())
+                .map(MigrationInfo::getVersion)
+                .map(Object::toString)
+                .collect(Collectors.toList());
+
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select lower(index_name) from information_schema.indexes where table_schema = 'public'", String.class);
+        List<String> uniqueConstraints = jdbcTemplate.queryForList(
+                "select lower(constraint_name) from information_schema.table_constraints" +
+                        " where table_schema = 'public' and constraint_type = 'UNIQUE'", String.class);
+
+        // then
+        assertThat(applied).containsExactly("1", "2", "3", "4", "5", "6", "7", "8");
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(indexes).contains(
+                "idx_reserve_member_id_reserve_time",
+                "idx_reserve_store_id_reserve_time",
+                "idx_reserve_status_reserve_time",
+                "idx_review_store_id_review_id",
+                "idx_review_member_id_review_id",
+                "idx_member_roles_member_id_roles",
+                "idx_store_rating_average_store_id"
+        );
+        assertThat(uniqueConstraints).contains(
+                "member_unique_email",
+                "store_unique_store_name",
+                "reserve_unique_store_slot_seat"
+        );
+    }
+
+    @Test
+    @DisplayName("마이그레이션 - V3 이전에 만든 예약의 슬롯 시작 시각을 채움")
+    void migrateExistingReserves() {
+        // given
+        Flyway legacy = Flyway.configure()
+                .dataSource("jdbc:h2:mem:migration-legacy;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "")
+                .target(MigrationVersion.fromVersion("2"))
+                .load();
+        legacy.migrate();
+
+        JdbcTemplate legacyJdbc = new JdbcTemplate(legacy.getConfiguration().getDataSource());
+        legacyJdbc.update("insert into member (member_id, email) values (1, 'legacy@naver.com')");
+        legacyJdbc.update("insert into store (store_id, store_name, member_id) values (1, '예전식당', 1)");
+        legacyJdbc.update("insert into reserve (reserve_id, reserve_status, reserve_time, member_id, store_id)" +
+                " values (1, 'VALID', '2023-07-02 19:44:59', 1, 1), (2, 'CANCEL', '2023-07-02 20:10:00', 1, 1)");
+
+        // when
+        Flyway.configure()
+                .dataSource(legacy.getConfiguration().getDataSource())
+                .load()
+                .migrate();
+
+        // then
+        List<Map<String, Object>> reserves = legacyJdbc.queryForList(
+                "select slot_time, seat_no from reserve order by reserve_id");
+
+        assertThat(reserves).extracting(row -> ((Timestamp) row.get("slot_time")).toLocalDateTime())
+                .containsExactly(LocalDateTime.of(2023, 7, 2, 19, 30), LocalDateTime.of(2023, 7, 2, 20, 0));
+        assertThat(reserves).extracting(row -> row.get("seat_no")).containsOnlyNulls();
+    }
+}
@@ -0,0 +1,138 @@
+package zerobase.reserve.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.reserve.config.HibernateCacheConfiguration;
+import zerobase.reserve.domain.Address;
+import zerobase.reserve.domain.Member;
+import zerobase.reserve.domain.Store;
+import zerobase.reserve.domain.StoreRating;
+import zerobase.reserve.domain.StoreViewCount;
+import zerobase.reserve.support.QueryCounter;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.*;
+import static zerobase.reserve.support.Fixtures.member;
+
+/**
+ * 2차 캐시는 커밋된 데이터만 담으므로 트랜잭션을 직접 나누어 검증하고, 끝난 뒤 데이터를 지운다.
+ */
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private QueryCounter queryCounter;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long memberId;
+    private Long storeId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Member member = memberRepository.save(member("cache@naver.com", "ROLE_PARTNER", "ROLE_USER"));
+
+            Store store = storeRepository.save(
+                    Store.builder()
+                            .storeName("캐시식당")
+                            .address(new Address("경상남도", "김해시", "삼계로", "50898"))
+                            .description("라면가계")
+                            .owner(member)
+                            .build()
+            );
+
+            memberId = member.getId();
+            storeId = store.getId();
+        });
+
+        em.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.remove(em.find(StoreRating.class, storeId));
+            em.remove(em.find(StoreViewCount.class, storeId));
+            em.remove(em.find(Store.class, storeId));
+            em.remove(em.find(Member.class, memberId));
+        });
+    }
+
+    @Test
+    @DisplayName("회원 이메일 조회 - 두 번째 조회부터 DB 를 조회하지 않음")
+    void findByEmailHitsCache() {
+        // given
+        transactionTemplate.executeWithoutResult(status -> memberRepository.findByEmail("cache@naver.com").orElseThrow());
+
+        // when
+        queryCounter.reset();
+        Member member = transactionTemplate.execute(status -> {
+            Member found = memberRepository.findByEmail("cache@naver.com").orElseThrow();
+            found.getRoles().size();
+
+            return found;
+        });
+
+        // then
+        assertThat(queryCounter.count()).isZero();
+        assertThat(member.getRoles()).containsExactly("ROLE_PARTNER", "ROLE_USER");
+        assertThat(meterRegistry.get("hibernate.second.level.cache.requests")
+                .tags("region", HibernateCacheConfiguration.MEMBER_REGION, "result", "hit")
+                .functionCounter().count()).isPositive();
+        assertThat(meterRegistry.get("cache.gets")
+                .tags("cache", HibernateCacheConfiguration.MEMBER_NATURAL_ID_REGION, "result", "hit")
+                .functionCounter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("매장 이름, id 조회 - 두 번째 조회부터 DB 를 조회하지 않음")
+    void findStoreHitsCache() {
+        // given
+        transactionTemplate.executeWithoutResult(status -> storeRepository.findByStoreName("캐시식당").orElseThrow());
+
+        // when
+        queryCounter.reset();
+        transactionTemplate.executeWithoutResult(status -> {
+            storeRepository.findByStoreName("캐시식당").orElseThrow();
+            storeRepository.findById(storeId).orElseThrow();
+        });
+
+        // then
+        assertThat(queryCounter.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("회원 정보 변경 - 변경된 이메일로 조회되고 이전 이메일로는 조회되지 않음")
+    void changeMemberInvalidatesCache() {
+        // given
+        transactionTemplate.executeWithoutResult(status -> memberRepository.findByEmail("cache@naver.com").orElseThrow());
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                memberRepository.findById(memberId).orElseThrow()
+                        .changeMemberInfo("lee", "010-0101-0102", "changed@naver.com"));
+
+        // then
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(memberRepository.findByEmail("cache@naver.com")).isEmpty();
+            assertThat(memberRepository.findByEmail("changed@naver.com"))
+                    .get().extracting(Member::getName).isEqualTo("lee");
+        });
+    }
+}
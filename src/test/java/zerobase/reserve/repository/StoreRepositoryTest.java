@@ -93,7 +93,7 @@ class StoreRepositoryTest {
 
         Store store3 = storeRepository.save(
                 Store.builder()
-                        .storeName("storeB")
+                        .storeName("storeC")
                         .address(new Address("경상남도", "김해시", "삼계로", "50989"))
                         .owner(member2)
                         .description("두부가계")
@@ -102,7 +102,7 @@ class StoreRepositoryTest {
 
         // when
         StoreSearchCond cond = new StoreSearchCond();
-        List<Store> storeList = storeRepository.findAll(cond);
+        List<Store> storeList = storeRepository.findAll(cond, null, 10);
 
         // then
         assertThat(storeList.size()).isEqualTo(3);
@@ -152,13 +152,13 @@ class StoreRepositoryTest {
         // when
         StoreSearchCond cond = new StoreSearchCond();
         cond.setKeyword("까치");
-        List<Store> storeList = storeRepository.findAll(cond);
+        List<Store> storeList = storeRepository.findAll(cond, null, 10);
 
         cond.setKeyword("두루미");
-        List<Store> storeList2 = storeRepository.findAll(cond);
+        List<Store> storeList2 = storeRepository.findAll(cond, null, 10);
 
         cond.setKeyword("정");
-        List<Store> storeList3 = storeRepository.findAll(cond);
+        List<Store> storeList3 = storeRepository.findAll(cond, null, 10);
 
         // then
         assertThat(storeList.size()).isEqualTo(1);
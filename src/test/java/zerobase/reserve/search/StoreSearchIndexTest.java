@@ -0,0 +1,78 @@
+package zerobase.reserve.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StoreSearchIndexTest {
+
+    private StoreSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreSearchIndex(null);
+        index.add(new StoreDocument(1L, "참새정", "맛있는 밥집"));
+        index.add(new StoreDocument(2L, "까치정", "맛있는 술집"));
+        index.add(new StoreDocument(3L, "두루미 정식당", "정갈한 한식 밥집"));
+        index.add(new StoreDocument(4L, "Burger King", "hamburger and fries"));
+    }
+
+    @Test
+    @DisplayName("한 글자 검색 - 이름 포함이 설명 포함보다 먼저 반환")
+    void searchSingleCharacter() {
+        // when
+        List<StoreSearchHit> hits = index.search("정");
+
+        // then
+        assertThat(hits).extracting(StoreSearchHit::getStoreId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("검색 점수 - 이름 일치 > 이름 시작 > 이름 포함 > 설명 포함")
+    void searchRanking() {
+        // given
+        index.add(new StoreDocument(5L, "밥집", "김밥"));
+        index.add(new StoreDocument(6L, "밥집 거리", ""));
+        index.add(new StoreDocument(7L, "옛날밥집", ""));
+
+        // when
+        List<StoreSearchHit> hits = index.search("밥집");
+
+        // then
+        assertThat(hits).extracting(StoreSearchHit::getStoreId).containsExactly(5L, 6L, 7L, 1L, 3L);
+        assertThat(hits).extracting(StoreSearchHit::getScore).containsExactly(4, 3, 2, 1, 1);
+    }
+
+    @Test
+    @DisplayName("긴 검색어 - 공백과 대소문자를 무시하고 3글자 조각 교집합 후 실제 포함 여부 확인")
+    void searchLongKeyword() {
+        assertThat(index.search("두루미정식")).extracting(StoreSearchHit::getStoreId).containsExactly(3L);
+        assertThat(index.search("burger king")).extracting(StoreSearchHit::getStoreId).containsExactly(4L);
+        assertThat(index.search("HAMBURGER")).extracting(StoreSearchHit::getStoreId).containsExactly(4L);
+
+        // 조각은 모두 존재하지만 연속된 문자열은 아닌 경우
+        assertThat(index.search("참새정밥집")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 결과 없음")
+    void searchNotFound() {
+        assertThat(index.search("고래")).isEmpty();
+        assertThat(index.search("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커서 이후 결과 확인")
+    void isAfter() {
+        StoreSearchHit hit = new StoreSearchHit(5L, 2);
+
+        assertThat(hit.isAfter(3, 10L)).isTrue();
+        assertThat(hit.isAfter(2, 4L)).isTrue();
+        assertThat(hit.isAfter(2, 5L)).isFalse();
+        assertThat(hit.isAfter(1, 1L)).isFalse();
+    }
+}
@@ -0,0 +1,84 @@
+package zerobase.reserve.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StoreSuggestIndexTest {
+
+    private StoreSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreSuggestIndex(null, null);
+        index.add(1L, "서강식당", 3);
+        index.add(2L, "서울국밥", 10);
+        index.add(3L, "석가네", 1);
+        index.add(4L, "Seoul Pub", 5);
+    }
+
+    @Test
+    @DisplayName("이름 앞부분으로 자동완성 - 인기도 순")
+    void suggestByPrefix() {
+        assertThat(index.suggest("서", 10)).extracting(StoreSuggestion::getStoreId).containsExactly(2L, 1L);
+        assertThat(index.suggest("서강", 10)).extracting(StoreSuggestion::getStoreName).containsExactly("서강식당");
+        assertThat(index.suggest("seoul p", 10)).extracting(StoreSuggestion::getStoreId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("초성으로 자동완성")
+    void suggestByChosung() {
+        assertThat(index.suggest("ㅅㄱ", 10)).extracting(StoreSuggestion::getStoreId).containsExactly(1L, 3L);
+        assertThat(index.suggest("ㅅ", 10)).extracting(StoreSuggestion::getStoreId).containsExactly(2L, 1L, 3L);
+        assertThat(index.suggest("ㅅㅇㄱㅂ", 10)).extracting(StoreSuggestion::getStoreId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("인기도 증가 시 순서 변경")
+    void increasePopularity() {
+        // when
+        for (int i = 0; i < 8; i++){
+            index.increasePopularity(1L);
+        }
+
+        // then
+        assertThat(index.suggest("서", 10)).extracting(StoreSuggestion::getStoreId).containsExactly(1L, 2L);
+        assertThat(index.suggest("ㅅㄱ", 10).get(0).getPopularity()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("노드마다 상위 TOP_K 개만 유지")
+    void keepTopK() {
+        // given
+        for (long id = 100; id < 130; id++){
+            index.add(id, "가게" + id, id);
+        }
+
+        // when
+        List<StoreSuggestion> suggestions = index.suggest("ㄱㄱ", 20);
+
+        // then
+        assertThat(suggestions).hasSize(StoreSuggestIndex.TOP_K);
+        assertThat(suggestions.get(0).getStoreId()).isEqualTo(129L);
+        assertThat(suggestions.get(StoreSuggestIndex.TOP_K - 1).getStoreId()).isEqualTo(120L);
+        assertThat(index.suggest("ㄱㄱ", 3)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("자동완성 결과 없음")
+    void suggestNotFound() {
+        assertThat(index.suggest("고래", 10)).isEmpty();
+        assertThat(index.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초성 변환 - 한글 음절이 아닌 문자는 그대로")
+    void toChosung() {
+        assertThat(Hangul.toChosung("서강")).isEqualTo("ㅅㄱ");
+        assertThat(Hangul.toChosung("까치정 bar")).isEqualTo("ㄲㅊㅈ bar");
+    }
+}
@@ -0,0 +1,69 @@
+package zerobase.reserve.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import zerobase.reserve.domain.Member;
+
+
+import static org.assertj.core.api.Assertions.*;
+import static zerobase.reserve.support.Fixtures.member;
+
+@SpringBootTest(properties = "spring.jwt.auth-mode=claims")
+class ClaimsAuthenticationModeTest {
+
+    @Autowired
+    private TokenProvider tokenProvider;
+    @Autowired
+    private TokenRevocationRegistry revocationRegistry;
+
+    @Test
+    @DisplayName("CLAIMS 모드 - DB 에 없는 회원도 토큰의 클레임만으로 인증")
+    void authenticateFromClaims() {
+        // given
+        String token = tokenProvider.generateToken(member(100L));
+
+        // when
+        TokenClaims claims = tokenProvider.parseToken(token).orElseThrow();
+        Authentication authentication = tokenProvider.getAuthentication(claims);
+
+        // then
+        MemberPrincipal principal = (MemberPrincipal) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(100L);
+        assertThat(principal.getName()).isEqualTo("kim");
+        assertThat(authentication.getName()).isEqualTo("sehun5515@naver.com");
+        assertThat(authentication.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_PARTNER", "ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("CLAIMS 모드 - 짧은 만료 시간 적용")
+    void shortTokenTtl() {
+        // given
+        String token = tokenProvider.generateToken(member(101L));
+
+        // when
+        TokenClaims claims = tokenProvider.parseToken(token).orElseThrow();
+
+        // then
+        long ttl = claims.getExpiration().getTime() - claims.getIssuedAt().getTime();
+        assertThat(ttl).isEqualTo(1000 * 60 * 10);
+    }
+
+    @Test
+    @DisplayName("CLAIMS 모드 - 회원 변경으로 폐기된 토큰은 인증 불가")
+    void revokedToken() {
+        // given
+        String token = tokenProvider.generateToken(member(102L));
+
+        // when
+        revocationRegistry.revoke(102L);
+
+        // then
+        assertThat(tokenProvider.parseToken(token)).isEmpty();
+    }
+}
@@ -0,0 +1,64 @@
+package zerobase.reserve.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class JwtAuthenticationFilterTest {
+
+    private static final String INVALID_TOKEN = JwtAuthenticationFilter.TOKEN_PREFIX + "invalid.token.value";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpyBean
+    private TokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        clearInvocations(tokenProvider);
+    }
+
+    @Test
+    @DisplayName("공개 API - 토큰이 있어도 파싱하지 않음")
+    void publicEndpointSkipsToken() throws Exception {
+        mockMvc.perform(get("/stores/1")
+                        .header(JwtAuthenticationFilter.TOKEN_HEADER, INVALID_TOKEN))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/stores/1/reviews")
+                        .header(JwtAuthenticationFilter.TOKEN_HEADER, INVALID_TOKEN))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/members/signin")
+                        .header(JwtAuthenticationFilter.TOKEN_HEADER, INVALID_TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"nobody@naver.com\", \"password\": \"1234\"}"))
+                .andExpect(status().isOk());
+
+        verify(tokenProvider, never()).parseToken(anyString());
+    }
+
+    @Test
+    @DisplayName("인증이 필요한 API - 토큰 파싱 수행")
+    void protectedEndpointParsesToken() throws Exception {
+        mockMvc.perform(get("/reserves/user")
+                .header(JwtAuthenticationFilter.TOKEN_HEADER, INVALID_TOKEN));
+
+        verify(tokenProvider, times(1)).parseToken(anyString());
+    }
+}
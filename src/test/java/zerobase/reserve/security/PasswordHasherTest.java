@@ -0,0 +1,103 @@
+package zerobase.reserve.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import zerobase.reserve.exception.ErrorCode;
+import zerobase.reserve.exception.ServerBusyException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (passwordHasher != null) passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("해시 생성 및 검증 - 메트릭 기록")
+    void encodeAndMatches() {
+        // given
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), meterRegistry, 2, 10, Duration.ofSeconds(5));
+
+        // when
+        String encoded = passwordHasher.encode("1234");
+
+        // then
+        assertThat(passwordHasher.matches("1234", encoded)).isTrue();
+        assertThat(passwordHasher.matches("4321", encoded)).isFalse();
+        assertThat(meterRegistry.get("password.hash.latency").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash.latency").tag("operation", "matches").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("password.hash.queue.wait").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("해시 작업자 포화 - 대기하지 않고 즉시 거절")
+    void rejectWhenSaturated() throws Exception {
+        // given - 작업자 1개, 대기열 1개
+        passwordHasher = new PasswordHasher(blockingEncoder(), meterRegistry, 1, 1, Duration.ofSeconds(5));
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode("b"));
+        waitUntilQueued();
+
+        // when
+        long begin = System.nanoTime();
+        ServerBusyException exception = assertThrows(ServerBusyException.class, () -> passwordHasher.encode("c"));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.SERVER_BUSY);
+        assertThat(elapsedMillis).isLessThan(1000);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded-a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded-b");
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            double queued = meterRegistry.get("executor.queued").tag("name", "password-hash").gauge().value();
+            if (queued >= 1) return;
+            Thread.sleep(10);
+        }
+        throw new AssertionError("task was not queued");
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "encoded-" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals(encode(rawPassword));
+            }
+        };
+    }
+}
@@ -0,0 +1,129 @@
+package zerobase.reserve.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import zerobase.reserve.domain.Gender;
+import zerobase.reserve.domain.Member;
+import zerobase.reserve.repository.MemberRepository;
+import zerobase.reserve.service.MemberService;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@Slf4j
+class PrincipalCacheTest {
+
+    @Autowired
+    private PrincipalCache principalCache;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        principalCache.evictAll();
+    }
+
+    @Test
+    @DisplayName("동일 토큰에 대해 회원 정보는 한 번만 조회")
+    void cacheHit() {
+        // given
+        Member member = saveMember();
+        Date issuedAt = new Date();
+        AtomicInteger loadCount = new AtomicInteger();
+        double hitBefore = gets("hit");
+        double missBefore = gets("miss");
+
+        // when
+        MemberPrincipal first = principalCache.get(member.getEmail(), issuedAt, email -> {
+            loadCount.incrementAndGet();
+            return memberService.loadUserByUsername(email);
+        });
+        MemberPrincipal second = principalCache.get(member.getEmail(), issuedAt, email -> {
+            loadCount.incrementAndGet();
+            return memberService.loadUserByUsername(email);
+        });
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(first.getId()).isEqualTo(member.getId());
+        assertThat(first.getRoles()).containsExactly("ROLE_PARTNER", "ROLE_USER");
+        assertThat(gets("hit") - hitBefore).isEqualTo(1);
+        assertThat(gets("miss") - missBefore).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("회원 정보 변경 시 캐시 제거")
+    void evictOnMemberInfoChanged() {
+        // given
+        Member member = saveMember();
+        principalCache.get(member.getEmail(), new Date(), memberService::loadUserByUsername);
+        assertThat(principalCache.size()).isEqualTo(1);
+
+        // when
+        member.changeMemberInfo("park", "010-1234-5678", "sehun8631@naver.com");
+        em.flush();
+
+        // then
+        assertThat(principalCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("회원 권한 변경 시 캐시 제거")
+    void evictOnRolesChanged() {
+        // given
+        Member member = saveMember();
+        principalCache.get(member.getEmail(), new Date(), memberService::loadUserByUsername);
+        assertThat(principalCache.size()).isEqualTo(1);
+
+        // when
+        member.changeRoles(List.of("ROLE_USER"));
+        em.flush();
+
+        // then
+        assertThat(principalCache.size()).isZero();
+    }
+
+    private Member saveMember() {
+        Member member = memberRepository.save(
+                Member.builder()
+                        .name("kim")
+                        .email("sehun5515@naver.com")
+                        .password("1234")
+                        .gender(Gender.MALE)
+                        .roles(Arrays.asList("ROLE_PARTNER", "ROLE_USER"))
+                        .phoneNumber("010-0101-0101")
+                        .build()
+        );
+        em.flush();
+
+        return member;
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", PrincipalCache.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -0,0 +1,107 @@
+package zerobase.reserve.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import zerobase.reserve.domain.Member;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static zerobase.reserve.support.Fixtures.member;
+
+@SpringBootTest
+class TokenProviderTest {
+
+    @Autowired
+    private TokenProvider tokenProvider;
+    @Autowired
+    private TokenRevocationRegistry revocationRegistry;
+
+    @Value("${spring.jwt.secret}")
+    private String secretKey;
+
+    @Test
+    @DisplayName("토큰 생성 후 검증 - 클레임 반환")
+    void parseToken() {
+        // given
+        String token = tokenProvider.generateToken(member(1L));
+
+        // when
+        Optional<TokenClaims> claims = tokenProvider.parseToken(token);
+
+        // then
+        assertThat(claims).isPresent();
+        assertThat(claims.get().getMemberId()).isEqualTo(1L);
+        assertThat(claims.get().getSubject()).isEqualTo("sehun5515@naver.com");
+        assertThat(claims.get().getName()).isEqualTo("kim");
+        assertThat(claims.get().getRoles()).containsExactly("ROLE_PARTNER", "ROLE_USER");
+        assertThat(claims.get().getIssuedAt()).isNotNull();
+        assertThat(claims.get().getExpiration()).isAfter(new Date());
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 만료된 토큰")
+    void parseExpiredToken() {
+        // given
+        Date past = new Date(System.currentTimeMillis() - 1000 * 60);
+        String token = Jwts.builder()
+                .setSubject("sehun5515@naver.com")
+                .setIssuedAt(new Date(past.getTime() - 1000 * 60))
+                .setExpiration(past)
+                .signWith(SignatureAlgorithm.HS512, Base64.getDecoder().decode(secretKey))
+                .compact();
+
+        // when
+        Optional<TokenClaims> claims = tokenProvider.parseToken(token);
+
+        // then
+        assertThat(claims).isEmpty();
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 다른 키로 서명된 토큰")
+    void parseTokenWithWrongSignature() {
+        // given
+        String token = Jwts.builder()
+                .setSubject("sehun5515@naver.com")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60))
+                .signWith(SignatureAlgorithm.HS512, "another-secret-key-another-secret-key".getBytes())
+                .compact();
+
+        // when
+        Optional<TokenClaims> claims = tokenProvider.parseToken(token);
+
+        // then
+        assertThat(claims).isEmpty();
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 폐기된 토큰")
+    void parseRevokedToken() {
+        // given
+        String token = tokenProvider.generateToken(member(2L));
+
+        // when
+        revocationRegistry.revoke(2L);
+        String reissued = tokenProvider.generateToken(member(2L));
+
+        // then
+        assertThat(tokenProvider.parseToken(token)).isEmpty();
+        assertThat(tokenProvider.parseToken(reissued)).isPresent();
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 형식이 잘못된 토큰")
+    void parseMalformedToken() {
+        assertThat(tokenProvider.parseToken("not-a-jwt")).isEmpty();
+        assertThat(tokenProvider.parseToken("")).isEmpty();
+    }
+}
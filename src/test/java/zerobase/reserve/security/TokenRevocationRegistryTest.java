@@ -0,0 +1,103 @@
+package zerobase.reserve.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TokenRevocationRegistryTest {
+
+    private static final Duration TOKEN_TTL = Duration.ofHours(1);
+    private static final Duration CLAIMS_TOKEN_TTL = Duration.ofMinutes(10);
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("폐기 기록 유지 시간이 토큰 최대 수명보다 짧으면 생성 실패")
+    void retentionShorterThanTokenTtl() {
+        assertThatThrownBy(() -> new TokenRevocationRegistry(100, Duration.ofMinutes(30), TOKEN_TTL, CLAIMS_TOKEN_TTL))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("유지 시간을 생략하면 토큰 최대 수명 동안 폐기 기록 유지")
+    void retentionDerivedFromTokenTtl() {
+        // given
+        TokenRevocationRegistry registry = new TokenRevocationRegistry(100, null, TOKEN_TTL, CLAIMS_TOKEN_TTL);
+
+        // when
+        registry.revoke(1L, NOW);
+
+        // then
+        assertThat(registry.currentVersion(1L, NOW + TOKEN_TTL.toMillis() - 1)).isEqualTo(NOW);
+        assertThat(registry.currentVersion(1L, NOW + TOKEN_TTL.toMillis())).isZero();
+    }
+
+    @Test
+    @DisplayName("폐기 기록이 사라진 뒤 다시 폐기해도 그 사이에 발급된 토큰은 폐기된다")
+    void revokeAgainAfterRecordExpired() {
+        // given
+        TokenRevocationRegistry registry = new TokenRevocationRegistry(100, null, TOKEN_TTL, CLAIMS_TOKEN_TTL);
+        registry.revoke(1L, NOW);
+        long issuedAfterFirstRevoke = registry.currentVersion(1L, NOW + 1);
+
+        // when
+        long secondRevoke = NOW + TOKEN_TTL.toMillis() + 1;
+        registry.revoke(1L, secondRevoke);
+
+        // then
+        assertThat(issuedAfterFirstRevoke).isLessThan(registry.currentVersion(1L, secondRevoke));
+    }
+
+    @Test
+    @DisplayName("같은 시각에 두 번 폐기해도 버전은 계속 올라간다")
+    void revokeTwiceInSameMillisecond() {
+        // given
+        TokenRevocationRegistry registry = new TokenRevocationRegistry(100, null, TOKEN_TTL, CLAIMS_TOKEN_TTL);
+        registry.revoke(1L, NOW);
+        long issuedAfterFirstRevoke = registry.currentVersion(1L, NOW);
+
+        // when
+        registry.revoke(1L, NOW);
+
+        // then
+        assertThat(registry.currentVersion(1L, NOW)).isGreaterThan(issuedAfterFirstRevoke);
+    }
+
+    @Test
+    @DisplayName("유지 중인 폐기 기록이 최대 개수를 넘으면 기록을 버리지 않고 모든 토큰을 폐기")
+    void revokeAllWhenFull() {
+        // given
+        TokenRevocationRegistry registry = new TokenRevocationRegistry(2, null, TOKEN_TTL, CLAIMS_TOKEN_TTL);
+        long otherMemberToken = registry.currentVersion(4L, NOW);
+        registry.revoke(1L, NOW);
+        registry.revoke(2L, NOW + 1);
+        long issuedAfterRevoke = registry.currentVersion(1L, NOW + 2);
+
+        // when
+        registry.revoke(3L, NOW + 2);
+
+        // then
+        assertThat(registry.currentVersion(1L, NOW + 2)).isGreaterThan(issuedAfterRevoke);
+        assertThat(registry.currentVersion(4L, NOW + 2)).isGreaterThan(otherMemberToken);
+        assertThat(registry.currentVersion(4L, NOW + 3)).isEqualTo(registry.currentVersion(5L, NOW + 3));
+    }
+
+    @Test
+    @DisplayName("만료된 폐기 기록은 최대 개수를 넘을 때 먼저 지워지므로 전체 폐기되지 않는다")
+    void purgeExpiredBeforeRevokeAll() {
+        // given
+        TokenRevocationRegistry registry = new TokenRevocationRegistry(2, null, TOKEN_TTL, CLAIMS_TOKEN_TTL);
+        registry.revoke(1L, NOW);
+        registry.revoke(2L, NOW);
+        long later = NOW + TOKEN_TTL.toMillis();
+
+        // when
+        registry.revoke(3L, later);
+
+        // then
+        assertThat(registry.currentVersion(4L, later)).isZero();
+        assertThat(registry.currentVersion(3L, later)).isEqualTo(later);
+    }
+}
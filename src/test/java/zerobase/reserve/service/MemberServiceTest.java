@@ -6,6 +6,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 import zerobase.reserve.domain.Authority;
@@ -15,6 +17,12 @@ import zerobase.reserve.dto.CreateMemberDto;
 import zerobase.reserve.dto.MemberDto;
 import zerobase.reserve.exception.DuplicateException;
 import zerobase.reserve.exception.ErrorCode;
+import zerobase.reserve.exception.LoginException;
+import zerobase.reserve.repository.MemberRepository;
+import zerobase.reserve.support.QueryCounter;
+
+import javax.persistence.EntityManager;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,6 +38,15 @@ class MemberServiceTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
     @Test
     @DisplayName("일반 회원 가입 - 성공")
     void createUserMember() {
@@ -82,6 +99,43 @@ class MemberServiceTest {
         assertThat(duplicateException.getErrorCode()).isEqualTo(ErrorCode.DUPLICATE_EMAIL);
     }
 
+    @Test
+    @DisplayName("일반 회원 가입 실패 - 이메일 유일 제약이 아닌 제약 위반은 중복으로 바꾸지 않는다")
+    void createUserMemberFailedOtherConstraint(){
+        // given
+        CreateMemberDto.SignUp memberDto = CreateMemberDto.SignUp.builder()
+                .name("k".repeat(31))
+                .email("sehun5515@naver.com")
+                .password("1234")
+                .phoneNumber("010-8631-8187")
+                .gender("Male")
+                .build();
+
+        // when, then
+        assertThrows(DataIntegrityViolationException.class,
+                () -> memberService.createUserMember(memberDto));
+    }
+
+    @Test
+    @DisplayName("일반 회원 가입 - 처음 보는 이메일은 중복 확인 조회 없이 insert 만 실행")
+    void createUserMemberWithoutDuplicateQuery() {
+        // given
+        CreateMemberDto.SignUp memberDto = CreateMemberDto.SignUp.builder()
+                .name("kim")
+                .email("sehun5515@naver.com")
+                .password("1234")
+                .phoneNumber("010-8631-8187")
+                .gender("Male")
+                .build();
+        queryCounter.reset();
+
+        // when
+        memberService.createUserMember(memberDto);
+
+        // then
+        assertThat(queryCounter.count()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("파트너 회원 가입 - 성공")
     void createPartnerMember() {
@@ -134,4 +188,70 @@ class MemberServiceTest {
         assertThat(duplicateException.getErrorCode()).isEqualTo(ErrorCode.DUPLICATE_EMAIL);
     }
 
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("로그인 성공")
+    void authenticate() {
+        // given
+        memberService.createUserMember(CreateMemberDto.SignUp.builder()
+                .name("kim")
+                .email("sehun5515@naver.com")
+                .password("1234")
+                .phoneNumber("010-8631-8187")
+                .gender("Male")
+                .build());
+
+        // when
+        Member member = memberService.authenticate(new CreateMemberDto.SignIn("sehun5515@naver.com", "1234"));
+
+        // then
+        assertThat(member.getEmail()).isEqualTo("sehun5515@naver.com");
+    }
+
+    @Test
+    @DisplayName("로그인 실패 - 비밀번호 불일치")
+    void authenticateFailedPasswordNotMatch() {
+        // given
+        memberService.createUserMember(CreateMemberDto.SignUp.builder()
+                .name("kim")
+                .email("sehun5515@naver.com")
+                .password("1234")
+                .phoneNumber("010-8631-8187")
+                .gender("Male")
+                .build());
+
+        // when
+        LoginException loginException = assertThrows(LoginException.class,
+                () -> memberService.authenticate(new CreateMemberDto.SignIn("sehun5515@naver.com", "4321")));
+
+        // then
+        assertThat(loginException.getErrorCode()).isEqualTo(ErrorCode.PASSWORD_NOT_MATCH);
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - 낮은 bcrypt cost 로 저장된 비밀번호는 현재 cost 로 재해시")
+    void authenticateRehashPassword() {
+        // given
+        String weakHash = new BCryptPasswordEncoder(4).encode("1234");
+        Member saved = memberRepository.save(Member.builder()
+                .name("kim")
+                .email("sehun5515@naver.com")
+                .password(weakHash)
+                .gender(Gender.MALE)
+                .roles(List.of("ROLE_USER"))
+                .phoneNumber("010-8631-8187")
+                .build());
+        em.flush();
+
+        // when
+        memberService.authenticate(new CreateMemberDto.SignIn("sehun5515@naver.com", "1234"));
+
+        // then
+        String storedPassword = em.createQuery("select m.password from Member m where m.id = :id", String.class)
+                .setParameter("id", saved.getId())
+                .getSingleResult();
+        assertThat(storedPassword).isNotEqualTo(weakHash);
+        assertThat(storedPassword).startsWith("$2a$10$");
+        assertThat(passwordEncoder.matches("1234", storedPassword)).isTrue();
+    }
+}
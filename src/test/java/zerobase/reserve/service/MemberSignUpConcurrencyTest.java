@@ -0,0 +1,91 @@
+package zerobase.reserve.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.reserve.dto.CreateMemberDto;
+import zerobase.reserve.exception.DuplicateException;
+import zerobase.reserve.exception.ErrorCode;
+import zerobase.reserve.repository.MemberRepository;
+import zerobase.reserve.support.Futures;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 동시 가입의 중복 판단은 이메일 유일 제약에 맡기므로, 각 가입이 실제로 커밋되어야 한다. 가입된 회원은 tearDown 에서 지운다.
+ */
+@SpringBootTest
+class MemberSignUpConcurrencyTest {
+
+    private static final int REQUEST_COUNT = 20;
+    private static final String EMAIL = "signup-race@naver.com";
+
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManager em;
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status ->
+                memberRepository.findByEmail(EMAIL).ifPresent(em::remove));
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 동시에 가입하면 한 건만 저장되고 나머지는 중복 이메일로 거절")
+    void createUserMemberConcurrently() {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(REQUEST_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<String>> tasks = new ArrayList<>();
+
+        for (int i = 0; i < REQUEST_COUNT; i++){
+            tasks.add(() -> {
+                start.await();
+
+                try {
+                    memberService.createUserMember(CreateMemberDto.SignUp.builder()
+                            .name("kim")
+                            .email(EMAIL)
+                            .password("1234")
+                            .phoneNumber("010-8631-8187")
+                            .gender("Male")
+                            .build());
+
+                    return "created";
+                } catch (DuplicateException e){
+                    return e.getErrorCode().name();
+                }
+            });
+        }
+
+        // when
+        List<Future<String>> futures = tasks.stream().map(executor::submit).collect(Collectors.toList());
+        start.countDown();
+
+        Map<String, Long> results = futures.stream()
+                .map(Futures::getUnchecked)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        executor.shutdown();
+
+        // then
+        assertThat(results.get("created")).isEqualTo(1);
+        assertThat(results.get(ErrorCode.DUPLICATE_EMAIL.name())).isEqualTo(REQUEST_COUNT - 1);
+    }
+}
@@ -0,0 +1,214 @@
+package zerobase.reserve.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.reserve.domain.*;
+import zerobase.reserve.dto.CreateReserveDto;
+import zerobase.reserve.exception.ErrorCode;
+import zerobase.reserve.exception.InvalidReserveException;
+import zerobase.reserve.repository.MemberRepository;
+import zerobase.reserve.repository.StoreRepository;
+import zerobase.reserve.security.MemberPrincipal;
+import zerobase.reserve.support.Futures;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static zerobase.reserve.support.Fixtures.member;
+
+/**
+ * 여러 트랜잭션이 동시에 커밋되는 상황을 검증하므로 테스트 트랜잭션을 사용하지 않고, 끝난 뒤 데이터를 지운다.
+ * 예약 트랜잭션은 시작할 때 커넥션을 잡으므로, 커넥션 풀 크기가 좌석 확보에 동시에 들어가는 요청 수를 제한하지 않도록 풀을 키운다.
+ * 풀 설정이 달라 컨텍스트를 따로 만드므로, 다른 테스트의 DB 스키마를 다시 만들지 않도록 DB 도 따로 쓴다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:booking;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=" + ReserveBookingConcurrencyTest.POOL_SIZE
+})
+class ReserveBookingConcurrencyTest {
+
+    private static final int CAPACITY = 5;
+    private static final int REQUEST_COUNT = 1000;
+    static final int POOL_SIZE = 200;
+    private static final String RESERVE_TIME = LocalDate.now().plusDays(1) + " 19:00:00";
+
+    @Autowired
+    private ReserveService reserveService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManager em;
+
+    private Long storeId;
+    private Long ownerId;
+    private MemberPrincipal user;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Member owner = memberRepository.save(member("booking-owner@naver.com", "ROLE_PARTNER"));
+            Member user = memberRepository.save(member("booking-user@naver.com", "ROLE_USER"));
+
+            Store store = storeRepository.save(
+                    Store.builder()
+                            .storeName("동시성식당")
+                            .address(new Address("경상남도", "김해시", "삼계로", "50898"))
+                            .description("예약이 몰리는 식당")
+                            .owner(owner)
+                            .capacity(CAPACITY)
+                            .slotMinutes(30)
+                            .build()
+            );
+
+            ownerId = owner.getId();
+            this.user = MemberPrincipal.fromEntity(user);
+            storeId = store.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.createQuery("delete from Reserve r where r.store.id = :storeId")
+                    .setParameter("storeId", storeId)
+                    .executeUpdate();
+            em.remove(em.find(StoreRating.class, storeId));
+            em.remove(em.find(StoreViewCount.class, storeId));
+            em.remove(em.find(Store.class, storeId));
+            em.remove(em.find(Member.class, ownerId));
+            em.remove(em.find(Member.class, user.getId()));
+        });
+    }
+
+    @Test
+    @DisplayName("같은 슬롯에 1000 건의 예약이 동시에 들어오면 수용 인원만큼만 저장되고 나머지는 거절")
+    void createReserveConcurrently() throws InterruptedException {
+        // given
+        // 요청마다 스레드를 두고 모든 스레드가 대기한 뒤에 한 번에 출발시킨다.
+        ExecutorService executor = Executors.newFixedThreadPool(REQUEST_COUNT);
+        CountDownLatch ready = new CountDownLatch(REQUEST_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<String>> tasks = new ArrayList<>();
+
+        for (int i = 0; i < REQUEST_COUNT; i++){
+            tasks.add(() -> {
+                ready.countDown();
+                start.await();
+
+                try {
+                    reserveService.createReserveFromStore(
+                            new CreateReserveDto.StoreRequest(RESERVE_TIME), storeId, user);
+
+                    return "admitted";
+                } catch (InvalidReserveException e){
+                    return e.getErrorCode().name();
+                }
+            });
+        }
+
+        // when
+        List<Future<String>> futures = tasks.stream().map(executor::submit).collect(Collectors.toList());
+        ready.await();
+        start.countDown();
+
+        Map<String, Long> results = futures.stream()
+                .map(Futures::getUnchecked)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        executor.shutdown();
+
+        // then
+        assertThat(results.get("admitted")).isEqualTo(CAPACITY);
+        assertThat(results.get(ErrorCode.RESERVE_SLOT_FULL.name())).isEqualTo(REQUEST_COUNT - CAPACITY);
+
+        List<Integer> seats = transactionTemplate.execute(status ->
+                em.createQuery("select r.seatNo from Reserve r where r.store.id = :storeId", Integer.class)
+                        .setParameter("storeId", storeId)
+                        .getResultList());
+        assertThat(seats).containsExactlyInAnyOrder(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("예약이 취소되면 좌석이 반납되어 같은 슬롯에 다시 예약 가능")
+    void cancelReleasesSeat() {
+        // given
+        Long firstReserveId = null;
+
+        for (int i = 0; i < CAPACITY; i++){
+            CreateReserveDto.Response reserve = reserveService.createReserveFromStore(
+                    new CreateReserveDto.StoreRequest(RESERVE_TIME), storeId, user);
+
+            if (firstReserveId == null) firstReserveId = reserve.getId();
+        }
+
+        InvalidReserveException full = catchThrowableOfType(() -> reserveService.createReserveFromStore(
+                new CreateReserveDto.StoreRequest(RESERVE_TIME), storeId, user),
+                InvalidReserveException.class);
+
+        // when
+        reserveService.cancelUserReserveFromUser(firstReserveId, "booking-user@naver.com");
+        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(
+                new CreateReserveDto.StoreRequest(RESERVE_TIME), storeId, user);
+
+        // then
+        assertThat(full.getErrorCode()).isEqualTo(ErrorCode.RESERVE_SLOT_FULL);
+        assertThat(reserve.getReserveStatus()).isEqualTo(ReserveStatus.VALID);
+        assertThat(reserve.getSeatNo()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("같은 예약에 취소 요청이 동시에 들어오면 하나만 성공하고 나머지는 이미 취소된 예약으로 거절")
+    void cancelReserveConcurrently() {
+        // given
+        Long reserveId = reserveService.createReserveFromStore(
+                new CreateReserveDto.StoreRequest(RESERVE_TIME), storeId, user).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<String>> tasks = new ArrayList<>();
+
+        for (int i = 0; i < 20; i++){
+            tasks.add(() -> {
+                start.await();
+
+                try {
+                    reserveService.cancelUserReserveFromUser(reserveId, "booking-user@naver.com");
+
+                    return "canceled";
+                } catch (InvalidReserveException e){
+                    return e.getErrorCode().name();
+                }
+            });
+        }
+
+        // when
+        List<Future<String>> futures = tasks.stream().map(executor::submit).collect(Collectors.toList());
+        start.countDown();
+
+        Map<String, Long> results = futures.stream()
+                .map(Futures::getUnchecked)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        executor.shutdown();
+
+        // then
+        assertThat(results.get("canceled")).isEqualTo(1);
+        assertThat(results.get(ErrorCode.RESERVE_CANCELED.name())).isEqualTo(19);
+    }
+}
@@ -13,11 +13,12 @@ import zerobase.reserve.exception.InvalidReserveException;
 import zerobase.reserve.exception.NotExistsException;
 import zerobase.reserve.exception.NotMatchException;
 import zerobase.reserve.repository.ReserveRepository;
+import zerobase.reserve.security.MemberPrincipal;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,6 +38,7 @@ class ReserveServiceTest {
     private ReserveRepository reserveRepository;
 
     DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    String tomorrow = LocalDate.now().plusDays(1).toString();
 
     @Test
     @DisplayName("가계를 거치지 않고 직접 예약 등록")
@@ -70,28 +72,28 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.Request requestReserveDto = CreateReserveDto.Request.builder()
-                .reserveTime("2023-07-02 19:30:00")
+                .reserveTime(tomorrow + " 19:30:00")
                 .storeName("참새정")
                 .build();
 
         //when
-        CreateReserveDto.Response reserve = reserveService.createReserve(requestReserveDto, userMember.getEmail());
+        CreateReserveDto.Response reserve = reserveService.createReserve(requestReserveDto, principal(userMember));
 
         //then
         assertThat(reserve.getReserveStatus()).isEqualTo(ReserveStatus.VALID);
         assertThat(reserve.getStoreName()).isEqualTo("참새정");
         assertThat(reserve.getMemberEmail()).isEqualTo("sehun8631@naver.com");
-        assertThat(reserve.getReserveDateTime()).isEqualTo(LocalDateTime.parse("2023-07-02 19:30:00", formatter));
+        assertThat(reserve.getReserveDateTime()).isEqualTo(LocalDateTime.parse(tomorrow + " 19:30:00", formatter));
     }
 
     @Test
-    @DisplayName("예약 직접 생성 실패 - 잘못된 회원 정보가 들어올 때")
-    void createReserveFailedMemberNotExists(){
-        // given
+    @DisplayName("예약 직접 생성 실패 - 존재하지 않는 가계에 예약")
+    void createReserveFailedStoreNotExists(){
+        //given
         MemberDto ownerMember = memberService.createPartnerMember(
                 CreateMemberDto.SignUp.builder()
                         .name("kim")
@@ -120,26 +122,62 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.Request requestReserveDto = CreateReserveDto.Request.builder()
-                .reserveTime("2023-07-02 19:30:00")
-                .storeName("참새정")
+                .reserveTime(tomorrow + " 19:30:00")
+                .storeName("까치정")
                 .build();
 
-        // when
+        // then
+        NotExistsException notExistsException = assertThrows(NotExistsException.class,
+                () -> reserveService.createReserve(requestReserveDto, principal(userMember)));
+        assertThat(notExistsException.getErrorCode()).isEqualTo(ErrorCode.STORE_NOT_EXISTS);
+    }
+
+    @Test
+    @DisplayName("예약 직접 생성 실패 - 인증 이후 탈퇴해 존재하지 않는 회원")
+    void createReserveFailedMemberNotExists(){
+        //given
+        MemberDto ownerMember = memberService.createPartnerMember(
+                CreateMemberDto.SignUp.builder()
+                        .name("kim")
+                        .email("sehun5515@naver.com")
+                        .password("1234")
+                        .gender("Male")
+                        .phoneNumber("010-0101-0101")
+                        .build()
+        );
+
+        storeService.createStore(
+                CreateStoreDto.Request.builder()
+                        .storeName("참새정")
+                        .legion("경상남도")
+                        .city("김해시")
+                        .street("삼계로")
+                        .zipcode("12345")
+                        .description("맛있는 밥집")
+                        .build(), principal(ownerMember)
+        );
+
+        MemberPrincipal withdrawn = MemberPrincipal.of(999_999L, "sehun8631@naver.com", "lee", List.of("ROLE_USER"));
+
+        CreateReserveDto.Request requestReserveDto = CreateReserveDto.Request.builder()
+                .reserveTime(tomorrow + " 19:30:00")
+                .storeName("참새정")
+                .build();
 
         // then
         NotExistsException notExistsException = assertThrows(NotExistsException.class,
-                () -> reserveService.createReserve(requestReserveDto, "sehun8631@kakao.com"));
+                () -> reserveService.createReserve(requestReserveDto, withdrawn));
         assertThat(notExistsException.getErrorCode()).isEqualTo(ErrorCode.MEMBER_NOT_EXISTS);
     }
 
     @Test
-    @DisplayName("예약 직접 생성 실패 - 존재하지 않는 가계에 예약")
-    void createReserveFailedStoreNotExists(){
-        //given
+    @DisplayName("예약 생성 실패 - 같은 슬롯의 좌석이 모두 찼을 때")
+    void createReserveFailedSlotFull(){
+        // given
         MemberDto ownerMember = memberService.createPartnerMember(
                 CreateMemberDto.SignUp.builder()
                         .name("kim")
@@ -168,18 +206,80 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .capacity(2)
+                        .slotMinutes(30)
+                        .build(), principal(ownerMember)
         );
 
-        CreateReserveDto.Request requestReserveDto = CreateReserveDto.Request.builder()
-                .reserveTime("2023-07-02 19:30:00")
-                .storeName("까치정")
-                .build();
+        // when
+        CreateReserveDto.Response first = reserveService.createReserveFromStore(
+                new CreateReserveDto.StoreRequest(tomorrow + " 19:00:00"), storeDto.getStoreId(), principal(userMember));
+        CreateReserveDto.Response second = reserveService.createReserveFromStore(
+                new CreateReserveDto.StoreRequest(tomorrow + " 19:20:00"), storeDto.getStoreId(), principal(userMember));
+        CreateReserveDto.Response nextSlot = reserveService.createReserveFromStore(
+                new CreateReserveDto.StoreRequest(tomorrow + " 19:30:00"), storeDto.getStoreId(), principal(userMember));
 
         // then
-        NotExistsException notExistsException = assertThrows(NotExistsException.class,
-                () -> reserveService.createReserve(requestReserveDto, "sehun8631@naver.com"));
-        assertThat(notExistsException.getErrorCode()).isEqualTo(ErrorCode.STORE_NOT_EXISTS);
+        assertThat(first.getSlotDateTime()).isEqualTo(LocalDateTime.parse(tomorrow + " 19:00:00", formatter));
+        assertThat(second.getSlotDateTime()).isEqualTo(LocalDateTime.parse(tomorrow + " 19:00:00", formatter));
+        assertThat(List.of(first.getSeatNo(), second.getSeatNo())).containsExactlyInAnyOrder(0, 1);
+        assertThat(nextSlot.getSeatNo()).isEqualTo(0);
+
+        InvalidReserveException invalidReserveException = assertThrows(InvalidReserveException.class,
+                () -> reserveService.createReserveFromStore(
+                        new CreateReserveDto.StoreRequest(tomorrow + " 19:29:59"), storeDto.getStoreId(), principal(userMember)));
+        assertThat(invalidReserveException.getErrorCode()).isEqualTo(ErrorCode.RESERVE_SLOT_FULL);
+    }
+
+    @Test
+    @DisplayName("예약 생성 실패 - 지난 시각이나 예약 가능 기간 밖의 시각")
+    void createReserveFailedTimeOutOfRange(){
+        // given
+        MemberDto ownerMember = memberService.createPartnerMember(
+                CreateMemberDto.SignUp.builder()
+                        .name("kim")
+                        .email("sehun5515@naver.com")
+                        .password("1234")
+                        .gender("Male")
+                        .phoneNumber("010-0101-0101")
+                        .build()
+        );
+
+        MemberDto userMember = memberService.createUserMember(
+                CreateMemberDto.SignUp.builder()
+                        .name("lee")
+                        .email("sehun8631@naver.com")
+                        .password("1234")
+                        .gender("Male")
+                        .phoneNumber("010-0101-0102")
+                        .build()
+        );
+
+        CreateStoreDto.Response storeDto = storeService.createStore(
+                CreateStoreDto.Request.builder()
+                        .storeName("참새정")
+                        .legion("경상남도")
+                        .city("김해시")
+                        .street("삼계로")
+                        .zipcode("12345")
+                        .description("맛있는 밥집")
+                        .build(), principal(ownerMember)
+        );
+
+        String past = LocalDateTime.now().minusMinutes(1).format(formatter);
+        String beyondHorizon = LocalDate.now().plusDays(61) + " 19:00:00";
+
+        // when
+        InvalidReserveException pastException = assertThrows(InvalidReserveException.class,
+                () -> reserveService.createReserveFromStore(
+                        new CreateReserveDto.StoreRequest(past), storeDto.getStoreId(), principal(userMember)));
+        InvalidReserveException beyondHorizonException = assertThrows(InvalidReserveException.class,
+                () -> reserveService.createReserve(
+                        new CreateReserveDto.Request(beyondHorizon, "참새정"), principal(userMember)));
+
+        // then
+        assertThat(pastException.getErrorCode()).isEqualTo(ErrorCode.RESERVE_TIME_OUT_OF_RANGE);
+        assertThat(beyondHorizonException.getErrorCode()).isEqualTo(ErrorCode.RESERVE_TIME_OUT_OF_RANGE);
     }
 
     @Test
@@ -214,21 +314,21 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 15:00:05")
+                .reserveTime(tomorrow + " 15:00:05")
                 .build();
 
         // when
-        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember.getEmail());
+        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember));
 
         //then
         assertThat(reserve.getReserveStatus()).isEqualTo(ReserveStatus.VALID);
         assertThat(reserve.getStoreName()).isEqualTo("참새정");
         assertThat(reserve.getMemberEmail()).isEqualTo("sehun8631@naver.com");
-        assertThat(reserve.getReserveDateTime()).isEqualTo(LocalDateTime.parse("2023-07-02 15:00:05", formatter));
+        assertThat(reserve.getReserveDateTime()).isEqualTo(LocalDateTime.parse(tomorrow + " 15:00:05", formatter));
     }
 
     @Test
@@ -273,7 +373,7 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateStoreDto.Response storeDto2 = storeService.createStore(
@@ -284,35 +384,35 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12355")
                         .description("맛있는 술집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 15:00:05")
+                .reserveTime(tomorrow + " 15:00:05")
                 .build();
 
         CreateReserveDto.StoreRequest requestDto2 = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 18:30:00")
+                .reserveTime(tomorrow + " 18:30:00")
                 .build();
 
         CreateReserveDto.Request requestDto3 = CreateReserveDto.Request.builder()
                 .storeName("참새정")
-                .reserveTime("2023-07-02 18:50:00")
+                .reserveTime(tomorrow + " 18:50:00")
                 .build();
         // when
-        CreateReserveDto.Response reserve1 = reserveService.createReserve(requestDto3, userMember2.getEmail());
-        CreateReserveDto.Response reserve2 = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember.getEmail());
-        CreateReserveDto.Response reserve3 = reserveService.createReserveFromStore(requestDto2, storeDto2.getStoreId(), userMember2.getEmail());
-
-        List<CreateReserveDto.Response> reserves = reserveRepository.findByStoreOwnerEmail(ownerMember.getEmail()).stream()
-                .map(CreateReserveDto.Response::fromEntity)
-                .collect(Collectors.toList());
-
-        // then
-        assertThat(reserves.size()).isEqualTo(3);
-        assertThat(reserves.get(0)).isEqualTo(reserve1);
-        assertThat(reserves.get(1)).isEqualTo(reserve2);
-        assertThat(reserves.get(2)).isEqualTo(reserve3);
+        CreateReserveDto.Response reserve1 = reserveService.createReserve(requestDto3, principal(userMember2));
+        CreateReserveDto.Response reserve2 = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember));
+        CreateReserveDto.Response reserve3 = reserveService.createReserveFromStore(requestDto2, storeDto2.getStoreId(), principal(userMember2));
+
+        List<ReserveDto> reserves = reserveRepository.findReserveDtoByStoreOwnerEmail(ownerMember.getEmail(), null, 10);
+
+        // then - 예약 시간 순
+        assertThat(reserves).extracting(ReserveDto::getId)
+                .containsExactly(reserve2.getId(), reserve3.getId(), reserve1.getId());
+        assertThat(reserves).extracting(ReserveDto::getMemberEmail)
+                .containsExactly(userMember.getEmail(), userMember2.getEmail(), userMember2.getEmail());
+        assertThat(reserves).extracting(ReserveDto::getStoreName)
+                .containsExactly("참새정", "까치정", "참새정");
     }
 
     @Test
@@ -347,16 +447,16 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 15:00:05")
+                .reserveTime(tomorrow + " 15:00:05")
                 .build();
 
 
 
-        CreateReserveDto.Response reserve1 = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember.getEmail());
+        CreateReserveDto.Response reserve1 = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember));
 
         // when
         ReserveDto findReserve = reserveService.getOwnerReserveInfo(reserve1.getId(), ownerMember.getEmail());
@@ -364,7 +464,7 @@ class ReserveServiceTest {
         // then
         assertThat(findReserve.getStoreName()).isEqualTo("참새정");
         assertThat(findReserve.getReserveStatus()).isEqualTo(ReserveStatus.VALID);
-        assertThat(findReserve.getReserveDateTime()).isEqualTo(LocalDateTime.parse("2023-07-02 15:00:05", formatter));
+        assertThat(findReserve.getReserveDateTime()).isEqualTo(LocalDateTime.parse(tomorrow + " 15:00:05", formatter));
         assertThat(findReserve.getMemberEmail()).isEqualTo("sehun8631@naver.com");
     }
 
@@ -410,7 +510,7 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateStoreDto.Response storeDto2 = storeService.createStore(
@@ -421,19 +521,19 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember2.getEmail()
+                        .build(), principal(ownerMember2)
         );
 
         CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 15:00:05")
+                .reserveTime(tomorrow + " 15:00:05")
                 .build();
 
         CreateReserveDto.StoreRequest requestDto2 = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 15:00:05")
+                .reserveTime(tomorrow + " 15:00:05")
                 .build();
 
-        CreateReserveDto.Response reserve1 = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember.getEmail());
-        CreateReserveDto.Response reserve2 = reserveService.createReserveFromStore(requestDto2, storeDto2.getStoreId(), userMember.getEmail());
+        CreateReserveDto.Response reserve1 = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember));
+        CreateReserveDto.Response reserve2 = reserveService.createReserveFromStore(requestDto2, storeDto2.getStoreId(), principal(userMember));
 
         // when
 
@@ -476,14 +576,14 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 15:00:05")
+                .reserveTime(tomorrow + " 15:00:05")
                 .build();
 
-        reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember.getEmail());
+        reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember));
 
         // when
 
@@ -525,14 +625,14 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 15:00:05")
+                .reserveTime(tomorrow + " 15:00:05")
                 .build();
 
-        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember.getEmail());
+        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember));
 
         // when
         reserveService.cancelUserReserveFromOwner(reserve.getId(), ownerMember.getEmail());
@@ -542,7 +642,7 @@ class ReserveServiceTest {
         assertThat(canceledReserve.getStoreName()).isEqualTo(reserve.getStoreName());
         assertThat(canceledReserve.getReserveStatus()).isEqualTo(ReserveStatus.CANCEL);
         assertThat(canceledReserve.getMemberEmail()).isEqualTo(reserve.getMemberEmail());
-        assertThat(canceledReserve.getReserveDateTime()).isEqualTo(LocalDateTime.parse("2023-07-02 15:00:05", formatter));
+        assertThat(canceledReserve.getReserveDateTime()).isEqualTo(LocalDateTime.parse(tomorrow + " 15:00:05", formatter));
     }
 
     @Test
@@ -586,7 +686,7 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateStoreDto.Response storeDto2 = storeService.createStore(
@@ -597,18 +697,18 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember2.getEmail()
+                        .build(), principal(ownerMember2)
         );
 
         CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 15:00:05")
+                .reserveTime(tomorrow + " 15:00:05")
                 .build();
 
         CreateReserveDto.StoreRequest requestDto2 = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 15:00:05")
+                .reserveTime(tomorrow + " 15:00:05")
                 .build();
 
-        CreateReserveDto.Response reserve1 = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember.getEmail());
+        CreateReserveDto.Response reserve1 = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember));
 
         // when
 
@@ -650,14 +750,14 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 15:00:05")
+                .reserveTime(tomorrow + " 15:00:05")
                 .build();
 
-        reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember.getEmail());
+        reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember));
 
         // when
 
@@ -699,7 +799,7 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateStoreDto.Response storeDto2 = storeService.createStore(
@@ -710,29 +810,27 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12355")
                         .description("맛있는 술집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 18:00:05")
+                .reserveTime(tomorrow + " 18:00:05")
                 .build();
 
         CreateReserveDto.StoreRequest requestDto2 = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 22:00:05")
+                .reserveTime(tomorrow + " 22:00:05")
                 .build();
 
-        CreateReserveDto.Response reserve1 = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember.getEmail());
-        CreateReserveDto.Response reserve2 = reserveService.createReserveFromStore(requestDto2, storeDto2.getStoreId(), userMember.getEmail());
+        CreateReserveDto.Response reserve1 = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember));
+        CreateReserveDto.Response reserve2 = reserveService.createReserveFromStore(requestDto2, storeDto2.getStoreId(), principal(userMember));
 
         // when
-        List<CreateReserveDto.Response> result = reserveRepository.findByMemberEmail(userMember.getEmail()).stream()
-                .map(CreateReserveDto.Response::fromEntity)
-                .collect(Collectors.toList());
+        List<ReserveDto> result = reserveRepository.findReserveDtoByMemberEmail(userMember.getEmail(), null, 10);
 
-        // then
-        assertThat(result.size()).isEqualTo(2);
-        assertThat(result.get(0)).isEqualTo(reserve1);
-        assertThat(result.get(1)).isEqualTo(reserve2);
+        // then - 예약 시간 순
+        assertThat(result).extracting(ReserveDto::getId).containsExactly(reserve1.getId(), reserve2.getId());
+        assertThat(result).extracting(ReserveDto::getStoreName)
+                .containsExactly(reserve1.getStoreName(), reserve2.getStoreName());
     }
 
     @Test
@@ -767,14 +865,14 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 15:00:05")
+                .reserveTime(tomorrow + " 15:00:05")
                 .build();
 
-        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember.getEmail());
+        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember));
 
         // when
         ReserveDto result = reserveService.getReserveFromUser(reserve.getId(), userMember.getEmail());
@@ -783,7 +881,7 @@ class ReserveServiceTest {
         assertThat(result.getReserveStatus()).isEqualTo(ReserveStatus.VALID);
         assertThat(result.getMemberEmail()).isEqualTo("sehun8631@naver.com");
         assertThat(result.getStoreName()).isEqualTo("참새정");
-        assertThat(result.getReserveDateTime()).isEqualTo(LocalDateTime.parse("2023-07-02 15:00:05", formatter));
+        assertThat(result.getReserveDateTime()).isEqualTo(LocalDateTime.parse(tomorrow + " 15:00:05", formatter));
     }
 
     @Test
@@ -828,14 +926,14 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 15:00:05")
+                .reserveTime(tomorrow + " 15:00:05")
                 .build();
 
-        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember2.getEmail());
+        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember2));
         // when
 
         // then
@@ -876,14 +974,14 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 15:00:05")
+                .reserveTime(tomorrow + " 15:00:05")
                 .build();
 
-        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember.getEmail());
+        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember));
         // when
 
         // then
@@ -924,14 +1022,14 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 15:00:05")
+                .reserveTime(tomorrow + " 15:00:05")
                 .build();
 
-        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember.getEmail());
+        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember));
 
         // when
         ReserveDto reserveDto = reserveService.cancelUserReserveFromUser(reserve.getId(), userMember.getEmail());
@@ -942,6 +1040,57 @@ class ReserveServiceTest {
         assertThat(reserveDto.getStoreName()).isEqualTo("참새정");
     }
 
+    @Test
+    @DisplayName("유저 자신이 진행한 예약 취소 실패 - 이미 취소된 예약 재취소")
+    void cancelUserReserveFromUserFailedAlreadyCanceled() {
+        // given
+        MemberDto ownerMember = memberService.createPartnerMember(
+                CreateMemberDto.SignUp.builder()
+                        .name("kim")
+                        .email("sehun5515@naver.com")
+                        .password("1234")
+                        .gender("Male")
+                        .phoneNumber("010-0101-0101")
+                        .build()
+        );
+
+        MemberDto userMember = memberService.createUserMember(
+                CreateMemberDto.SignUp.builder()
+                        .name("lee")
+                        .email("sehun8631@naver.com")
+                        .password("1234")
+                        .gender("Male")
+                        .phoneNumber("010-0101-0102")
+                        .build()
+        );
+
+        CreateStoreDto.Response storeDto = storeService.createStore(
+                CreateStoreDto.Request.builder()
+                        .storeName("참새정")
+                        .legion("경상남도")
+                        .city("김해시")
+                        .street("삼계로")
+                        .zipcode("12345")
+                        .description("맛있는 밥집")
+                        .build(), principal(ownerMember)
+        );
+
+        CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
+                .reserveTime(tomorrow + " 15:00:05")
+                .build();
+
+        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember));
+        reserveService.cancelUserReserveFromUser(reserve.getId(), userMember.getEmail());
+
+        // when
+
+        // then
+        InvalidReserveException invalidReserveException = assertThrows(InvalidReserveException.class,
+                () -> reserveService.cancelUserReserveFromUser(reserve.getId(), userMember.getEmail()));
+        assertThat(invalidReserveException.getErrorCode()).isEqualTo(ErrorCode.RESERVE_CANCELED);
+        assertThat(reserveRepository.findById(reserve.getId()).get().getReserveStatus()).isEqualTo(ReserveStatus.CANCEL);
+    }
+
     @Test
     @DisplayName("유저 자신이 진행한 예약 취소 실패 - 타 유저의 예약 취소 시도")
     void cancelUserReserveFromUserFailedIllegalReserveAccess(){
@@ -984,14 +1133,14 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 15:00:05")
+                .reserveTime(tomorrow + " 15:00:05")
                 .build();
 
-        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember2.getEmail());
+        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember2));
 
         // when
 
@@ -1033,14 +1182,14 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 15:00:05")
+                .reserveTime(tomorrow + " 15:00:05")
                 .build();
 
-        reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember.getEmail());
+        reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember));
 
         // when
 
@@ -1082,7 +1231,7 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         String reserveTime = LocalDateTime.now().plusMinutes(15).format(formatter);
@@ -1093,7 +1242,7 @@ class ReserveServiceTest {
                 .reserveTime(reserveTime)
                 .build();
 
-        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember.getEmail());
+        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember));
 
         // when
         ReserveDto reserveDto = reserveService.arriveCheck(reserve.getId(), userMember.getEmail());
@@ -1137,14 +1286,14 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 19:10:00")
+                .reserveTime(LocalDateTime.now().plusMinutes(5).format(formatter))
                 .build();
 
-        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember.getEmail());
+        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember));
 
         // when
 
@@ -1186,14 +1335,14 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 19:40:00")
+                .reserveTime(tomorrow + " 19:40:00")
                 .build();
 
-        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember.getEmail());
+        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember));
 
         // when
         reserveService.cancelUserReserveFromUser(reserve.getId(), userMember.getEmail());
@@ -1246,14 +1395,14 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 15:00:05")
+                .reserveTime(tomorrow + " 15:00:05")
                 .build();
 
-        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember2.getEmail());
+        CreateReserveDto.Response reserve = reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember2));
 
         // when
 
@@ -1295,14 +1444,14 @@ class ReserveServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.StoreRequest requestDto = CreateReserveDto.StoreRequest.builder()
-                .reserveTime("2023-07-02 15:00:05")
+                .reserveTime(tomorrow + " 15:00:05")
                 .build();
 
-        reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), userMember.getEmail());
+        reserveService.createReserveFromStore(requestDto, storeDto.getStoreId(), principal(userMember));
 
         // when
 
@@ -1311,4 +1460,8 @@ class ReserveServiceTest {
                 () -> reserveService.arriveCheck(10L, userMember.getEmail()));
         assertThat(notExistsException.getErrorCode()).isEqualTo(ErrorCode.RESERVE_NOT_EXISTS);
     }
-}
\ No newline at end of file
+
+    private static MemberPrincipal principal(MemberDto member) {
+        return MemberPrincipal.of(member.getId(), member.getEmail(), member.getName(), member.getRoles());
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.transaction.annotation.Transactional;
 import zerobase.reserve.domain.Reserve;
 import zerobase.reserve.domain.ReserveStatus;
 import zerobase.reserve.domain.Review;
+import zerobase.reserve.domain.StoreRating;
 import zerobase.reserve.dto.*;
 import zerobase.reserve.exception.ErrorCode;
 import zerobase.reserve.exception.InvalidReviewException;
@@ -16,7 +17,10 @@ import zerobase.reserve.exception.NotExistsException;
 import zerobase.reserve.exception.NotMatchException;
 import zerobase.reserve.repository.ReserveRepository;
 import zerobase.reserve.repository.ReviewRepository;
+import zerobase.reserve.repository.StoreRepository;
+import zerobase.reserve.security.MemberPrincipal;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -40,6 +44,10 @@ class ReviewServiceTest {
     private ReviewRepository reviewRepository;
     @Autowired
     private ReserveRepository reserveRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private EntityManager em;
 
     DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
@@ -75,13 +83,13 @@ class ReviewServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.Response reserve = reserveService.createReserveFromStore(
                 CreateReserveDto.StoreRequest.builder()
                         .reserveTime(LocalDateTime.now().plusMinutes(15).format(formatter))
-                        .build(), storeDto.getStoreId(), userMember.getEmail()
+                        .build(), storeDto.getStoreId(), principal(userMember)
         );
 
         ReserveDto reserveDto = reserveService.arriveCheck(reserve.getId(), userMember.getEmail());
@@ -101,12 +109,20 @@ class ReviewServiceTest {
         Reserve findReserve = reserveRepository.findById(reserveDto.getId())
                 .orElseThrow(() -> new NotExistsException(ErrorCode.RESERVE_NOT_EXISTS));
 
+        em.clear();
+        StoreRating rating = storeRepository.findRating(storeDto.getStoreId())
+                .orElseThrow(() -> new NotExistsException(ErrorCode.STORE_NOT_EXISTS));
+
         // then
         assertThat(findReview.getRating()).isEqualTo(4);
         assertThat(findReview.getReviewContent()).isEqualTo("맛있는 밥집이었습니다.");
         assertThat(findReview.getStore().getStoreName()).isEqualTo("참새정");
         assertThat(findReview.getMember().getEmail()).isEqualTo("sehun8631@naver.com");
         assertThat(findReserve.getReserveStatus()).isEqualTo(ReserveStatus.REVIEWED);
+        assertThat(rating.getRatingSum()).isEqualTo(4);
+        assertThat(rating.getRatingCount()).isEqualTo(1);
+        assertThat(rating.getRatingAverage()).isEqualTo(4.0);
+        assertThat(rating.getHistogram()).containsExactly(0L, 0L, 0L, 0L, 1L, 0L);
     }
 
     @Test
@@ -141,13 +157,13 @@ class ReviewServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.Response reserve = reserveService.createReserveFromStore(
                 CreateReserveDto.StoreRequest.builder()
                         .reserveTime(LocalDateTime.now().plusMinutes(15).format(formatter))
-                        .build(), storeDto.getStoreId(), userMember.getEmail()
+                        .build(), storeDto.getStoreId(), principal(userMember)
         );
 
         CreateReviewDto.Request reviewRequest = CreateReviewDto.Request.builder()
@@ -193,13 +209,13 @@ class ReviewServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), ownerMember.getEmail()
+                        .build(), principal(ownerMember)
         );
 
         CreateReserveDto.Response reserve = reserveService.createReserveFromStore(
                 CreateReserveDto.StoreRequest.builder()
                         .reserveTime(LocalDateTime.now().plusMinutes(15).format(formatter))
-                        .build(), storeDto.getStoreId(), userMember.getEmail()
+                        .build(), storeDto.getStoreId(), principal(userMember)
         );
 
         reserveService.arriveCheck(reserve.getId(), userMember.getEmail());
@@ -221,4 +237,8 @@ class ReviewServiceTest {
                 () -> reviewService.createReview(reviewRequest2, reserve.getId(), userMember.getEmail()));
         assertThat(invalidReviewException.getErrorCode()).isEqualTo(ErrorCode.ALREADY_REVIEWED);
     }
-}
\ No newline at end of file
+
+    private static MemberPrincipal principal(MemberDto member) {
+        return MemberPrincipal.of(member.getId(), member.getEmail(), member.getName(), member.getRoles());
+    }
+}
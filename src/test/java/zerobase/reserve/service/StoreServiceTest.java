@@ -12,13 +12,22 @@ import zerobase.reserve.domain.Gender;
 import zerobase.reserve.domain.Member;
 import zerobase.reserve.domain.Store;
 import zerobase.reserve.dto.CreateStoreDto;
+import zerobase.reserve.dto.CursorPage;
+import zerobase.reserve.dto.PageCursor;
+import zerobase.reserve.dto.StoreDto;
+import zerobase.reserve.dto.StoreSearchCond;
 import zerobase.reserve.exception.DuplicateException;
 import zerobase.reserve.exception.ErrorCode;
+import zerobase.reserve.exception.InvalidRequestException;
 import zerobase.reserve.exception.NotExistsException;
 import zerobase.reserve.repository.MemberRepository;
 import zerobase.reserve.repository.StoreRepository;
+import zerobase.reserve.search.StoreDocument;
+import zerobase.reserve.search.StoreSearchIndex;
+import zerobase.reserve.security.MemberPrincipal;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,6 +43,8 @@ class StoreServiceTest {
     private MemberRepository memberRepository;
     @Autowired
     private StoreRepository storeRepository;
+    @Autowired
+    private StoreSearchIndex storeSearchIndex;
 
     @Test
     @DisplayName("상점 추가 성공")
@@ -58,7 +69,7 @@ class StoreServiceTest {
                         .street("삼계로")
                         .zipcode("12345")
                         .description("맛있는 밥집")
-                        .build(), owner.getEmail()
+                        .build(), principal(owner)
         );
 
         // when
@@ -68,11 +79,70 @@ class StoreServiceTest {
         // then
         assertThat(resultStore.getStoreName()).isEqualTo(store.getStoreName());
         assertThat(resultStore.getOwner()).isEqualTo(owner);
+        assertThat(store.getOwner()).isEqualTo("kim");
         assertThat(resultStore.getAddress().getCity()).isEqualTo(store.getCity());
         assertThat(resultStore.getAddress().getLegion()).isEqualTo(store.getLegion());
         assertThat(resultStore.getAddress().getStreet()).isEqualTo(store.getStreet());
         assertThat(resultStore.getAddress().getZipcode()).isEqualTo(store.getZipcode());
         assertThat(resultStore.getDescription()).isEqualTo(store.getDescription());
+        assertThat(resultStore.getCapacity()).isEqualTo(Store.DEFAULT_CAPACITY);
+        assertThat(resultStore.getSlotMinutes()).isEqualTo(Store.DEFAULT_SLOT_MINUTES);
+    }
+
+    @Test
+    @DisplayName("상점 추가 실패 - 하루를 나누어 떨어지게 하지 않는 슬롯 길이")
+    void createStoreFailedInvalidSlotMinutes(){
+        //given
+        Member owner = memberRepository.save(
+                Member.builder()
+                        .name("kim")
+                        .email("sehun5515@naver.com")
+                        .password("1234")
+                        .phoneNumber("010-0101-0101")
+                        .roles(Arrays.asList("ROLE_PARTNER", "ROLE_USER"))
+                        .gender(Gender.MALE)
+                        .build()
+        );
+
+        CreateStoreDto.Request store = CreateStoreDto.Request.builder()
+                .storeName("참새정")
+                .city("김해시")
+                .legion("경상남도")
+                .street("삼계로")
+                .zipcode("12345")
+                .description("맛있는 밥집")
+                .slotMinutes(7)
+                .build();
+
+        //when
+        InvalidRequestException invalidRequestException = assertThrows(InvalidRequestException.class,
+                () -> storeService.createStore(store, principal(owner)));
+
+        //then
+        assertThat(invalidRequestException.getErrorCode()).isEqualTo(ErrorCode.INVALID_SLOT_MINUTES);
+    }
+
+    @Test
+    @DisplayName("상점 추가 실패 - 인증 이후 탈퇴해 존재하지 않는 회원")
+    void createStoreFailedMemberNotExists(){
+        //given
+        MemberPrincipal withdrawn = MemberPrincipal.of(999_999L, "sehun5515@naver.com", "kim", List.of("ROLE_PARTNER", "ROLE_USER"));
+
+        CreateStoreDto.Request store = CreateStoreDto.Request.builder()
+                .storeName("참새정")
+                .city("김해시")
+                .legion("경상남도")
+                .street("삼계로")
+                .zipcode("12345")
+                .description("맛있는 밥집")
+                .build();
+
+        //when
+        NotExistsException notExistsException = assertThrows(NotExistsException.class,
+                () -> storeService.createStore(store, withdrawn));
+
+        //then
+        assertThat(notExistsException.getErrorCode()).isEqualTo(ErrorCode.MEMBER_NOT_EXISTS);
     }
 
     @Test
@@ -120,11 +190,108 @@ class StoreServiceTest {
                 .build();
 
         //when
-        storeService.createStore(store1, owner1.getEmail());
+        storeService.createStore(store1, principal(owner1));
         DuplicateException duplicateException = assertThrows(DuplicateException.class,
-                () -> storeService.createStore(store2, owner2.getEmail()));
+                () -> storeService.createStore(store2, principal(owner2)));
 
         //then
         assertThat(duplicateException.getErrorCode()).isEqualTo(ErrorCode.DUPLICATE_STORE_NAME);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("매장 검색 - 검색 색인 점수 순으로 커서 페이지 조회")
+    void getStoreListWithKeyword() {
+        // given
+        Member owner = memberRepository.save(
+                Member.builder()
+                        .name("kim")
+                        .email("sehun5515@naver.com")
+                        .password("1234")
+                        .phoneNumber("010-0101-0101")
+                        .roles(Arrays.asList("ROLE_PARTNER", "ROLE_USER"))
+                        .gender(Gender.MALE)
+                        .build()
+        );
+
+        Store descriptionMatched = saveAndIndex(owner, "참새정", "검색용 색인 식당");
+        Store nameContained = saveAndIndex(owner, "옛날 검색용식당", "밥집");
+        Store namePrefixed = saveAndIndex(owner, "검색용 식당", "밥집");
+        saveAndIndex(owner, "까치정", "술집");
+
+        // when
+        CursorPage<StoreDto> firstPage = storeService.getStoreList(new StoreSearchCond("검색용"), null, 2);
+        CursorPage<StoreDto> secondPage = storeService.getStoreList(new StoreSearchCond("검색용"),
+                PageCursor.decode(firstPage.getNextCursor()), 2);
+
+        // then
+        assertThat(firstPage.getContent()).extracting(StoreDto::getStoreId)
+                .containsExactly(namePrefixed.getId(), nameContained.getId());
+        assertThat(firstPage.getContent().get(0).getOwnerName()).isEqualTo("kim");
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(secondPage.getContent()).extracting(StoreDto::getStoreId)
+                .containsExactly(descriptionMatched.getId());
+        assertThat(secondPage.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("매장 목록 - 평균 평점 내림차순 커서 페이지 조회, 평점이 같으면 매장 id 내림차순")
+    void getStoreListOrderByRating() {
+        // given
+        Member owner = memberRepository.save(
+                Member.builder()
+                        .name("kim")
+                        .email("sehun5515@naver.com")
+                        .password("1234")
+                        .phoneNumber("010-0101-0101")
+                        .roles(Arrays.asList("ROLE_PARTNER", "ROLE_USER"))
+                        .gender(Gender.MALE)
+                        .build()
+        );
+
+        Store low = saveAndIndex(owner, "참새정", "밥집");
+        Store high = saveAndIndex(owner, "까치정", "밥집");
+        Store highSecond = saveAndIndex(owner, "제비정", "밥집");
+        Store noReview = saveAndIndex(owner, "비둘기정", "밥집");
+
+        storeRepository.addRating(low.getId(), 2);
+        storeRepository.addRating(high.getId(), 5);
+        storeRepository.addRating(high.getId(), 4);
+        storeRepository.addRating(highSecond.getId(), 4);
+        storeRepository.addRating(highSecond.getId(), 5);
+
+        StoreSearchCond cond = StoreSearchCond.builder().sort(StoreSearchCond.SORT_RATING).build();
+
+        // when
+        CursorPage<StoreDto> firstPage = storeService.getStoreList(cond, null, 2);
+        CursorPage<StoreDto> secondPage = storeService.getStoreList(cond, PageCursor.decode(firstPage.getNextCursor()), 2);
+
+        // then
+        assertThat(firstPage.getContent()).extracting(StoreDto::getStoreId)
+                .containsExactly(highSecond.getId(), high.getId());
+        assertThat(firstPage.getContent().get(0).getRatingAverage()).isEqualTo(4.5);
+        assertThat(firstPage.getContent().get(0).getRatingCount()).isEqualTo(2);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(secondPage.getContent()).extracting(StoreDto::getStoreId)
+                .containsExactly(low.getId(), noReview.getId());
+        assertThat(secondPage.getContent().get(1).getRatingCount()).isZero();
+    }
+
+    private Store saveAndIndex(Member owner, String storeName, String description){
+        Store store = storeRepository.save(
+                Store.builder()
+                        .storeName(storeName)
+                        .address(new Address("경상남도", "김해시", "삼계로", "12345"))
+                        .description(description)
+                        .owner(owner)
+                        .build()
+        );
+
+        storeSearchIndex.add(new StoreDocument(store.getId(), storeName, description));
+
+        return store;
+    }
+
+    private static MemberPrincipal principal(Member member) {
+        return MemberPrincipal.fromEntity(member);
+    }
+}
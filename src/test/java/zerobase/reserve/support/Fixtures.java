@@ -0,0 +1,44 @@
+package zerobase.reserve.support;
+
+import zerobase.reserve.domain.Gender;
+import zerobase.reserve.domain.Member;
+
+import java.util.List;
+
+/**
+ * 여러 테스트에서 같이 쓰는 엔티티 생성기
+ * 테스트마다 다른 값만 인자로 받고 나머지는 고정 값으로 채운다.
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * @param email 회원 이메일 (유일해야 하므로 테스트마다 다르게 준다.)
+     * @param roles 회원 권한, 생략하면 권한 없음
+     */
+    public static Member member(String email, String... roles) {
+        return Member.builder()
+                .name("kim")
+                .email(email)
+                .password("1234")
+                .gender(Gender.MALE)
+                .roles(List.of(roles))
+                .phoneNumber("010-0101-0101")
+                .build();
+    }
+
+    /**
+     * 저장하지 않고 토큰 발급에만 쓰는 점주 회원
+     * @param id 토큰에 담길 회원 id
+     */
+    public static Member member(Long id) {
+        return Member.builder()
+                .id(id)
+                .name("kim")
+                .email("sehun5515@naver.com")
+                .roles(List.of("ROLE_PARTNER", "ROLE_USER"))
+                .build();
+    }
+}
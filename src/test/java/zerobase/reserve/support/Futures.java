@@ -0,0 +1,27 @@
+package zerobase.reserve.support;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * 동시성 테스트에서 작업 결과를 모으는 도구
+ */
+public final class Futures {
+
+    private Futures() {
+    }
+
+    /**
+     * 작업이 끝날 때까지 기다려 결과를 돌려준다. 작업이 던진 예외는 IllegalStateException 으로 감싸 테스트를 실패시킨다.
+     */
+    public static <T> T getUnchecked(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e){
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
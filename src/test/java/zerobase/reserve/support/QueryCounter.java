@@ -0,0 +1,39 @@
+package zerobase.reserve.support;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * 테스트용 SQL 실행 횟수 측정기
+ * hibernate.generate_statistics 가 켜져 있어야 하며 (test application.yml) 측정 구간 전에 reset 을 호출한다.
+ */
+@Component
+public class QueryCounter {
+
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public void reset(){
+        statistics.clear();
+    }
+
+    /**
+     * reset 이후 실행된 SQL 문 수
+     */
+    public long count(){
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * reset 이후 DB 에서 읽어 온 해당 엔티티 수 (프록시 초기화 포함)
+     */
+    public long loadCount(Class<?> entityClass){
+        return statistics.getEntityStatistics(entityClass.getName()).getLoadCount();
+    }
+}
@@ -0,0 +1,32 @@
+package zerobase.reserve.trending;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CountMinSketchTest {
+
+    @Test
+    @DisplayName("추정값은 실제 빈도보다 작지 않고, 넓이가 충분하면 거의 정확")
+    void estimateNeverUnderCounts() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+
+        // when
+        for (long key = 1; key <= 200; key++){
+            sketch.add(key, key);
+        }
+
+        // then
+        long overCounted = 0;
+
+        for (long key = 1; key <= 200; key++){
+            assertThat(sketch.estimate(key)).isGreaterThanOrEqualTo(key);
+            overCounted += sketch.estimate(key) - key;
+        }
+
+        assertThat(overCounted).isLessThan(200);
+        assertThat(sketch.estimate(10_000L)).isLessThan(100);
+    }
+}
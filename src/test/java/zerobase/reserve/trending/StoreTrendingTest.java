@@ -0,0 +1,74 @@
+package zerobase.reserve.trending;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StoreTrendingTest {
+
+    private static final long MINUTE = 60_000;
+
+    private StoreTrending trending;
+
+    @BeforeEach
+    void setUp() {
+        // 10분 window, 5분 구간 2개, 후보 3개, 예약 가중치 5
+        trending = new StoreTrending(Duration.ofMinutes(10), 2, 256, 4, 3, 1, 5);
+    }
+
+    @Test
+    @DisplayName("조회, 예약 가중 빈도 순으로 인기 급상승 매장 조회")
+    void trendingByWeightedCount() {
+        // given
+        record(1L, 1, 3, 0);
+        record(2L, 5, 3, 0);
+        trending.record(3L, 5, 0);
+
+        // when, then
+        assertThat(trending.trending(10, 0)).extracting(TrendingStore::getStoreId).containsExactly(2L, 3L, 1L);
+        assertThat(trending.trending(1, 0).get(0).getScore()).isEqualTo(15L);
+    }
+
+    @Test
+    @DisplayName("후보 목록이 가득 차면 가장 작은 후보보다 많이 기록된 매장만 들어감")
+    void keepHeavyHitters() {
+        // given
+        record(1L, 1, 10, 0);
+        record(2L, 1, 9, 0);
+        record(3L, 1, 8, 0);
+
+        // when
+        record(4L, 1, 2, 0);
+        record(5L, 1, 12, 0);
+
+        // then
+        assertThat(trending.trending(10, 0)).extracting(TrendingStore::getStoreId).containsExactly(5L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("window 를 벗어난 구간의 기록은 빠지고, 기록이 모두 빠진 후보는 제외")
+    void slidingWindow() {
+        // given
+        record(1L, 1, 10, 0);
+        record(2L, 1, 3, 6 * MINUTE);
+
+        // when
+        long stillInWindow = trending.estimate(1L, 9 * MINUTE);
+        record(3L, 1, 1, 11 * MINUTE);
+
+        // then
+        assertThat(stillInWindow).isEqualTo(10L);
+        assertThat(trending.estimate(1L, 11 * MINUTE)).isZero();
+        assertThat(trending.trending(10, 11 * MINUTE)).extracting(TrendingStore::getStoreId).containsExactly(2L, 3L);
+    }
+
+    private void record(Long storeId, long weight, int times, long now) {
+        for (int i = 0; i < times; i++){
+            trending.record(storeId, weight, now);
+        }
+    }
+}